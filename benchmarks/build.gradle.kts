@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+    id("com.diffplug.spotless") version "6.22.0"
+}
+
+java {
+    targetCompatibility = JavaVersion.VERSION_11
+    sourceCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    jmh(project(":java-client"))
+    jmh("com.fasterxml.jackson.core", "jackson-databind", "2.15.2")
+    jmh("jakarta.json.bind", "jakarta.json.bind-api", "2.0.0")
+    jmh("software.amazon.awssdk", "sdk-core", "[2.15,3.0)")
+    jmh("software.amazon.awssdk", "auth", "[2.15,3.0)")
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // Select benchmarks with -Pjmh.includes=<regex>
+    if (project.hasProperty("jmh.includes")) {
+        includes.set(listOf(project.property("jmh.includes").toString()))
+    }
+    // Add profilers with -Pjmh.profilers=<name>[,<name>...], e.g. "gc" to report allocation rates
+    if (project.hasProperty("jmh.profilers")) {
+        profilers.set(project.property("jmh.profilers").toString().split(","))
+    }
+    resultFormat.set("JSON")
+}
+
+spotless {
+  java {
+
+    target("**/*.java")
+
+    // Use the default importOrder configuration
+    importOrder()
+    removeUnusedImports()
+
+    eclipse().configFile("../buildSrc/formatterConfig.xml")
+
+    trimTrailingWhitespace()
+    endWithNewline()
+  }
+}
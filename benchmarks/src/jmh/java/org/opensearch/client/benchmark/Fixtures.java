@@ -0,0 +1,331 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+
+/**
+ * Response bodies shaped like the ones returned by a cluster, generated so that their size can be changed.
+ */
+public final class Fixtures {
+
+    // Default columns of the cat indices API, plus some of the statistics it returns with h=*
+    private static final String[] CAT_INDICES_COLUMNS = {
+        "health",
+        "status",
+        "index",
+        "uuid",
+        "pri",
+        "rep",
+        "docs.count",
+        "docs.deleted",
+        "store.size",
+        "pri.store.size",
+        "creation.date",
+        "creation.date.string",
+        "completion.size",
+        "fielddata.memory_size",
+        "fielddata.evictions",
+        "query_cache.memory_size",
+        "query_cache.evictions",
+        "flush.total",
+        "flush.total_time",
+        "get.current",
+        "get.time",
+        "get.total",
+        "indexing.delete_time",
+        "indexing.index_time",
+        "indexing.index_total",
+        "merges.current",
+        "merges.current_docs",
+        "merges.current_size" };
+
+    private Fixtures() {}
+
+    /**
+     * A mapper by name: {@code jackson} or {@code jsonb}.
+     */
+    public static JsonpMapper mapper(String name) {
+        switch (name) {
+            case "jackson":
+                return new JacksonJsonpMapper();
+            case "jsonb":
+                return new JsonbJsonpMapper();
+            default:
+                throw new IllegalArgumentException("Unknown mapper [" + name + "]");
+        }
+    }
+
+    /**
+     * A search response with {@code hits} hits, whose documents have a few fields.
+     */
+    public static byte[] searchResponse(int hits) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"took\":12,\"timed_out\":false,")
+            .append("\"_shards\":{\"total\":5,\"successful\":5,\"skipped\":0,\"failed\":0},")
+            .append("\"hits\":{\"total\":{\"value\":")
+            .append(hits)
+            .append(",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[");
+        for (int i = 0; i < hits; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"_index\":\"logs-2023.10.01\",\"_id\":\"")
+                .append(i)
+                .append("\",\"_score\":1.0,\"_source\":{\"@timestamp\":\"2023-10-01T12:00:")
+                .append(i % 60)
+                .append("Z\",\"level\":\"INFO\",\"message\":\"Request ")
+                .append(i)
+                .append(" completed\",\"duration_ms\":")
+                .append(i % 250)
+                .append(",\"host\":{\"name\":\"node-")
+                .append(i % 8)
+                .append("\",\"ip\":\"10.0.0.")
+                .append(i % 255)
+                .append("\"}},\"sort\":[")
+                .append(i)
+                .append("]}");
+        }
+        sb.append("]}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A search response with a terms aggregation of {@code buckets} buckets, each having an average and a date histogram
+     * sub-aggregation. Aggregation names are prefixed with their type, as requested by the client with {@code typed_keys}.
+     */
+    public static byte[] aggregationsResponse(int buckets) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"took\":25,\"timed_out\":false,")
+            .append("\"_shards\":{\"total\":5,\"successful\":5,\"skipped\":0,\"failed\":0},")
+            .append("\"hits\":{\"total\":{\"value\":10000,\"relation\":\"gte\"},\"max_score\":null,\"hits\":[]},")
+            .append("\"aggregations\":{\"sterms#hosts\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,\"buckets\":[");
+        for (int i = 0; i < buckets; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"key\":\"node-")
+                .append(i)
+                .append("\",\"doc_count\":")
+                .append(1000 - i)
+                .append(",\"avg#avg_duration\":{\"value\":")
+                .append(i * 1.5)
+                .append("},\"date_histogram#per_minute\":{\"buckets\":[");
+            for (int j = 0; j < 10; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"key_as_string\":\"2023-10-01T12:0")
+                    .append(j)
+                    .append(":00.000Z\",\"key\":")
+                    .append(1696161600000L + j * 60_000L)
+                    .append(",\"doc_count\":")
+                    .append(j * 7)
+                    .append('}');
+            }
+            sb.append("]}}");
+        }
+        sb.append("]}}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A search response as a dashboard gets it: a date histogram of {@code intervals} buckets, each having a terms
+     * sub-aggregation of {@code terms} buckets with several metrics, and a few metrics of its own. Aggregation names are
+     * prefixed with their type, as requested by the client with {@code typed_keys}.
+     */
+    public static byte[] dashboardAggregationsResponse(int intervals, int terms) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"took\":120,\"timed_out\":false,")
+            .append("\"_shards\":{\"total\":5,\"successful\":5,\"skipped\":0,\"failed\":0},")
+            .append("\"hits\":{\"total\":{\"value\":10000,\"relation\":\"gte\"},\"max_score\":null,\"hits\":[]},")
+            .append("\"aggregations\":{\"date_histogram#per_interval\":{\"buckets\":[");
+        for (int i = 0; i < intervals; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            long key = 1696161600000L + i * 60_000L;
+            sb.append("{\"key_as_string\":\"")
+                .append(Instant.ofEpochMilli(key))
+                .append("\",\"key\":")
+                .append(key)
+                .append(",\"doc_count\":")
+                .append(terms * 50)
+                .append(",\"cardinality#users\":{\"value\":")
+                .append(terms * 3)
+                .append("},\"sum#bytes\":{\"value\":")
+                .append(terms * 51200.0)
+                .append("},\"sterms#per_host\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,\"buckets\":[");
+            for (int j = 0; j < terms; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"key\":\"node-")
+                    .append(j)
+                    .append("\",\"doc_count\":50,\"avg#avg_duration\":{\"value\":")
+                    .append(j * 1.5)
+                    .append("},\"max#max_duration\":{\"value\":")
+                    .append(j * 4.0)
+                    .append("},\"min#min_duration\":{\"value\":")
+                    .append(j * 0.5)
+                    .append("},\"sum#bytes\":{\"value\":51200.0},\"value_count#requests\":{\"value\":50}}");
+            }
+            sb.append("]}}");
+        }
+        sb.append("]}}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A bulk response with {@code items} successful index operations.
+     */
+    public static byte[] bulkResponse(int items) {
+        StringBuilder sb = new StringBuilder("{\"took\":30,\"errors\":false,\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"index\":{\"_index\":\"logs\",\"_id\":\"")
+                .append(i)
+                .append("\",\"_version\":1,\"result\":\"created\",")
+                .append("\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},\"_seq_no\":")
+                .append(i)
+                .append(",\"_primary_term\":1,\"status\":201}}");
+        }
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A bulk request with {@code operations} index operations of small documents.
+     */
+    public static BulkRequest bulkRequest(int operations) {
+        List<BulkOperation> ops = new ArrayList<>(operations);
+        for (int i = 0; i < operations; i++) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("@timestamp", "2023-10-01T12:00:" + (i % 60) + "Z");
+            document.put("level", "INFO");
+            document.put("message", "Request " + i + " completed");
+            document.put("duration_ms", i % 250);
+            String id = Integer.toString(i);
+            ops.add(BulkOperation.of(b -> b.index(o -> o.index("logs").id(id).document(document))));
+        }
+        return BulkRequest.of(b -> b.operations(ops));
+    }
+
+    /**
+     * A get mapping response for {@code indices} indices. As returned by a cluster, the type of leaf fields comes first,
+     * while object fields have no type and nest other fields.
+     */
+    public static byte[] mappingResponse(int indices) {
+        String keyword = "{\"type\":\"keyword\",\"ignore_above\":256}";
+        String text = "{\"type\":\"text\",\"fields\":{\"keyword\":" + keyword + "}}";
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < indices; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"logs-")
+                .append(i)
+                .append("\":{\"mappings\":{\"properties\":{")
+                .append("\"@timestamp\":{\"type\":\"date\",\"format\":\"strict_date_optional_time\"},")
+                .append("\"message\":")
+                .append(text)
+                .append(",\"host\":{\"properties\":{\"name\":")
+                .append(keyword)
+                .append(",\"ip\":{\"type\":\"ip\"},\"os\":{\"properties\":{\"name\":")
+                .append(text)
+                .append(",\"version\":")
+                .append(keyword)
+                .append("}}}},\"http\":{\"properties\":{\"request\":{\"properties\":{\"method\":")
+                .append(keyword)
+                .append(",\"bytes\":{\"type\":\"long\"}}},\"response\":{\"properties\":{\"status_code\":{\"type\":\"short\"},")
+                .append("\"body\":{\"properties\":{\"content\":")
+                .append(text)
+                .append(",\"headers\":{\"properties\":{");
+            for (int j = 0; j < 10; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append("\"header_").append(j).append("\":").append(text);
+            }
+            sb.append("}}}}}}}}}}}");
+        }
+        sb.append('}');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A search request body with a bool query of {@code clauses} clauses and as many terms aggregations, each having
+     * nested sub-aggregations. Sub-aggregations come before the type of their parent aggregation, as some tools write
+     * them.
+     */
+    public static byte[] searchRequestBody(int clauses) {
+        StringBuilder sb = new StringBuilder("{\"size\":0,\"query\":{\"bool\":{\"must\":[{\"match\":{\"message\":\"error\"}}],");
+        sb.append("\"filter\":[");
+        for (int i = 0; i < clauses; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"bool\":{\"should\":[{\"term\":{\"host.name\":\"node-")
+                .append(i)
+                .append("\"}},{\"range\":{\"http.response.status_code\":{\"gte\":")
+                .append(400 + i % 100)
+                .append("}}}],\"minimum_should_match\":1}}");
+        }
+        sb.append("]}},\"aggs\":{");
+        for (int i = 0; i < clauses; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"per_host_")
+                .append(i)
+                .append("\":{\"aggs\":{\"per_status\":{\"aggs\":{\"avg_bytes\":{\"avg\":{\"field\":\"http.request.bytes\"}},")
+                .append("\"per_minute\":{\"aggs\":{\"max_bytes\":{\"max\":{\"field\":\"http.request.bytes\"}}},")
+                .append("\"date_histogram\":{\"field\":\"@timestamp\",\"fixed_interval\":\"1m\"}}},")
+                .append("\"terms\":{\"field\":\"http.response.status_code\"}}},\"terms\":{\"field\":\"host.name\",\"size\":")
+                .append(10 + i)
+                .append("}}");
+        }
+        sb.append("}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A cat indices response with {@code records} records.
+     */
+    public static byte[] catIndices(int records) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('{');
+            for (int j = 0; j < CAT_INDICES_COLUMNS.length; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append('"').append(CAT_INDICES_COLUMNS[j]).append("\":\"").append(i * 31 + j).append('"');
+            }
+            sb.append('}');
+        }
+        sb.append(']');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.http.ContentType;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.transport.httpclient5.internal.NdJsonEntity;
+import org.opensearch.client.util.BufferPool;
+import org.opensearch.client.util.OpenSearchRequestBodyBuffer;
+import org.opensearch.client.util.SizeClassedBufferPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of a bulk request to nd-json, either in memory like the transports do by default, in pooled buffers,
+ * or streamed line by line.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkRequestSerializationBenchmark {
+
+    // OpenSearchRequestBodyBuffer writes all lines with a single generator, which JSON-B generators don't allow
+    @Param({ "jackson" })
+    public String mapper;
+
+    @Param({ "1000" })
+    public int operations;
+
+    private JsonpMapper jsonpMapper;
+    private BulkRequest request;
+    private BufferPool bufferPool;
+
+    @Setup
+    public void setup() {
+        jsonpMapper = Fixtures.mapper(mapper);
+        request = Fixtures.bulkRequest(operations);
+        bufferPool = SizeClassedBufferPool.of(b -> b);
+    }
+
+    @Benchmark
+    public long buffered() throws IOException {
+        return serialize(null);
+    }
+
+    @Benchmark
+    public long pooled() throws IOException {
+        return serialize(bufferPool);
+    }
+
+    @Benchmark
+    public void streamed() throws IOException {
+        new NdJsonEntity(request, jsonpMapper, ContentType.APPLICATION_JSON, true).writeTo(OutputStream.nullOutputStream());
+    }
+
+    private long serialize(BufferPool pool) throws IOException {
+        OpenSearchRequestBodyBuffer buffer = new OpenSearchRequestBodyBuffer(jsonpMapper, Integer.MAX_VALUE, pool);
+        buffer.addContent(request);
+        buffer.close();
+        long length = buffer.getContentLength();
+        buffer.release();
+        return length;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.annotation.JsonbProperty;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpDeserializerBase;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpMapperBase;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of the documents of a search response into application classes with {@link JsonbJsonpMapper}:
+ * {@code yasson} deserializes straight from the parser with Yasson's extensions, {@code buffered} writes each document
+ * to a reused buffer and parses it again, as with JSON-B implementations other than Yasson, and {@code copying} does the
+ * same with a new buffer that is copied for each document, as the mapper used to. Run with {@code -prof gc} to compare
+ * their allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonbDocumentDeserializationBenchmark {
+
+    @Param({ "yasson", "buffered", "copying" })
+    public String path;
+
+    @Param({ "1000" })
+    public int hits;
+
+    private JsonpMapper jsonpMapper;
+    private JsonpDeserializer<SearchResponse<LogDocument>> deserializer;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        switch (path) {
+            case "yasson":
+                jsonpMapper = new JsonbJsonpMapper();
+                break;
+            case "buffered":
+                jsonpMapper = new JsonbJsonpMapper(JsonProvider.provider(), new ForwardingJsonb(JsonbBuilder.create()));
+                break;
+            case "copying":
+                jsonpMapper = new CopyingJsonbMapper(JsonProvider.provider(), JsonbBuilder.create());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown path [" + path + "]");
+        }
+        json = Fixtures.searchResponse(hits);
+        deserializer = SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.of(LogDocument.class));
+    }
+
+    @Benchmark
+    public SearchResponse<LogDocument> deserialize() {
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            return deserializer.deserialize(parser, jsonpMapper);
+        }
+    }
+
+    /**
+     * The documents of {@link Fixtures#searchResponse(int)}.
+     */
+    public static class LogDocument {
+        @JsonbProperty("@timestamp")
+        public String timestamp;
+        public String level;
+        public String message;
+        @JsonbProperty("duration_ms")
+        public int durationMs;
+        public Host host;
+    }
+
+    public static class Host {
+        public String name;
+        public String ip;
+    }
+
+    /**
+     * Hides the extensions of Yasson, as another JSON-B implementation would.
+     */
+    private static final class ForwardingJsonb implements Jsonb {
+        private final Jsonb jsonb;
+
+        ForwardingJsonb(Jsonb jsonb) {
+            this.jsonb = jsonb;
+        }
+
+        @Override
+        public <T> T fromJson(String str, Class<T> type) {
+            return jsonb.fromJson(str, type);
+        }
+
+        @Override
+        public <T> T fromJson(String str, Type runtimeType) {
+            return jsonb.fromJson(str, runtimeType);
+        }
+
+        @Override
+        public <T> T fromJson(Reader reader, Class<T> type) {
+            return jsonb.fromJson(reader, type);
+        }
+
+        @Override
+        public <T> T fromJson(Reader reader, Type runtimeType) {
+            return jsonb.fromJson(reader, runtimeType);
+        }
+
+        @Override
+        public <T> T fromJson(InputStream stream, Class<T> type) {
+            return jsonb.fromJson(stream, type);
+        }
+
+        @Override
+        public <T> T fromJson(InputStream stream, Type runtimeType) {
+            return jsonb.fromJson(stream, runtimeType);
+        }
+
+        @Override
+        public String toJson(Object object) {
+            return jsonb.toJson(object);
+        }
+
+        @Override
+        public String toJson(Object object, Type runtimeType) {
+            return jsonb.toJson(object, runtimeType);
+        }
+
+        @Override
+        public void toJson(Object object, Writer writer) {
+            jsonb.toJson(object, writer);
+        }
+
+        @Override
+        public void toJson(Object object, Type runtimeType, Writer writer) {
+            jsonb.toJson(object, runtimeType, writer);
+        }
+
+        @Override
+        public void toJson(Object object, OutputStream stream) {
+            jsonb.toJson(object, stream);
+        }
+
+        @Override
+        public void toJson(Object object, Type runtimeType, OutputStream stream) {
+            jsonb.toJson(object, runtimeType, stream);
+        }
+
+        @Override
+        public void close() throws Exception {
+            jsonb.close();
+        }
+    }
+
+    /**
+     * Deserializes values the way {@link JsonbJsonpMapper} used to, with a new buffer that is copied for each value.
+     */
+    private static final class CopyingJsonbMapper extends JsonpMapperBase {
+        private final JsonProvider jsonProvider;
+        private final Jsonb jsonb;
+
+        CopyingJsonbMapper(JsonProvider jsonProvider, Jsonb jsonb) {
+            this.jsonProvider = jsonProvider;
+            this.jsonb = jsonb;
+        }
+
+        @Override
+        public JsonProvider jsonProvider() {
+            return jsonProvider;
+        }
+
+        @Override
+        public <T> void serialize(T value, JsonGenerator generator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected <T> JsonpDeserializer<T> getDefaultDeserializer(Class<T> clazz) {
+            return new JsonpDeserializerBase<T>(EnumSet.allOf(JsonParser.Event.class)) {
+                @Override
+                public T deserialize(JsonParser parser, JsonpMapper mapper, JsonParser.Event event) {
+                    CharArrayWriter caw = new CharArrayWriter();
+                    JsonGenerator generator = jsonProvider.createGenerator(caw);
+                    transferAll(parser, event, generator);
+                    generator.close();
+                    return jsonb.fromJson(new CharArrayReader(caw.toCharArray()), clazz);
+                }
+            };
+        }
+
+        private static void transferAll(JsonParser parser, JsonParser.Event event, JsonGenerator generator) {
+            int depth = 0;
+            while (true) {
+                switch (event) {
+                    case START_OBJECT:
+                        generator.writeStartObject();
+                        depth++;
+                        break;
+                    case START_ARRAY:
+                        generator.writeStartArray();
+                        depth++;
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        generator.writeEnd();
+                        depth--;
+                        break;
+                    case KEY_NAME:
+                        generator.writeKey(parser.getString());
+                        break;
+                    case VALUE_STRING:
+                        generator.write(parser.getString());
+                        break;
+                    case VALUE_NUMBER:
+                        if (parser.isIntegralNumber()) {
+                            generator.write(parser.getLong());
+                        } else {
+                            generator.write(parser.getBigDecimal());
+                        }
+                        break;
+                    case VALUE_NULL:
+                        generator.writeNull();
+                        break;
+                    case VALUE_TRUE:
+                        generator.write(true);
+                        break;
+                    case VALUE_FALSE:
+                        generator.write(false);
+                        break;
+                }
+                if (depth == 0) {
+                    return;
+                }
+                event = parser.next();
+            }
+        }
+    }
+}
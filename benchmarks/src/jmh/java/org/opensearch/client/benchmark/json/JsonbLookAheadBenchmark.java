@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import jakarta.json.JsonObject;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.DelegatingJsonParser;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.LookAheadJsonParser;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch.indices.GetMappingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of a get mapping response, where the type of object fields is looked ahead, with
+ * {@link JsonbJsonpMapper}: {@code replay} buffers the events read before the type is found and replays them, and
+ * {@code object} reads each object into a {@code JsonObject} and parses its text again, as the mapper used to. Run
+ * with {@code -prof gc} to compare their allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonbLookAheadBenchmark {
+
+    @Param({ "replay", "object" })
+    public String path;
+
+    @Param({ "100" })
+    public int size;
+
+    private JsonpMapper mapper;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        mapper = new JsonbJsonpMapper();
+        json = Fixtures.mappingResponse(size);
+    }
+
+    @Benchmark
+    public GetMappingResponse deserialize() {
+        JsonParser parser = mapper.jsonProvider().createParser(new ByteArrayInputStream(json));
+        if ("object".equals(path)) {
+            parser = new ObjectRoundTripParser(parser, mapper.jsonProvider());
+        }
+        try {
+            return GetMappingResponse._DESERIALIZER.deserialize(parser, mapper);
+        } finally {
+            parser.close();
+        }
+    }
+
+    /**
+     * Looks ahead the way the mapper used to, by reading the object into a {@code JsonObject} and parsing its text again.
+     */
+    private static final class ObjectRoundTripParser extends DelegatingJsonParser implements LookAheadJsonParser {
+        private final JsonProvider provider;
+
+        ObjectRoundTripParser(JsonParser parser, JsonProvider provider) {
+            super(parser);
+            this.provider = provider;
+        }
+
+        @Override
+        public Map.Entry<String, JsonParser> lookAheadFieldValue(String name, String defaultValue) {
+            JsonObject object = getObject();
+            return new AbstractMap.SimpleImmutableEntry<>(object.getString(name, defaultValue), parse(object));
+        }
+
+        @Override
+        public <Variant> Map.Entry<Variant, JsonParser> findVariant(Map<String, Variant> variants) {
+            JsonObject object = getObject();
+            Variant variant = null;
+            for (String field : object.keySet()) {
+                variant = variants.get(field);
+                if (variant != null) {
+                    break;
+                }
+            }
+            return new AbstractMap.SimpleImmutableEntry<>(variant, parse(object));
+        }
+
+        private JsonParser parse(JsonObject object) {
+            return new ObjectRoundTripParser(provider.createParser(new StringReader(object.toString())), provider);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonProvider;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.indices.GetMappingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of JSON with many unions whose variant is looked ahead with the Jackson mapper: a get mapping
+ * response, where object fields have no type and nest other fields, and a search request body, where sub-aggregations
+ * come before the type of their parent. {@code stream} parses an input stream, where the fields read before the variant
+ * is found are buffered, and {@code byte_array} parses an array of bytes, where they are skipped and parsed again from
+ * the array, as {@code ApacheHttpClient5Transport} does with responses buffered in heap memory. Run with
+ * {@code -prof gc} to compare their allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookAheadBenchmark {
+
+    @Param({ "mapping", "search_request" })
+    public String body;
+
+    @Param({ "stream", "byte_array" })
+    public String input;
+
+    @Param({ "100" })
+    public int size;
+
+    private JacksonJsonpMapper mapper;
+    private JsonpDeserializer<?> deserializer;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        mapper = new JacksonJsonpMapper();
+        switch (body) {
+            case "mapping":
+                json = Fixtures.mappingResponse(size);
+                deserializer = GetMappingResponse._DESERIALIZER;
+                break;
+            case "search_request":
+                json = Fixtures.searchRequestBody(size);
+                deserializer = SearchRequest._DESERIALIZER;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown body [" + body + "]");
+        }
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        try (JsonParser parser = createParser()) {
+            return deserializer.deserialize(parser, mapper);
+        }
+    }
+
+    private JsonParser createParser() {
+        switch (input) {
+            case "stream":
+                return mapper.jsonProvider().createParser(new ByteArrayInputStream(json));
+            case "byte_array":
+                return ((JacksonJsonProvider) mapper.jsonProvider()).createParser(json, 0, json.length);
+            default:
+                throw new IllegalArgumentException("Unknown input [" + input + "]");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.cat.IndicesResponse;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Deserialization of responses with many objects, which is dominated by reading field names and finding their
+ * deserializer. Run with {@code -prof gc} to compare the allocation rate of the mappers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectDeserializerBenchmark {
+
+    @Param({ "jackson", "jsonb" })
+    public String mapper;
+
+    @Param({ "search", "cat_indices" })
+    public String fixture;
+
+    private JsonpMapper jsonpMapper;
+    private JsonpDeserializer<?> deserializer;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        jsonpMapper = Fixtures.mapper(mapper);
+        switch (fixture) {
+            case "search":
+                json = Fixtures.searchResponse(500);
+                deserializer = SearchResponse.createSearchResponseDeserializer(JsonData._DESERIALIZER);
+                break;
+            case "cat_indices":
+                json = Fixtures.catIndices(500);
+                deserializer = IndicesResponse._DESERIALIZER;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown fixture [" + fixture + "]");
+        }
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            return deserializer.deserialize(parser, jsonpMapper);
+        }
+    }
+
+    /**
+     * Reads all field names without deserializing values, which isolates the cost of field names.
+     */
+    @Benchmark
+    public void readFieldNames(Blackhole blackhole) {
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            while (parser.hasNext()) {
+                if (parser.next() == JsonParser.Event.KEY_NAME) {
+                    blackhole.consume(parser.getString());
+                }
+            }
+        }
+    }
+}
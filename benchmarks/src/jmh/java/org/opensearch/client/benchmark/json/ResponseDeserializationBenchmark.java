@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of common responses with each mapper.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseDeserializationBenchmark {
+
+    @Param({ "jackson", "jsonb" })
+    public String mapper;
+
+    @Param({ "search", "bulk", "aggregations" })
+    public String response;
+
+    @Param({ "100" })
+    public int size;
+
+    private JsonpMapper jsonpMapper;
+    private JsonpDeserializer<?> deserializer;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        jsonpMapper = Fixtures.mapper(mapper);
+        switch (response) {
+            case "search":
+                json = Fixtures.searchResponse(size);
+                deserializer = SearchResponse.createSearchResponseDeserializer(JsonData._DESERIALIZER);
+                break;
+            case "bulk":
+                json = Fixtures.bulkResponse(size);
+                deserializer = BulkResponse._DESERIALIZER;
+                break;
+            case "aggregations":
+                json = Fixtures.aggregationsResponse(size);
+                deserializer = SearchResponse.createSearchResponseDeserializer(JsonData._DESERIALIZER);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown response [" + response + "]");
+        }
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            return deserializer.deserialize(parser, jsonpMapper);
+        }
+    }
+}
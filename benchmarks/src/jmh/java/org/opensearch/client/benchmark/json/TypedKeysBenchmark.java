@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.json;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deserialization of the aggregations of a dashboard search response, a date histogram whose buckets each have a terms
+ * sub-aggregation with several metrics, where every aggregation is keyed by its {@code type#name}. Run with
+ * {@code -prof gc} to measure the allocation of their keys and maps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypedKeysBenchmark {
+
+    @Param({ "jackson", "jsonb" })
+    public String mapper;
+
+    @Param({ "60" })
+    public int intervals;
+
+    @Param({ "50" })
+    public int terms;
+
+    private JsonpMapper jsonpMapper;
+    private JsonpDeserializer<SearchResponse<Void>> deserializer;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        jsonpMapper = Fixtures.mapper(mapper);
+        json = Fixtures.dashboardAggregationsResponse(intervals, terms);
+        deserializer = SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.voidDeserializer());
+    }
+
+    @Benchmark
+    public SearchResponse<Void> deserialize() {
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            return deserializer.deserialize(parser, jsonpMapper);
+        }
+    }
+}
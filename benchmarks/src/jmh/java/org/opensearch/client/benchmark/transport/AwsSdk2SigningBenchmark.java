@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.GetResponse;
+import org.opensearch.client.opensearch.core.MgetResponse;
+import org.opensearch.client.transport.aws.AwsSdk2Transport;
+import org.opensearch.client.transport.aws.AwsSdk2TransportOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Small requests through {@link AwsSdk2Transport} to an in-memory HTTP client that returns canned responses, so that
+ * the cost of signing requests dominates: building the canonical request, deriving or looking up the signing key, and
+ * computing the signature. Use {@code -t} to sign from several threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AwsSdk2SigningBenchmark {
+    private static final byte[] GET_RESPONSE =
+        "{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"found\":true,\"_source\":{\"level\":\"info\"}}".getBytes(
+            StandardCharsets.UTF_8
+        );
+    private static final byte[] MGET_RESPONSE = ("{\"docs\":["
+        + "{\"_index\":\"logs\",\"_id\":\"1\",\"found\":false},"
+        + "{\"_index\":\"logs\",\"_id\":\"2\",\"found\":false}]}").getBytes(StandardCharsets.UTF_8);
+
+    private OpenSearchClient client;
+
+    @Setup
+    public void setup() {
+        AwsSdk2TransportOptions options = AwsSdk2TransportOptions.builder()
+            .setCredentials(
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"))
+            )
+            .setMapper(Fixtures.mapper("jackson"))
+            .build();
+        client = new OpenSearchClient(
+            new AwsSdk2Transport(new CannedHttpClient(), "search-domain.us-east-1.es.amazonaws.com", Region.US_EAST_1, options)
+        );
+    }
+
+    @Benchmark
+    public GetResponse<JsonData> get() throws IOException {
+        return client.get(g -> g.index("logs").id("1"), JsonData.class);
+    }
+
+    @Benchmark
+    public MgetResponse<JsonData> mget() throws IOException {
+        return client.mget(m -> m.index("logs").ids("1", "2"), JsonData.class);
+    }
+
+    /**
+     * Answers {@code _mget} requests with {@link #MGET_RESPONSE} and all other requests with {@link #GET_RESPONSE}.
+     */
+    private static class CannedHttpClient implements SdkHttpClient {
+        private static final SdkHttpResponse OK = SdkHttpResponse.builder()
+            .statusCode(200)
+            .putHeader("Content-Type", "application/json")
+            .build();
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+            byte[] body = request.httpRequest().encodedPath().endsWith("/_mget") ? MGET_RESPONSE : GET_RESPONSE;
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    return HttpExecuteResponse.builder()
+                        .response(OK)
+                        .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                        .build();
+                }
+
+                @Override
+                public void abort() {}
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+}
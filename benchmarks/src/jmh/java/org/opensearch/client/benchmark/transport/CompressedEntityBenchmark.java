@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.benchmark.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.opensearch.client.benchmark.Fixtures;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport;
+import org.opensearch.client.transport.httpclient5.CompressionCodec;
+import org.opensearch.client.util.BufferPool;
+import org.opensearch.client.util.OpenSearchRequestBodyBuffer;
+import org.opensearch.client.util.SizeClassedBufferPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sending a gzip compressed nd-json body of about 10 MB without chunked transfer-encoding, which requires its length,
+ * in {@code attempts} attempts, e.g. 2 when the request is retried on another node once. Either compressed each time it
+ * is read, like {@link ApacheHttpClient5Transport.ContentCompressingEntity} does, or compressed once into pooled buffers
+ * that are replayed, like the transport does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressedEntityBenchmark {
+
+    @Param({ "1", "2" })
+    public int attempts;
+
+    private byte[] body;
+    private BufferPool bufferPool;
+
+    @Setup
+    public void setup() throws IOException {
+        OpenSearchRequestBodyBuffer buffer = new OpenSearchRequestBodyBuffer(Fixtures.mapper("jackson"), Integer.MAX_VALUE, null);
+        buffer.addContent(Fixtures.bulkRequest(75_000));
+        buffer.close();
+        body = buffer.getByteArray();
+        bufferPool = SizeClassedBufferPool.of(b -> b);
+    }
+
+    @Benchmark
+    public long compressedPerRead() throws IOException {
+        return send(new ApacheHttpClient5Transport.ContentCompressingEntity(entity(), false));
+    }
+
+    @Benchmark
+    public long compressedOnce() throws IOException {
+        try (HttpEntity entity = CompressionCodec.gzip().compress(entity(), bufferPool)) {
+            return send(entity);
+        }
+    }
+
+    private HttpEntity entity() {
+        return new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
+    }
+
+    private long send(HttpEntity entity) throws IOException {
+        long length = 0;
+        for (int i = 0; i < attempts; i++) {
+            length += entity.getContentLength();
+            entity.writeTo(OutputStream.nullOutputStream());
+        }
+        return length;
+    }
+}
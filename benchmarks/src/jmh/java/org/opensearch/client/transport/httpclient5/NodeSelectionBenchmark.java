@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.transport.httpclient5.internal.AdaptiveNodeSelector;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selection of the node that a request is sent to by {@link ApacheHttpClient5Transport}, which happens for every
+ * request. Lives in the package of the transport to reach its package private methods. Run with {@code -prof gc} to
+ * report the allocations per selection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodeSelectionBenchmark {
+
+    @Param({ "3", "10" })
+    public int nodes;
+
+    @Param({ "false", "true" })
+    public boolean deadNode;
+
+    @Param({ "round_robin", "adaptive" })
+    public String selector;
+
+    private ApacheHttpClient5Transport transport;
+
+    @Setup
+    public void setup() {
+        HttpHost[] hosts = new HttpHost[nodes];
+        for (int i = 0; i < nodes; i++) {
+            hosts[i] = new HttpHost("http", "node-" + i, 9200);
+        }
+        NodeSelector nodeSelector = "adaptive".equals(selector) ? AdaptiveNodeSelector.of(b -> b) : NodeSelector.ANY;
+        transport = ApacheHttpClient5TransportBuilder.builder(hosts).setNodeSelector(nodeSelector).build();
+        if (deadNode) {
+            transport.onFailure(new Node(hosts[0]));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        transport.close();
+    }
+
+    @Benchmark
+    public Node select() throws IOException {
+        NodeRing ring = transport.nextNodes();
+        return ring.node(transport.firstNodeIndex(ring), 0);
+    }
+}
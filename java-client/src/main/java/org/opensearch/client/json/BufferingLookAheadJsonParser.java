@@ -0,0 +1,392 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A {@link LookAheadJsonParser} on top of any {@link JsonParser}. The events that are read while looking ahead are
+ * kept in a buffer, and the parser returned by the look-ahead methods replays them before reading the remaining events
+ * of the object from the wrapped parser. The object is therefore read once, instead of being parsed into a
+ * {@link JsonObject} and parsed again from its text.
+ * <p>
+ * While buffered events are replayed, {@link #getLocation()} returns the location of the start of the look-ahead.
+ */
+public class BufferingLookAheadJsonParser implements LookAheadJsonParser {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final JsonParser parser;
+    private final JsonProvider provider;
+
+    // Buffered events, and the text of the names and values of those that have one
+    private final Event[] events;
+    private final String[] values;
+    private final int count;
+    private final JsonLocation location;
+
+    // Index of the next buffered event
+    private int position;
+    // Is the current event a buffered one?
+    private boolean replaying;
+
+    /**
+     * Creates a look-ahead parser that reads events from {@code parser}.
+     *
+     * @param parser the parser to read events from.
+     * @param provider the provider used to build the values returned by {@link #getValue()} and its siblings.
+     */
+    public BufferingLookAheadJsonParser(JsonParser parser, JsonProvider provider) {
+        this(parser, provider, null, null, 0, null);
+    }
+
+    private BufferingLookAheadJsonParser(
+        JsonParser parser,
+        JsonProvider provider,
+        Event[] events,
+        String[] values,
+        int count,
+        JsonLocation location
+    ) {
+        this.parser = parser;
+        this.provider = provider;
+        this.events = events;
+        this.values = values;
+        this.count = count;
+        this.location = location;
+    }
+
+    // ----- Look-ahead
+
+    @Override
+    public Map.Entry<String, JsonParser> lookAheadFieldValue(String name, String defaultValue) {
+        Buffer buffer = new Buffer(getLocation());
+
+        while (next() != Event.END_OBJECT) {
+            String fieldName = getString();
+            buffer.add(Event.KEY_NAME, fieldName);
+
+            if (fieldName.equals(name)) {
+                JsonpUtils.expectNextEvent(this, Event.VALUE_STRING);
+                String value = getString();
+                buffer.add(Event.VALUE_STRING, value);
+                return new AbstractMap.SimpleImmutableEntry<>(value, replay(buffer));
+            }
+
+            buffer.addValue(next());
+        }
+
+        buffer.add(Event.END_OBJECT, null);
+        return new AbstractMap.SimpleImmutableEntry<>(defaultValue, replay(buffer));
+    }
+
+    @Override
+    public <Variant> Map.Entry<Variant, JsonParser> findVariant(Map<String, Variant> variants) {
+        Buffer buffer = new Buffer(getLocation());
+
+        while (next() != Event.END_OBJECT) {
+            String fieldName = getString();
+            buffer.add(Event.KEY_NAME, fieldName);
+
+            Variant variant = variants.get(fieldName);
+            if (variant != null) {
+                return new AbstractMap.SimpleImmutableEntry<>(variant, replay(buffer));
+            }
+
+            buffer.addValue(next());
+        }
+
+        buffer.add(Event.END_OBJECT, null);
+        return new AbstractMap.SimpleImmutableEntry<>(null, replay(buffer));
+    }
+
+    /**
+     * A parser that replays the buffered events, then reads the remaining ones from this parser if some of its own
+     * buffered events have not been replayed yet, or else from the wrapped parser.
+     */
+    private BufferingLookAheadJsonParser replay(Buffer buffer) {
+        JsonParser next = position < count ? this : parser;
+        return new BufferingLookAheadJsonParser(next, provider, buffer.events, buffer.values, buffer.count, buffer.location);
+    }
+
+    /**
+     * Events read while looking ahead, starting with the {@code START_OBJECT} event the parser was on.
+     */
+    private final class Buffer {
+        final JsonLocation location;
+        Event[] events = new Event[INITIAL_CAPACITY];
+        String[] values = new String[INITIAL_CAPACITY];
+        int count;
+
+        Buffer(JsonLocation location) {
+            this.location = location;
+            add(Event.START_OBJECT, null);
+        }
+
+        void add(Event event, String value) {
+            if (count == events.length) {
+                events = Arrays.copyOf(events, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            events[count] = event;
+            values[count] = value;
+            count++;
+        }
+
+        /**
+         * Adds the current event and, if it starts a structure, all events up to the end of that structure.
+         */
+        void addValue(Event event) {
+            int depth = 0;
+            while (true) {
+                switch (event) {
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        add(event, null);
+                        depth++;
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        add(event, null);
+                        depth--;
+                        break;
+                    case KEY_NAME:
+                    case VALUE_STRING:
+                    case VALUE_NUMBER:
+                        add(event, getString());
+                        break;
+                    default:
+                        add(event, null);
+                        break;
+                }
+                if (depth == 0) {
+                    return;
+                }
+                event = next();
+            }
+        }
+    }
+
+    // ----- Events
+
+    @Override
+    public boolean hasNext() {
+        return position < count || parser.hasNext();
+    }
+
+    @Override
+    public Event next() {
+        if (position < count) {
+            replaying = true;
+            return events[position++];
+        }
+        replaying = false;
+        return parser.next();
+    }
+
+    @Override
+    public String getString() {
+        if (!replaying) {
+            return parser.getString();
+        }
+        String value = values[position - 1];
+        if (value == null) {
+            throw new IllegalStateException("Event " + events[position - 1] + " has no string value");
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        if (!replaying) {
+            return parser.isIntegralNumber();
+        }
+        String number = number();
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int getInt() {
+        if (!replaying) {
+            return parser.getInt();
+        }
+        String number = number();
+        // Fewer than 10 characters always fit in an int
+        return number.length() < 10 && isIntegralNumber() ? Integer.parseInt(number) : new BigDecimal(number).intValue();
+    }
+
+    @Override
+    public long getLong() {
+        if (!replaying) {
+            return parser.getLong();
+        }
+        String number = number();
+        // Fewer than 19 characters always fit in a long
+        return number.length() < 19 && isIntegralNumber() ? Long.parseLong(number) : new BigDecimal(number).longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        if (!replaying) {
+            return parser.getBigDecimal();
+        }
+        return new BigDecimal(number());
+    }
+
+    private String number() {
+        if (events[position - 1] != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Event " + events[position - 1] + " is not a number");
+        }
+        return values[position - 1];
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        return replaying ? location : parser.getLocation();
+    }
+
+    // ----- Values
+
+    @Override
+    public JsonObject getObject() {
+        if (!replaying) {
+            return parser.getObject();
+        }
+        if (events[position - 1] != Event.START_OBJECT) {
+            throw new IllegalStateException("Event " + events[position - 1] + " does not start an object");
+        }
+        return (JsonObject) getValue();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        if (!replaying) {
+            return parser.getArray();
+        }
+        if (events[position - 1] != Event.START_ARRAY) {
+            throw new IllegalStateException("Event " + events[position - 1] + " does not start an array");
+        }
+        return (JsonArray) getValue();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        if (!replaying) {
+            return parser.getValue();
+        }
+        Event event = events[position - 1];
+        switch (event) {
+            case START_OBJECT:
+                JsonObjectBuilder object = provider.createObjectBuilder();
+                while (next() != Event.END_OBJECT) {
+                    String name = getString();
+                    next();
+                    object.add(name, getValue());
+                }
+                return object.build();
+            case START_ARRAY:
+                JsonArrayBuilder array = provider.createArrayBuilder();
+                while (next() != Event.END_ARRAY) {
+                    array.add(getValue());
+                }
+                return array.build();
+            case KEY_NAME:
+            case VALUE_STRING:
+                return provider.createValue(getString());
+            case VALUE_NUMBER:
+                return isIntegralNumber() ? provider.createValue(getLong()) : provider.createValue(getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                throw new IllegalStateException("Event " + event + " has no value");
+        }
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        return replaying ? getArray().stream() : parser.getArrayStream();
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        return replaying ? getObject().entrySet().stream() : parser.getObjectStream();
+    }
+
+    @Override
+    public Stream<JsonValue> getValueStream() {
+        if (replaying) {
+            // Replayed events are always inside an object, and value streams are only available in the root context
+            throw new IllegalStateException("Value streams are not supported while replaying buffered events");
+        }
+        return parser.getValueStream();
+    }
+
+    @Override
+    public void skipArray() {
+        if (!replaying) {
+            parser.skipArray();
+        } else if (events[position - 1] == Event.START_ARRAY) {
+            skipStructure();
+        }
+    }
+
+    @Override
+    public void skipObject() {
+        if (!replaying) {
+            parser.skipObject();
+        } else if (events[position - 1] == Event.START_OBJECT) {
+            skipStructure();
+        }
+    }
+
+    private void skipStructure() {
+        int depth = 1;
+        while (depth > 0) {
+            switch (next()) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    depth++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A factory of parsers of JSON text that is already in memory, e.g. a response body buffered by a transport. Such
+ * parsers can read parts of their input again instead of buffering them, e.g. to look ahead the variant of a union.
+ * Implemented by the {@link jakarta.json.spi.JsonProvider} of mappers that support it.
+ */
+public interface ByteArrayJsonParserFactory {
+
+    /**
+     * Create a parser of UTF-8 encoded JSON text. The array must not be modified while the parser is used.
+     *
+     * @param input  the array that contains the JSON text
+     * @param offset the offset of the JSON text in the array
+     * @param length the length of the JSON text
+     */
+    JsonParser createParser(byte[] input, int offset, int length);
+}
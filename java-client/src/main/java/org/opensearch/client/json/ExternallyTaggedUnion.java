@@ -42,6 +42,8 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -66,11 +68,11 @@ public class ExternallyTaggedUnion {
         private final Function<Member, Union> unionCtor;
         @Nullable
         private final BiFunction<String, JsonData, Union> unKnownUnionCtor;
+        // The known types, keyed by themselves
+        private final Map<String, String> types;
 
         public Deserializer(Map<String, JsonpDeserializer<? extends Member>> deserializers, Function<Member, Union> unionCtor) {
-            this.deserializers = deserializers;
-            this.unionCtor = unionCtor;
-            this.unKnownUnionCtor = null;
+            this(deserializers, unionCtor, null);
         }
 
         public Deserializer(
@@ -81,6 +83,18 @@ public class ExternallyTaggedUnion {
             this.deserializers = deserializers;
             this.unionCtor = unionCtor;
             this.unKnownUnionCtor = unKnownUnionCtor;
+            this.types = new HashMap<>(deserializers.size() * 4 / 3 + 1);
+            for (String type : deserializers.keySet()) {
+                this.types.put(type, type);
+            }
+        }
+
+        /**
+         * Returns the known type equal to {@code type}, or {@code type} itself if it is unknown.
+         */
+        String internType(String type) {
+            String known = types.get(type);
+            return known != null ? known : type;
         }
 
         public Union deserialize(String type, JsonParser parser, JsonpMapper mapper, Event event) {
@@ -104,7 +118,15 @@ public class ExternallyTaggedUnion {
     }
 
     public static class TypedKeysDeserializer<Union extends TaggedUnion<?, ?>> extends JsonpDeserializerBase<Map<String, Union>> {
+        // Names are chosen by applications: stop caching the split of new property names past this number
+        private static final int MAX_CACHED_KEYS = 1024;
+        private static final int MAX_SIZE_HINT = 64;
+
         Deserializer<Union, ?> deserializer;
+        // Property names split into their type and name
+        private final ConcurrentMap<String, TypedKey> typedKeys = new ConcurrentHashMap<>();
+        // Largest number of entries seen in a map, to size new ones. Racy updates only make it less accurate.
+        private int sizeHint = 1;
 
         protected TypedKeysDeserializer(Deserializer<Union, ?> deser) {
             super(EnumSet.of(Event.START_OBJECT));
@@ -113,7 +135,7 @@ public class ExternallyTaggedUnion {
 
         @Override
         public Map<String, Union> deserialize(JsonParser parser, JsonpMapper mapper, Event event) {
-            Map<String, Union> result = new HashMap<>();
+            Map<String, Union> result = createMap();
             while ((event = parser.next()) != Event.END_OBJECT) {
                 JsonpUtils.expectEvent(parser, event, Event.KEY_NAME);
                 deserializeEntry(parser.getString(), parser, mapper, result);
@@ -122,18 +144,57 @@ public class ExternallyTaggedUnion {
         }
 
         public void deserializeEntry(String key, JsonParser parser, JsonpMapper mapper, Map<String, Union> targetMap) {
-            int hashPos = key.indexOf('#');
-            if (hashPos == -1) {
-                throw new JsonParsingException(
-                    "Property name '" + key + "' is not in the 'type#name' format. Make sure the request has 'typed_keys' set.",
-                    parser.getLocation()
-                );
+            TypedKey typedKey = typedKey(key, parser);
+            targetMap.put(typedKey.name, deserializer.deserialize(typedKey.type, parser, mapper, parser.next()));
+
+            int size = targetMap.size();
+            if (size > sizeHint && size <= MAX_SIZE_HINT) {
+                sizeHint = size;
+            }
+        }
+
+        /**
+         * Creates a map for the entries of a typed keys dictionary, sized for the largest number of entries seen so far.
+         */
+        public Map<String, Union> createMap() {
+            return new HashMap<>(sizeHint * 4 / 3 + 1);
+        }
+
+        /**
+         * Splits a {@code type#name} property name. The split is computed once for each property name, whose type is
+         * interned against the known types: as parsers such as Jackson's canonicalize property names, deserializing the
+         * aggregations of thousands of buckets doesn't allocate new strings for their keys.
+         */
+        TypedKey typedKey(String key, JsonParser parser) {
+            TypedKey typedKey = typedKeys.get(key);
+            if (typedKey == null) {
+                int hashPos = key.indexOf('#');
+                if (hashPos == -1) {
+                    throw new JsonParsingException(
+                        "Property name '" + key + "' is not in the 'type#name' format. Make sure the request has 'typed_keys' set.",
+                        parser.getLocation()
+                    );
+                }
+
+                typedKey = new TypedKey(deserializer.internType(key.substring(0, hashPos)), key.substring(hashPos + 1));
+                if (typedKeys.size() < MAX_CACHED_KEYS) {
+                    typedKeys.putIfAbsent(key, typedKey);
+                }
             }
+            return typedKey;
+        }
+    }
 
-            String type = key.substring(0, hashPos);
-            String name = key.substring(hashPos + 1);
+    /**
+     * A {@code type#name} property name, split.
+     */
+    static final class TypedKey {
+        final String type;
+        final String name;
 
-            targetMap.put(name, deserializer.deserialize(type, parser, mapper, parser.next()));
+        TypedKey(String type, String name) {
+            this.type = type;
+            this.name = name;
         }
     }
 
@@ -142,26 +203,21 @@ public class ExternallyTaggedUnion {
     ) {
         return JsonpDeserializer.of(EnumSet.of(Event.START_OBJECT), (parser, mapper, event) -> {
             Map<String, List<T>> result = new HashMap<>();
-            String key = null;
             while ((event = parser.next()) != Event.END_OBJECT) {
                 JsonpUtils.expectEvent(parser, event, Event.KEY_NAME);
                 // Split key and type
-                key = parser.getString();
-                int hashPos = key.indexOf('#');
-
-                String type = key.substring(0, hashPos);
-                String name = key.substring(hashPos + 1);
+                TypedKey typedKey = deserializer.typedKey(parser.getString(), parser);
 
                 List<T> list = new ArrayList<>();
                 JsonpUtils.expectNextEvent(parser, Event.START_ARRAY);
                 try {
                     while ((event = parser.next()) != Event.END_ARRAY) {
-                        list.add(deserializer.deserializer.deserialize(type, parser, mapper, event));
+                        list.add(deserializer.deserializer.deserialize(typedKey.type, parser, mapper, event));
                     }
                 } catch (Exception e) {
                     throw e;
                 }
-                result.put(name, list);
+                result.put(typedKey.name, list);
             }
             return result;
         });
@@ -41,7 +41,6 @@ import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 import jakarta.json.stream.JsonParsingException;
 import java.io.StringReader;
-import java.util.AbstractMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -140,44 +139,16 @@ public class JsonpUtils {
     ) {
         JsonLocation location = parser.getLocation();
 
-        if (parser instanceof LookAheadJsonParser) {
-            // Fast buffered path
-            Map.Entry<String, JsonParser> result = ((LookAheadJsonParser) parser).lookAheadFieldValue(name, defaultValue);
-            if (result.getKey() == null) {
-                throw new JsonParsingException("Property '" + name + "' not found", location);
-            }
-            return result;
+        // Parsers other than Jackson's buffer the events they read ahead and replay them
+        LookAheadJsonParser lookAheadParser = parser instanceof LookAheadJsonParser
+            ? (LookAheadJsonParser) parser
+            : new BufferingLookAheadJsonParser(parser, mapper.jsonProvider());
 
-        } else {
-            // Unbuffered path: parse the object into a JsonObject, then extract the value and parse it again
-            JsonObject object = parser.getObject();
-            String result = object.getString(name, null);
-
-            if (result == null) {
-                result = defaultValue;
-            }
-
-            if (result == null) {
-                throw new JsonParsingException("Property '" + name + "' not found", location);
-            }
-
-            JsonParser newParser = objectParser(object, mapper);
-
-            // Pin location to the start of the look ahead, as the new parser will return locations in its own buffer
-            newParser = new DelegatingJsonParser(newParser) {
-                @Override
-                public JsonLocation getLocation() {
-                    return new JsonLocationImpl(location.getLineNumber(), location.getColumnNumber(), location.getStreamOffset()) {
-                        @Override
-                        public String toString() {
-                            return "(in object at " + super.toString().substring(1);
-                        }
-                    };
-                }
-            };
-
-            return new AbstractMap.SimpleImmutableEntry<>(result, newParser);
+        Map.Entry<String, JsonParser> result = lookAheadParser.lookAheadFieldValue(name, defaultValue);
+        if (result.getKey() == null) {
+            throw new JsonParsingException("Property '" + name + "' not found", location);
         }
+        return result;
     }
 
     /**
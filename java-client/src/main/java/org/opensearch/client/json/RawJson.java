@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import javax.annotation.Nullable;
+
+/**
+ * A JSON value kept as UTF-8 encoded JSON text. It can be used as the document type of search results or get
+ * responses to forward documents as they were received, without converting them to a JSON node tree or to an object.
+ * <p>
+ * With parsers that implement {@link RawJsonParser}, like the Jackson-based one, the value is copied as text while the
+ * response is parsed. Other parsers read it as a {@link JsonValue} that is then written as text.
+ * <p>
+ * Instances of this class returned by API clients keep a reference to the client's {@link JsonpMapper} and can be
+ * converted to arbitrary types using {@link #to(Class)} without requiring an explicit mapper.
+ */
+@JsonpDeserializable
+public final class RawJson implements JsonpSerializable {
+    private final byte[] json;
+    @Nullable
+    private final JsonpMapper mapper;
+
+    private RawJson(byte[] json, @Nullable JsonpMapper mapper) {
+        this.json = json;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Creates a raw JSON value from UTF-8 encoded JSON text. The array is used as is and must not be modified afterwards.
+     */
+    public static RawJson of(byte[] json) {
+        return new RawJson(json, null);
+    }
+
+    /**
+     * Creates a raw JSON value from JSON text.
+     */
+    public static RawJson of(String json) {
+        return new RawJson(json.getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    /**
+     * Number of bytes of the UTF-8 encoded JSON text.
+     */
+    public int size() {
+        return json.length;
+    }
+
+    /**
+     * Returns a copy of the UTF-8 encoded JSON text.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(json, json.length);
+    }
+
+    /**
+     * Returns an input stream over the UTF-8 encoded JSON text.
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(json);
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON text to an output stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(json);
+    }
+
+    /**
+     * Converts this value to a target class. A mapper must have been provided at creation time.
+     *
+     * @throws IllegalStateException if no mapper was provided at creation time.
+     */
+    public <T> T to(Class<T> clazz) {
+        return to(clazz, null);
+    }
+
+    /**
+     * Converts this value to a target class.
+     */
+    public <T> T to(Class<T> clazz, @Nullable JsonpMapper mapper) {
+        mapper = getMapper(mapper);
+        try (JsonParser parser = mapper.jsonProvider().createParser(toInputStream())) {
+            return mapper.deserialize(parser, clazz);
+        }
+    }
+
+    /**
+     * Converts this value to a JSON node tree.
+     */
+    public JsonValue toJson(@Nullable JsonpMapper mapper) {
+        mapper = getMapper(mapper);
+        try (JsonParser parser = mapper.jsonProvider().createParser(toInputStream())) {
+            parser.next();
+            return parser.getValue();
+        }
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, JsonpMapper mapper) {
+        if (generator instanceof RawJsonGenerator) {
+            ((RawJsonGenerator) generator).writeRawValue(json, 0, json.length);
+        } else {
+            generator.write(toJson(mapper));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(json, ((RawJson) o).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(json);
+    }
+
+    private JsonpMapper getMapper(@Nullable JsonpMapper localMapper) {
+        // Local mapper has precedence over the one provided at creation time
+        localMapper = localMapper != null ? localMapper : this.mapper;
+        if (localMapper == null) {
+            throw new IllegalStateException("A JsonpMapper is needed to convert RawJson");
+        }
+        return localMapper;
+    }
+
+    private static RawJson from(JsonParser parser, JsonpMapper mapper, Event event) {
+        if (parser instanceof RawJsonParser) {
+            return new RawJson(((RawJsonParser) parser).getRawValue(), mapper);
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(baos)) {
+            generator.write(parser.getValue());
+        }
+        return new RawJson(baos.toByteArray(), mapper);
+    }
+
+    public static final JsonpDeserializer<RawJson> _DESERIALIZER = JsonpDeserializer.of(
+        EnumSet.of(
+            Event.START_OBJECT,
+            Event.START_ARRAY,
+            Event.VALUE_STRING,
+            Event.VALUE_NUMBER,
+            Event.VALUE_TRUE,
+            Event.VALUE_FALSE,
+            Event.VALUE_NULL
+        ),
+        RawJson::from
+    );
+}
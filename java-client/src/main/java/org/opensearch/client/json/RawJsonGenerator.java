@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A generator that can write a value given as JSON text, without parsing it.
+ *
+ * @see RawJson
+ */
+public interface RawJsonGenerator extends JsonGenerator {
+
+    /**
+     * Write a value given as UTF-8 encoded JSON text. The text is written as is, and must be a valid JSON value.
+     */
+    JsonGenerator writeRawValue(byte[] json, int offset, int length);
+}
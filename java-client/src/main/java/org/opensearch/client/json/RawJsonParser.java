@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A parser that can read the current value as JSON text, without building a {@link jakarta.json.JsonValue} tree.
+ *
+ * @see RawJson
+ */
+public interface RawJsonParser extends JsonParser {
+
+    /**
+     * Read the current value as UTF-8 encoded JSON text. The parser must be on the first event of the value, and is
+     * moved to its last event, like {@link #getValue()} does.
+     */
+    byte[] getRawValue();
+}
@@ -32,7 +32,6 @@
 
 package org.opensearch.client.json;
 
-import jakarta.json.JsonObject;
 import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
@@ -286,29 +285,16 @@ public class UnionDeserializer<Union, Kind, Member> implements JsonpDeserializer
         JsonLocation location = parser.getLocation();
 
         if (member == null && event == Event.START_OBJECT && !objectMembers.isEmpty()) {
-            if (parser instanceof LookAheadJsonParser) {
-                Map.Entry<EventHandler<Union, Kind, Member>, JsonParser> memberAndParser = ((LookAheadJsonParser) parser).findVariant(
-                    objectMembers
-                );
+            // Parsers other than Jackson's buffer the events they read ahead and replay them
+            LookAheadJsonParser lookAheadParser = parser instanceof LookAheadJsonParser
+                ? (LookAheadJsonParser) parser
+                : new BufferingLookAheadJsonParser(parser, mapper.jsonProvider());
 
-                member = memberAndParser.getKey();
-                // Parse the buffered parser
-                parser = memberAndParser.getValue();
+            Map.Entry<EventHandler<Union, Kind, Member>, JsonParser> memberAndParser = lookAheadParser.findVariant(objectMembers);
 
-            } else {
-                // Parse as an object to find matching field names
-                JsonObject object = parser.getObject();
-
-                for (String field : object.keySet()) {
-                    member = objectMembers.get(field);
-                    if (member != null) {
-                        break;
-                    }
-                }
-
-                // Traverse the object we have inspected
-                parser = JsonpUtils.objectParser(object, mapper);
-            }
+            member = memberAndParser.getKey();
+            // Parse the buffered parser
+            parser = memberAndParser.getValue();
 
             if (member == null) {
                 member = fallbackObjectMember;
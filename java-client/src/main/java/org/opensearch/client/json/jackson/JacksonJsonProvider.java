@@ -57,11 +57,12 @@ import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Map;
+import org.opensearch.client.json.ByteArrayJsonParserFactory;
 
 /**
  * A partial implementation of JSONP's SPI on top of Jackson.
  */
-public class JacksonJsonProvider extends JsonProvider {
+public class JacksonJsonProvider extends JsonProvider implements ByteArrayJsonParserFactory {
 
     private final JsonFactory jsonFactory;
 
@@ -105,6 +106,19 @@ public class JacksonJsonProvider extends JsonProvider {
         return defaultParserFactory.createParser(in);
     }
 
+    /**
+     * Create a parser of UTF-8 encoded JSON text. Unions found in the input are parsed again from the input once their
+     * variant was found, rather than buffered.
+     */
+    @Override
+    public JsonParser createParser(byte[] input, int offset, int length) {
+        try {
+            return new JacksonJsonpParser(jsonFactory.createParser(input, offset, length), jsonFactory, input, offset);
+        } catch (IOException ioe) {
+            throw JacksonUtils.convertException(ioe);
+        }
+    }
+
     private class ParserFactory implements JsonParserFactory {
 
         private final Map<String, ?> config;
@@ -41,12 +41,14 @@ import jakarta.json.stream.JsonGenerator;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import org.opensearch.client.json.RawJsonGenerator;
 
 /**
  * A JSONP generator implementation on top of Jackson.
  */
-public class JacksonJsonpGenerator implements JsonGenerator {
+public class JacksonJsonpGenerator implements RawJsonGenerator {
 
     private final com.fasterxml.jackson.core.JsonGenerator generator;
 
@@ -239,6 +241,16 @@ public class JacksonJsonpGenerator implements JsonGenerator {
         return this;
     }
 
+    @Override
+    public JsonGenerator writeRawValue(byte[] json, int offset, int length) {
+        try {
+            generator.writeRawValue(new String(json, offset, length, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw JacksonUtils.convertException(e);
+        }
+        return this;
+    }
+
     @Override
     public JsonGenerator write(String value) {
         try {
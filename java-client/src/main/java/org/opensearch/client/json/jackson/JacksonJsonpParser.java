@@ -32,7 +32,10 @@
 
 package org.opensearch.client.json.jackson;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
 import jakarta.json.JsonArray;
@@ -48,7 +51,9 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.opensearch.client.json.LookAheadJsonParser;
+import org.opensearch.client.json.RawJsonParser;
 import org.opensearch.client.json.UnexpectedJsonEventException;
 
 /**
@@ -59,10 +64,22 @@ import org.opensearch.client.json.UnexpectedJsonEventException;
  * getter method (e.g. {@link #getInt()} or {@link #getString()} should be called until the next call to {@link #next()}.
  * Such calls will throw an {@code IllegalStateException}.
  */
-public class JacksonJsonpParser implements LookAheadJsonParser {
+public class JacksonJsonpParser implements LookAheadJsonParser, RawJsonParser {
+
+    // Used to write raw values as plain JSON, whatever the configuration of the factory that created the parser
+    private static final JsonFactory rawValueFactory = new JsonFactory();
 
     private final com.fasterxml.jackson.core.JsonParser parser;
 
+    // The input of the parser if it reads an array of bytes, from which looked ahead objects are parsed again
+    @Nullable
+    private final JsonFactory factory;
+    @Nullable
+    private final byte[] input;
+    private final int inputOffset;
+    // Whether the parser only reads an object that was looked ahead
+    private boolean closeAtObjectEnd = false;
+
     private boolean hasNextWasCalled = false;
 
     private static final EnumMap<JsonToken, Event> tokenToEvent;
@@ -87,7 +104,28 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
     }
 
     public JacksonJsonpParser(com.fasterxml.jackson.core.JsonParser parser) {
+        this(parser, null, null, 0);
+    }
+
+    /**
+     * Creates a parser that reads an array of bytes. The look ahead methods of such a parser skip the fields they don't
+     * need and parse the object again from the input, rather than copying these fields to a buffer.
+     *
+     * @param parser      a parser of the input created by {@code factory}
+     * @param factory     the factory that creates the parsers of the objects in the input
+     * @param input       the input of the parser
+     * @param inputOffset the offset in the input of the locations of the parser, i.e. where it started reading
+     */
+    JacksonJsonpParser(
+        com.fasterxml.jackson.core.JsonParser parser,
+        @Nullable JsonFactory factory,
+        @Nullable byte[] input,
+        int inputOffset
+    ) {
         this.parser = parser;
+        this.factory = factory;
+        this.input = input;
+        this.inputOffset = inputOffset;
     }
 
     /**
@@ -103,7 +141,12 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
 
     private JsonToken fetchNextToken() {
         try {
-            return parser.nextToken();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_OBJECT && closeAtObjectEnd && parser.getParsingContext().inRoot()) {
+                // The object that was parsed again ended: release the buffers of the parser to the next one
+                parser.close();
+            }
+            return token;
         } catch (IOException e) {
             throw convertException(e);
         }
@@ -151,6 +194,11 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
     public String getString() {
         ensureTokenIsCurrent();
         try {
+            if (parser.currentToken() == JsonToken.FIELD_NAME) {
+                // Field names are canonicalized by Jackson's symbol table: this doesn't allocate a new string for each
+                // occurrence of a name, and interned names are found in the field deserializer maps by identity.
+                return parser.currentName();
+            }
             return parser.getValueAsString();
         } catch (IOException e) {
             throw convertException(e);
@@ -254,6 +302,23 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
         }
     }
 
+    @Override
+    public byte[] getRawValue() {
+        ensureTokenIsCurrent();
+        // Copy into recycled buffers, so that only the resulting array is allocated
+        final ByteArrayBuilder buffer = new ByteArrayBuilder(rawValueFactory._getBufferRecycler());
+        try {
+            try (JsonGenerator generator = rawValueFactory.createGenerator(buffer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw convertException(e);
+        } finally {
+            buffer.release();
+        }
+    }
+
     @Override
     public void skipObject() {
         ensureTokenIsCurrent();
@@ -325,14 +390,19 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
     }
 
     // ----- Look ahead methods
+    //
+    // The events of the fields that are read before the one looked for are copied to a buffer, and replayed before
+    // the rest of the object. If the parser reads an array of bytes, these fields are skipped instead, and the object
+    // is parsed again from the input. Either way, the remaining events are read from this parser if the field looked
+    // for is the first one, which is the most common case.
 
     public Map.Entry<String, JsonParser> lookAheadFieldValue(String name, String defaultValue) {
-
-        TokenBuffer tb = new TokenBuffer(parser, null);
+        // We're on a START_OBJECT event
+        long objectOffset = tokenInputOffset();
+        TokenBuffer tb = null;
+        boolean skipped = false;
 
         try {
-            // The resulting parser must contain the full object, including START_EVENT
-            tb.copyCurrentEvent(parser);
             while (parser.nextToken() != JsonToken.END_OBJECT) {
 
                 expectEvent(JsonToken.FIELD_NAME);
@@ -341,39 +411,49 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
                 String fieldName = parser.getCurrentName();
                 if (fieldName.equals(name)) {
                     // Found
+                    if (skipped) {
+                        expectNextEvent(JsonToken.VALUE_STRING);
+                        String value = parser.getText();
+                        skipRemainingFields();
+                        return new AbstractMap.SimpleImmutableEntry<>(value, objectParser(objectOffset));
+                    }
+                    tb = startBuffer(tb);
                     tb.copyCurrentEvent(parser);
                     expectNextEvent(JsonToken.VALUE_STRING);
                     tb.copyCurrentEvent(parser);
 
-                    return new AbstractMap.SimpleImmutableEntry<>(
-                        parser.getText(),
-                        new JacksonJsonpParser(JsonParserSequence.createFlattened(false, tb.asParser(), parser))
-                    );
+                    return new AbstractMap.SimpleImmutableEntry<>(parser.getText(), bufferedParser(tb));
+                } else if (objectOffset >= 0) {
+                    skipField();
+                    skipped = true;
                 } else {
+                    tb = startBuffer(tb);
                     tb.copyCurrentStructure(parser);
                 }
             }
+
+            if (objectOffset >= 0) {
+                return new AbstractMap.SimpleImmutableEntry<>(defaultValue, objectParser(objectOffset));
+            }
             // Copy ending END_OBJECT
+            tb = startBuffer(tb);
             tb.copyCurrentEvent(parser);
         } catch (IOException e) {
             throw JacksonUtils.convertException(e);
         }
 
         // Field not found
-        return new AbstractMap.SimpleImmutableEntry<>(
-            defaultValue,
-            new JacksonJsonpParser(JsonParserSequence.createFlattened(false, tb.asParser(), parser))
-        );
+        return new AbstractMap.SimpleImmutableEntry<>(defaultValue, bufferedParser(tb));
     }
 
     @Override
     public <Variant> Map.Entry<Variant, JsonParser> findVariant(Map<String, Variant> variants) {
         // We're on a START_OBJECT event
-        TokenBuffer tb = new TokenBuffer(parser, null);
+        long objectOffset = tokenInputOffset();
+        TokenBuffer tb = null;
+        boolean skipped = false;
 
         try {
-            // The resulting parser must contain the full object, including START_EVENT
-            tb.copyCurrentEvent(parser);
             while (parser.nextToken() != JsonToken.END_OBJECT) {
 
                 expectEvent(JsonToken.FIELD_NAME);
@@ -381,26 +461,89 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
 
                 Variant variant = variants.get(fieldName);
                 if (variant != null) {
+                    if (skipped) {
+                        skipField();
+                        skipRemainingFields();
+                        return new AbstractMap.SimpleImmutableEntry<>(variant, objectParser(objectOffset));
+                    }
+                    tb = startBuffer(tb);
                     tb.copyCurrentEvent(parser);
-                    return new AbstractMap.SimpleImmutableEntry<>(
-                        variant,
-                        new JacksonJsonpParser(JsonParserSequence.createFlattened(false, tb.asParser(), parser))
-                    );
+                    return new AbstractMap.SimpleImmutableEntry<>(variant, bufferedParser(tb));
+                } else if (objectOffset >= 0) {
+                    skipField();
+                    skipped = true;
                 } else {
+                    tb = startBuffer(tb);
                     tb.copyCurrentStructure(parser);
                 }
             }
+
+            if (objectOffset >= 0) {
+                return new AbstractMap.SimpleImmutableEntry<>(null, objectParser(objectOffset));
+            }
             // Copy ending END_OBJECT
+            tb = startBuffer(tb);
             tb.copyCurrentEvent(parser);
         } catch (IOException e) {
             throw JacksonUtils.convertException(e);
         }
 
         // No variant found: return the buffered parser and let the caller decide what to do.
-        return new AbstractMap.SimpleImmutableEntry<>(
-            null,
-            new JacksonJsonpParser(JsonParserSequence.createFlattened(false, tb.asParser(), parser))
-        );
+        return new AbstractMap.SimpleImmutableEntry<>(null, bufferedParser(tb));
+    }
+
+    /**
+     * The offset in the input of the current event, or {@code -1} if this parser doesn't read an array of bytes or the
+     * event was replayed from a buffer.
+     */
+    private long tokenInputOffset() {
+        if (input == null) {
+            return -1;
+        }
+        long offset = parser.getTokenLocation().getByteOffset();
+        return offset < 0 ? -1 : inputOffset + offset;
+    }
+
+    private TokenBuffer startBuffer(@Nullable TokenBuffer tb) throws IOException {
+        if (tb == null) {
+            // The resulting parser must contain the full object, including START_EVENT
+            tb = new TokenBuffer(parser, null);
+            tb.writeStartObject();
+        }
+        return tb;
+    }
+
+    /**
+     * A parser of the buffered events followed by the events of this parser.
+     */
+    private JsonParser bufferedParser(TokenBuffer tb) {
+        return new JacksonJsonpParser(JsonParserSequence.createFlattened(false, tb.asParser(), parser), factory, input, inputOffset);
+    }
+
+    /**
+     * A parser of the object that ends with the current event, from its offset in the input.
+     */
+    private JsonParser objectParser(long objectOffset) throws IOException {
+        int start = (int) objectOffset;
+        int end = (int) (inputOffset + parser.getCurrentLocation().getByteOffset());
+        JacksonJsonpParser objectParser = new JacksonJsonpParser(factory.createParser(input, start, end - start), factory, input, start);
+        objectParser.closeAtObjectEnd = true;
+        return objectParser;
+    }
+
+    /**
+     * Skips the value of the current field.
+     */
+    private void skipField() throws IOException {
+        parser.nextToken();
+        parser.skipChildren();
+    }
+
+    private void skipRemainingFields() throws IOException {
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            expectEvent(JsonToken.FIELD_NAME);
+            skipField();
+        }
     }
 
     private void expectNextEvent(JsonToken expected) throws IOException {
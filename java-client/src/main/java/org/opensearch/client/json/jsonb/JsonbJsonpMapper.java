@@ -41,6 +41,8 @@ import jakarta.json.stream.JsonParser.Event;
 import java.io.CharArrayReader;
 import java.io.CharArrayWriter;
 import java.util.EnumSet;
+import org.eclipse.yasson.YassonJsonb;
+import org.opensearch.client.json.DelegatingJsonParser;
 import org.opensearch.client.json.JsonpDeserializer;
 import org.opensearch.client.json.JsonpDeserializerBase;
 import org.opensearch.client.json.JsonpMapper;
@@ -48,13 +50,20 @@ import org.opensearch.client.json.JsonpMapperBase;
 import org.opensearch.client.json.JsonpSerializable;
 
 public class JsonbJsonpMapper extends JsonpMapperBase {
+    // Yasson is optional at runtime, as applications may use another JSON-B implementation
+    private static final boolean YASSON_AVAILABLE = isYassonAvailable();
+    // Buffers of the fallback deserialization path that are larger than this are not kept for reuse
+    private static final int MAX_RETAINED_BUFFER_CHARS = 64 * 1024;
+    private static final ThreadLocal<ReusableCharArrayWriter> BUFFERS = new ThreadLocal<>();
 
     private final JsonProvider jsonProvider;
     private final Jsonb jsonb;
+    private final boolean yasson;
 
     public JsonbJsonpMapper(JsonProvider jsonProvider, Jsonb jsonb) {
         this.jsonProvider = jsonProvider;
         this.jsonb = jsonb;
+        this.yasson = YASSON_AVAILABLE && Yasson.isYasson(jsonb);
     }
 
     public JsonbJsonpMapper(JsonProvider jsonProvider, JsonbProvider jsonbProvider) {
@@ -101,18 +110,99 @@ public class JsonbJsonpMapper extends JsonpMapperBase {
 
         @Override
         public T deserialize(JsonParser parser, JsonpMapper mapper, JsonParser.Event event) {
-            // TODO: Add a runtime check to use Yasson's JsonB extensions
+            if (yasson) {
+                // Yasson's extensions deserialize straight from the parser, which is positioned after the first event
+                // of the value and must replay it
+                return Yasson.fromJson(jsonb, new ReplayingJsonParser(parser, event), clazz);
+            }
+
             // JsonB doesn't provide methods to deserialize from a JsonParser or a JsonValue. We therefore have
-            // to roundtrip through a string, which is far from efficient. Yasson addresses this with an additional
-            // `YassonJsonb` that extends the base JSON-B interface with additional mapping functions. We should check
-            // here at runtime if the mapper implements this interface and use it if present.
-            CharArrayWriter caw = new CharArrayWriter();
-            JsonGenerator generator = jsonProvider.createGenerator(caw);
-            transferAll(parser, event, generator);
-            generator.close();
-
-            CharArrayReader car = new CharArrayReader(caw.toCharArray());
-            return jsonb.fromJson(car, clazz);
+            // to roundtrip through a string, using a buffer that is reused by the following values of this thread.
+            ReusableCharArrayWriter caw = BUFFERS.get();
+            if (caw == null) {
+                caw = new ReusableCharArrayWriter();
+            } else {
+                // Not shared with values deserialized while this one is, e.g. by a JSON-B adapter
+                BUFFERS.remove();
+            }
+            try {
+                JsonGenerator generator = jsonProvider.createGenerator(caw);
+                transferAll(parser, event, generator);
+                generator.close();
+
+                return jsonb.fromJson(caw.reader(), clazz);
+            } finally {
+                if (caw.capacity() <= MAX_RETAINED_BUFFER_CHARS) {
+                    caw.reset();
+                    BUFFERS.set(caw);
+                }
+            }
+        }
+    }
+
+    private static boolean isYassonAvailable() {
+        try {
+            Class.forName("org.eclipse.yasson.YassonJsonb", false, JsonbJsonpMapper.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Calls to Yasson's extensions of JSON-B, in a class of its own so that it is only loaded when Yasson is available.
+     */
+    private static final class Yasson {
+        static boolean isYasson(Jsonb jsonb) {
+            return jsonb instanceof YassonJsonb;
+        }
+
+        static <T> T fromJson(Jsonb jsonb, JsonParser parser, Class<T> clazz) {
+            return ((YassonJsonb) jsonb).fromJson(parser, clazz);
+        }
+    }
+
+    /**
+     * A parser that returns the event a parser is positioned on before moving it forward.
+     */
+    private static final class ReplayingJsonParser extends DelegatingJsonParser {
+        private JsonParser.Event event;
+
+        ReplayingJsonParser(JsonParser parser, JsonParser.Event event) {
+            super(parser);
+            this.event = event;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return event != null || super.hasNext();
+        }
+
+        @Override
+        public Event next() {
+            if (event != null) {
+                Event result = event;
+                event = null;
+                return result;
+            }
+            return super.next();
+        }
+    }
+
+    /**
+     * A writer whose content is read without being copied, and whose buffer is kept once reset.
+     */
+    private static final class ReusableCharArrayWriter extends CharArrayWriter {
+        ReusableCharArrayWriter() {
+            super(1024);
+        }
+
+        CharArrayReader reader() {
+            return new CharArrayReader(buf, 0, count);
+        }
+
+        int capacity() {
+            return buf.length;
         }
     }
 
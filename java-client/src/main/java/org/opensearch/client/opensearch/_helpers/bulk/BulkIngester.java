@@ -0,0 +1,743 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.util.ObjectBuilder;
+import org.opensearch.client.util.ObjectBuilderBase;
+
+/**
+ * Accumulates bulk operations and sends them in {@link BulkRequest}s using {@link OpenSearchAsyncClient#bulk(BulkRequest)}.
+ * <p>
+ * Buffered operations are flushed when the number of operations or their estimated serialized size reach the configured
+ * limits, when the flush interval elapses, or when {@link #flush()} or {@link #close()} are called.
+ * <p>
+ * The number of concurrent requests is capped: when that limit is reached and the buffer is full, {@link #add(BulkOperation)}
+ * either blocks until a request completes or throws a {@link RejectedExecutionException}, depending on
+ * {@link Builder#blockOnBackpressure(boolean)}. Operations rejected by the server with {@code 429 Too Many Requests} are
+ * retried with an exponential backoff.
+ *
+ * @param <Context> the type of the contexts that can be associated to operations and are passed back to the {@link BulkListener}.
+ */
+public class BulkIngester<Context> implements AutoCloseable {
+
+    private static final AtomicLong INGESTER_IDS = new AtomicLong(0);
+
+    private final OpenSearchAsyncClient client;
+    private final JsonpMapper mapper;
+    private final int maxOperations;
+    private final long maxSize;
+    private final int maxConcurrentRequests;
+    private final boolean blockOnBackpressure;
+    private final int maxRetries;
+    private final long initialRetryDelayMillis;
+    private final long maxRetryDelayMillis;
+    @Nullable
+    private final Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>> globalSettings;
+    @Nullable
+    private final BulkListener<Context> listener;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    @Nullable
+    private final ScheduledFuture<?> flushTask;
+
+    // Buffer and request state, guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+    private List<PendingOperation<Context>> pending = new ArrayList<>();
+    private long pendingSize = 0;
+    private int inFlightRequests = 0;
+    private int scheduledRetries = 0;
+    private boolean flushRequested = false;
+    private boolean closed = false;
+
+    // Metrics
+    private final AtomicLong executionIds = new AtomicLong(0);
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder failedRequestCount = new LongAdder();
+    private final LongAdder operationCount = new LongAdder();
+    private final LongAdder retriedOperationCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong(0);
+
+    private BulkIngester(Builder<Context> builder) {
+        this.client = Objects.requireNonNull(builder.client, "client must not be null");
+        this.mapper = client._transport().jsonpMapper();
+        this.maxOperations = builder.maxOperations;
+        this.maxSize = builder.maxSize;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.blockOnBackpressure = builder.blockOnBackpressure;
+        this.maxRetries = builder.maxRetries;
+        this.initialRetryDelayMillis = builder.initialRetryDelayMillis;
+        this.maxRetryDelayMillis = builder.maxRetryDelayMillis;
+        this.globalSettings = builder.globalSettings;
+        this.listener = builder.listener;
+
+        if (builder.scheduler != null) {
+            this.scheduler = builder.scheduler;
+            this.ownsScheduler = false;
+        } else {
+            final String threadName = "bulk-ingester-" + INGESTER_IDS.incrementAndGet();
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ownsScheduler = true;
+        }
+
+        if (builder.flushIntervalMillis > 0) {
+            this.flushTask = scheduler.scheduleWithFixedDelay(
+                this::flush,
+                builder.flushIntervalMillis,
+                builder.flushIntervalMillis,
+                TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.flushTask = null;
+        }
+    }
+
+    public static <Context> BulkIngester<Context> of(Function<Builder<Context>, ObjectBuilder<BulkIngester<Context>>> fn) {
+        return fn.apply(new Builder<>()).build();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Adds an operation to the ingester.
+     *
+     * @throws RejectedExecutionException if backpressure blocking is disabled and the maximum number of concurrent requests
+     *         is reached, or if the calling thread was interrupted while waiting for a request to complete.
+     * @throws IllegalStateException if the ingester has been closed.
+     */
+    public void add(BulkOperation operation) {
+        add(operation, null);
+    }
+
+    /**
+     * Adds an operation to the ingester, along with a context that will be passed back to the {@link BulkListener}.
+     *
+     * @throws RejectedExecutionException if backpressure blocking is disabled and the maximum number of concurrent requests
+     *         is reached, or if the calling thread was interrupted while waiting for a request to complete.
+     * @throws IllegalStateException if the ingester has been closed.
+     */
+    public void add(BulkOperation operation, @Nullable Context context) {
+        Objects.requireNonNull(operation, "operation must not be null");
+        // Estimate size outside of the lock, as it requires serializing the operation
+        final long size = maxSize > 0 ? estimateSize(operation) : 0;
+
+        final PendingRequest<Context> request;
+        lock.lock();
+        try {
+            ensureOpen();
+            while (isFull() && inFlightRequests >= maxConcurrentRequests) {
+                if (!blockOnBackpressure) {
+                    throw new RejectedExecutionException(
+                        "Bulk ingester is full: ["
+                            + inFlightRequests
+                            + "] requests in flight and ["
+                            + pending.size()
+                            + "] pending operations"
+                    );
+                }
+                try {
+                    stateChanged.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for a bulk request to complete", e);
+                }
+                ensureOpen();
+            }
+
+            pending.add(new PendingOperation<>(operation, context, size, 0));
+            pendingSize += size;
+            request = isFull() ? takeRequest() : null;
+        } finally {
+            lock.unlock();
+        }
+
+        if (request != null) {
+            send(request);
+        }
+    }
+
+    /**
+     * Sends the buffered operations. If the maximum number of concurrent requests is reached, they will be sent as soon as
+     * a request completes.
+     */
+    public void flush() {
+        final PendingRequest<Context> request;
+        lock.lock();
+        try {
+            request = takeRequest();
+        } finally {
+            lock.unlock();
+        }
+
+        if (request != null) {
+            send(request);
+        }
+    }
+
+    /**
+     * Flushes the buffered operations and waits for all requests, including pending retries, to complete. The ingester
+     * cannot be used anymore once closed.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+
+        lock.lock();
+        try {
+            while (true) {
+                PendingRequest<Context> request = takeRequest();
+                if (request != null) {
+                    lock.unlock();
+                    try {
+                        send(request);
+                    } finally {
+                        lock.lock();
+                    }
+                } else if (pending.isEmpty() && inFlightRequests == 0 && scheduledRetries == 0) {
+                    break;
+                } else {
+                    stateChanged.awaitUninterruptibly();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // ----- Metrics
+
+    /**
+     * Number of bulk requests that have been sent, including those that contain retried operations.
+     */
+    public long requestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Number of bulk requests that failed entirely, either on the client or on the server.
+     */
+    public long failedRequestCount() {
+        return failedRequestCount.sum();
+    }
+
+    /**
+     * Number of operations that have been sent, including retries.
+     */
+    public long operationCount() {
+        return operationCount.sum();
+    }
+
+    /**
+     * Number of operations that have been retried after a {@code 429 Too Many Requests} response.
+     */
+    public long retriedOperationCount() {
+        return retriedOperationCount.sum();
+    }
+
+    /**
+     * Average client-side latency of the completed bulk requests, in nanoseconds.
+     */
+    public long averageLatencyNanos() {
+        long count = requestCount.sum();
+        return count == 0 ? 0 : totalLatencyNanos.sum() / count;
+    }
+
+    /**
+     * Maximum client-side latency of the completed bulk requests, in nanoseconds.
+     */
+    public long maxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    /**
+     * Number of requests that are currently in flight.
+     */
+    public int inFlightRequests() {
+        lock.lock();
+        try {
+            return inFlightRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of operations that are buffered and waiting to be sent.
+     */
+    public int pendingOperations() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estimated serialized size of the operations that are buffered and waiting to be sent, in bytes.
+     */
+    public long pendingSize() {
+        lock.lock();
+        try {
+            return pendingSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Bulk ingester is closed");
+        }
+    }
+
+    private boolean isFull() {
+        return (maxOperations > 0 && pending.size() >= maxOperations) || (maxSize > 0 && pendingSize >= maxSize);
+    }
+
+    /**
+     * Takes the buffered operations if a request slot is available. Must be called with the lock held.
+     */
+    @Nullable
+    private PendingRequest<Context> takeRequest() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        if (inFlightRequests >= maxConcurrentRequests) {
+            // Will be sent when a request completes
+            flushRequested = true;
+            return null;
+        }
+
+        PendingRequest<Context> request = new PendingRequest<>(pending);
+        pending = new ArrayList<>();
+        pendingSize = 0;
+        flushRequested = false;
+        inFlightRequests++;
+        return request;
+    }
+
+    private void send(PendingRequest<Context> pendingRequest) {
+        final long executionId = executionIds.incrementAndGet();
+
+        BulkRequest.Builder builder = new BulkRequest.Builder();
+        if (globalSettings != null) {
+            globalSettings.apply(builder);
+        }
+        final BulkRequest request = builder.operations(pendingRequest.operations()).build();
+        final List<Context> contexts = pendingRequest.contexts();
+
+        requestCount.increment();
+        operationCount.add(pendingRequest.operations.size());
+
+        final long start = System.nanoTime();
+        CompletableFuture<BulkResponse> future;
+        try {
+            // A failing listener fails the request, which then releases its slot like any other
+            if (listener != null) {
+                listener.beforeBulk(executionId, request, contexts);
+            }
+            future = client.bulk(request);
+        } catch (Exception e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+
+        future.whenComplete((response, failure) -> {
+            final long tookNanos = System.nanoTime() - start;
+            totalLatencyNanos.add(tookNanos);
+            maxLatencyNanos.accumulateAndGet(tookNanos, Math::max);
+            try {
+                if (failure != null) {
+                    failedRequestCount.increment();
+                    if (listener != null) {
+                        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+                        listener.afterBulk(executionId, request, contexts, cause, tookNanos);
+                    }
+                } else {
+                    scheduleRetries(pendingRequest, response);
+                    if (listener != null) {
+                        listener.afterBulk(executionId, request, contexts, response, tookNanos);
+                    }
+                }
+            } finally {
+                onRequestCompleted();
+            }
+        });
+    }
+
+    private void onRequestCompleted() {
+        PendingRequest<Context> request = null;
+        lock.lock();
+        try {
+            inFlightRequests--;
+            if (isFull() || flushRequested || closed) {
+                request = takeRequest();
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (request != null) {
+            send(request);
+        }
+    }
+
+    /**
+     * Schedules the operations that were rejected with a {@code 429} status to be sent again after a delay.
+     */
+    private void scheduleRetries(PendingRequest<Context> request, BulkResponse response) {
+        if (maxRetries <= 0 || !response.errors() || response.items().size() != request.operations.size()) {
+            return;
+        }
+
+        List<PendingOperation<Context>> retries = null;
+        int maxAttempts = 0;
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            PendingOperation<Context> operation = request.operations.get(i);
+            if (items.get(i).status() == 429 && operation.attempts < maxRetries) {
+                if (retries == null) {
+                    retries = new ArrayList<>();
+                }
+                retries.add(new PendingOperation<>(operation.operation, operation.context, operation.size, operation.attempts + 1));
+                maxAttempts = Math.max(maxAttempts, operation.attempts);
+            }
+        }
+
+        if (retries == null) {
+            return;
+        }
+
+        retriedOperationCount.add(retries.size());
+        final List<PendingOperation<Context>> toRetry = retries;
+        final long delay = Math.min(maxRetryDelayMillis, initialRetryDelayMillis << Math.min(maxAttempts, 30));
+
+        lock.lock();
+        try {
+            scheduledRetries++;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            scheduler.schedule(() -> requeue(toRetry), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Scheduler was shut down: retry immediately
+            requeue(toRetry);
+        }
+    }
+
+    private void requeue(List<PendingOperation<Context>> operations) {
+        PendingRequest<Context> request = null;
+        lock.lock();
+        try {
+            scheduledRetries--;
+            for (PendingOperation<Context> operation : operations) {
+                pending.add(operation);
+                pendingSize += operation.size;
+            }
+            // Send retries right away, along with the buffered operations, rather than waiting for the buffer to fill up
+            request = takeRequest();
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (request != null) {
+            send(request);
+        }
+    }
+
+    private long estimateSize(BulkOperation operation) {
+        CountingOutputStream out = new CountingOutputStream();
+        writeNdJson(operation, out);
+        return out.count;
+    }
+
+    private void writeNdJson(NdJsonpSerializable value, CountingOutputStream out) {
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable && item != value) { // do not recurse on the item itself
+                writeNdJson((NdJsonpSerializable) item, out);
+            } else {
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(item, generator);
+                generator.close();
+                out.write('\n');
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    private static class PendingOperation<Context> {
+        final BulkOperation operation;
+        @Nullable
+        final Context context;
+        final long size;
+        final int attempts;
+
+        PendingOperation(BulkOperation operation, @Nullable Context context, long size, int attempts) {
+            this.operation = operation;
+            this.context = context;
+            this.size = size;
+            this.attempts = attempts;
+        }
+    }
+
+    private static class PendingRequest<Context> {
+        final List<PendingOperation<Context>> operations;
+
+        PendingRequest(List<PendingOperation<Context>> operations) {
+            this.operations = operations;
+        }
+
+        List<BulkOperation> operations() {
+            List<BulkOperation> result = new ArrayList<>(operations.size());
+            for (PendingOperation<Context> operation : operations) {
+                result.add(operation.operation);
+            }
+            return result;
+        }
+
+        List<Context> contexts() {
+            List<Context> result = new ArrayList<>(operations.size());
+            for (PendingOperation<Context> operation : operations) {
+                result.add(operation.context);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * An output stream that only counts the bytes written to it.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        long count = 0;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Builder for {@link BulkIngester}.
+     */
+    public static class Builder<Context> extends ObjectBuilderBase implements ObjectBuilder<BulkIngester<Context>> {
+        private OpenSearchAsyncClient client;
+        private int maxOperations = 1000;
+        private long maxSize = 5 * 1024 * 1024;
+        private int maxConcurrentRequests = 1;
+        private long flushIntervalMillis = -1;
+        private boolean blockOnBackpressure = true;
+        private int maxRetries = 3;
+        private long initialRetryDelayMillis = 100;
+        private long maxRetryDelayMillis = 10_000;
+        @Nullable
+        private Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>> globalSettings;
+        @Nullable
+        private BulkListener<Context> listener;
+        @Nullable
+        private ScheduledExecutorService scheduler;
+
+        /**
+         * Required - The client used to send bulk requests.
+         */
+        public final Builder<Context> client(OpenSearchAsyncClient value) {
+            this.client = value;
+            return this;
+        }
+
+        /**
+         * Required - The client used to send bulk requests. Requests are sent asynchronously using the client's transport.
+         */
+        public final Builder<Context> client(OpenSearchClient value) {
+            this.client = new OpenSearchAsyncClient(value._transport(), value._transportOptions());
+            return this;
+        }
+
+        /**
+         * Sets the number of operations that triggers a flush. Use {@code -1} to disable this limit. Defaults to {@code 1000}.
+         */
+        public final Builder<Context> maxOperations(int value) {
+            if (value == 0 || value < -1) {
+                throw new IllegalArgumentException("Max operations should be a positive number or -1, got [" + value + "]");
+            }
+            this.maxOperations = value;
+            return this;
+        }
+
+        /**
+         * Sets the estimated serialized size of buffered operations, in bytes, that triggers a flush. Use {@code -1} to disable
+         * this limit, which also avoids the cost of estimating operation sizes. Defaults to 5 MiB.
+         */
+        public final Builder<Context> maxSize(long value) {
+            if (value == 0 || value < -1) {
+                throw new IllegalArgumentException("Max size should be a positive number or -1, got [" + value + "]");
+            }
+            this.maxSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests that can be in flight at the same time. Defaults to {@code 1}.
+         */
+        public final Builder<Context> maxConcurrentRequests(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Max concurrent requests should be a positive number, got [" + value + "]");
+            }
+            this.maxConcurrentRequests = value;
+            return this;
+        }
+
+        /**
+         * Sets the interval at which buffered operations are flushed, regardless of the number of operations or their size.
+         * Disabled by default.
+         */
+        public final Builder<Context> flushInterval(long value, TimeUnit unit) {
+            this.flushIntervalMillis = unit.toMillis(value);
+            return this;
+        }
+
+        /**
+         * Whether {@link BulkIngester#add(BulkOperation)} should block when the buffer is full and the maximum number of
+         * concurrent requests is reached. If {@code false}, a {@link RejectedExecutionException} is thrown instead.
+         * Defaults to {@code true}.
+         */
+        public final Builder<Context> blockOnBackpressure(boolean value) {
+            this.blockOnBackpressure = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times an operation rejected with a {@code 429} status is retried. Use {@code 0} to
+         * disable retries. Defaults to {@code 3}.
+         */
+        public final Builder<Context> maxRetries(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Max retries should be a positive number or 0, got [" + value + "]");
+            }
+            this.maxRetries = value;
+            return this;
+        }
+
+        /**
+         * Sets the initial and maximum delays of the exponential backoff used to retry operations rejected with a
+         * {@code 429} status. Defaults to 100 milliseconds and 10 seconds.
+         */
+        public final Builder<Context> retryBackoff(long initialDelay, long maxDelay, TimeUnit unit) {
+            if (initialDelay < 0 || maxDelay < initialDelay) {
+                throw new IllegalArgumentException("Invalid retry backoff [" + initialDelay + ", " + maxDelay + "]");
+            }
+            this.initialRetryDelayMillis = unit.toMillis(initialDelay);
+            this.maxRetryDelayMillis = unit.toMillis(maxDelay);
+            return this;
+        }
+
+        /**
+         * Sets the request-level settings, such as {@code index} or {@code refresh}, applied to every bulk request sent by
+         * the ingester.
+         */
+        public final Builder<Context> globalSettings(Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>> fn) {
+            this.globalSettings = fn;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified before and after each bulk request.
+         */
+        public final Builder<Context> listener(BulkListener<Context> value) {
+            this.listener = value;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler used for periodic flushes and retries. If not set, the ingester creates a single-threaded
+         * scheduler that is shut down when the ingester is closed.
+         */
+        public final Builder<Context> scheduler(ScheduledExecutorService value) {
+            this.scheduler = value;
+            return this;
+        }
+
+        /**
+         * Builds a {@link BulkIngester}.
+         *
+         * @throws NullPointerException if some of the required fields are null.
+         */
+        public BulkIngester<Context> build() {
+            _checkSingleUse();
+
+            return new BulkIngester<>(this);
+        }
+    }
+}
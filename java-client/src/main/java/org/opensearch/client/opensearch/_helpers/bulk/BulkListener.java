@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import java.util.List;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+
+/**
+ * A listener that is notified of the requests sent by a {@link BulkIngester}.
+ * <p>
+ * Callbacks are invoked from the threads that complete the underlying requests, and must therefore not block.
+ *
+ * @param <Context> the type of the contexts associated to the operations added to the ingester.
+ */
+public interface BulkListener<Context> {
+
+    /**
+     * Called before a bulk request is sent. Operations that are retried after a {@code 429 Too Many Requests} response
+     * are sent again in a later request, and will therefore be reported again.
+     *
+     * @param executionId the id of the request, unique within the ingester.
+     * @param request the bulk request that is about to be sent.
+     * @param contexts the contexts of the operations in the request, in the order of {@link BulkRequest#operations()}.
+     */
+    void beforeBulk(long executionId, BulkRequest request, List<Context> contexts);
+
+    /**
+     * Called after a bulk request has received a response. The response may contain failed items: check
+     * {@link BulkResponse#errors()}.
+     *
+     * @param executionId the id of the request, unique within the ingester.
+     * @param request the bulk request that was sent.
+     * @param contexts the contexts of the operations in the request, in the order of {@link BulkRequest#operations()}.
+     * @param response the response that was received.
+     * @param tookNanos the client-side latency of the request, in nanoseconds.
+     */
+    void afterBulk(long executionId, BulkRequest request, List<Context> contexts, BulkResponse response, long tookNanos);
+
+    /**
+     * Called when a bulk request could not be sent or failed on the server.
+     *
+     * @param executionId the id of the request, unique within the ingester.
+     * @param request the bulk request that was sent.
+     * @param contexts the contexts of the operations in the request, in the order of {@link BulkRequest#operations()}.
+     * @param failure the cause of the failure.
+     * @param tookNanos the client-side latency of the request, in nanoseconds.
+     */
+    void afterBulk(long executionId, BulkRequest request, List<Context> contexts, Throwable failure, long tookNanos);
+}
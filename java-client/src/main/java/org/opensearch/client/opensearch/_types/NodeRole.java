@@ -68,6 +68,10 @@ public enum NodeRole implements JsonEnum {
 
     CoordinatingOnly("coordinating_only"),
 
+    Search("search"),
+
+    Warm("warm"),
+
     ;
 
     private final String jsonValue;
@@ -113,8 +113,9 @@ public abstract class SingleBucketAggregateBase extends AggregateBase {
         op.add(AbstractBuilder::docCount, JsonpDeserializer.longDeserializer(), "doc_count");
 
         op.setUnknownFieldHandler((builder, name, parser, mapper) -> {
-            if (builder.aggregations == null) {
-                builder.aggregations = new HashMap<>();
+            // Replace the builder's default map with one sized for sub-aggregations
+            if (builder.aggregations == null || builder.aggregations.isEmpty()) {
+                builder.aggregations = Aggregate._TYPED_KEYS_DESERIALIZER.createMap();
             }
             Aggregate._TYPED_KEYS_DESERIALIZER.deserializeEntry(name, parser, mapper, builder.aggregations);
         });
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * The point in time by which a request must have completed, including its retries on other nodes, derived from the
+ * {@link TransportOptions#requestTimeout() request timeout} when the request is sent. Transports check it before each
+ * attempt and cancel the attempt in flight when it expires.
+ * <p>
+ * The deadline is enforced by the client only. It is not sent to the server as the {@code timeout} parameter of
+ * requests: that parameter means different things across APIs, such as a per-shard soft limit that returns partial
+ * results on search, and some requests only have a {@code timeout} in their body.
+ */
+public final class Deadline {
+    private final Duration timeout;
+    private final long deadlineNanos;
+
+    private Deadline(Duration timeout) {
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Create a deadline that expires after a timeout from now.
+     */
+    public static Deadline after(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout should not be negative, got [" + timeout + "]");
+        }
+        return new Deadline(timeout);
+    }
+
+    /**
+     * Create a deadline from the request timeout of transport options, starting now.
+     *
+     * @return the deadline, or {@code null} if the options have no request timeout
+     */
+    @Nullable
+    public static Deadline of(@Nullable TransportOptions options) {
+        Duration timeout = options == null ? null : options.requestTimeout();
+        return timeout == null ? null : after(timeout);
+    }
+
+    /**
+     * The timeout this deadline was created with.
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * The time left before this deadline expires, which is negative if it has expired.
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * The time left before this deadline expires in milliseconds, rounded up, or {@code 0} if it has expired.
+     */
+    public long remainingMillis() {
+        long remaining = remainingNanos();
+        return remaining <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(remaining + 999_999);
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Create the exception a request fails with when this deadline expires.
+     *
+     * @param cause the failure of the last attempt, if any
+     */
+    public TransportException exceeded(@Nullable Throwable cause) {
+        return new TransportException("Request did not complete within its timeout of [" + timeout.toMillis() + "ms]", cause);
+    }
+
+    /**
+     * Run a task when this deadline expires, e.g. to cancel the request in flight. The task runs on a timer thread shared
+     * by all the deadlines and must not block. The returned future should be cancelled once the request completed, so that
+     * the task is discarded.
+     */
+    public ScheduledFuture<?> schedule(Runnable task) {
+        return Timer.INSTANCE.schedule(task, Math.max(0, remainingNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Run a task after a delay on the timer thread shared by all the deadlines, e.g. to send a request again when it
+     * isn't answered in time. The task must not block, and the returned future should be cancelled once the task is no
+     * longer needed, so that it is discarded.
+     */
+    public static ScheduledFuture<?> scheduleAfter(long delayNanos, Runnable task) {
+        return Timer.INSTANCE.schedule(task, Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Timer {
+        private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "opensearch-java-deadline-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Requests usually complete well before their deadline
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.client.transport;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -53,6 +54,19 @@ public interface TransportOptions {
 
     Function<List<String>, Boolean> onWarnings();
 
+    /**
+     * The time a request may take, including its retries on other nodes, after which it fails with a
+     * {@link TransportException}. The remaining time also bounds the socket timeout of each attempt. The deadline is
+     * enforced by the client only, and is honoured by {@code ApacheHttpClient5Transport}, {@code RestClientTransport}
+     * and {@code AwsSdk2Transport}.
+     *
+     * @return the request timeout, or {@code null} if requests may take as long as their attempts allow
+     * @see Deadline
+     */
+    default Duration requestTimeout() {
+        return null;
+    }
+
     Builder toBuilder();
 
     default TransportOptions with(Consumer<Builder> fn) {
@@ -72,12 +86,24 @@ public interface TransportOptions {
         Builder setParameter(String name, String value);
 
         Builder onWarnings(Function<List<String>, Boolean> listener);
+
+        /**
+         * Set the time a request may take, including its retries on other nodes. Builders that don't override this
+         * method ignore the timeout: custom builders must store it and return it from
+         * {@link TransportOptions#requestTimeout()} to honour it.
+         *
+         * @see TransportOptions#requestTimeout()
+         */
+        default Builder setRequestTimeout(Duration timeout) {
+            return this;
+        }
     }
 
     class BuilderImpl implements Builder {
         protected List<Map.Entry<String, String>> headers = Collections.emptyList();
         protected Map<String, String> queryParameters = Collections.emptyMap();
         protected Function<List<String>, Boolean> onWarnings = null;
+        protected Duration requestTimeout = null;
 
         public BuilderImpl() {}
 
@@ -91,6 +117,7 @@ public interface TransportOptions {
                 queryParameters = new HashMap<>(srcParams);
             }
             onWarnings = src.onWarnings();
+            requestTimeout = src.requestTimeout();
         }
 
         @Override
@@ -123,6 +150,15 @@ public interface TransportOptions {
             return this;
         }
 
+        @Override
+        public Builder setRequestTimeout(Duration timeout) {
+            if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+                throw new IllegalArgumentException("Request timeout should be positive, got [" + timeout + "]");
+            }
+            requestTimeout = timeout;
+            return this;
+        }
+
         @Override
         public TransportOptions build() {
             return new DefaultImpl(this);
@@ -133,11 +169,13 @@ public interface TransportOptions {
         private final List<Map.Entry<String, String>> headers;
         private final Map<String, String> params;
         private final Function<List<String>, Boolean> onWarnings;
+        private final Duration requestTimeout;
 
         protected DefaultImpl(BuilderImpl builder) {
             this.headers = builder.headers.isEmpty() ? Collections.emptyList() : List.copyOf(builder.headers);
             this.params = builder.queryParameters.isEmpty() ? Collections.emptyMap() : Map.copyOf(builder.queryParameters);
             this.onWarnings = builder.onWarnings;
+            this.requestTimeout = builder.requestTimeout;
         }
 
         @Override
@@ -155,6 +193,11 @@ public interface TransportOptions {
             return onWarnings;
         }
 
+        @Override
+        public Duration requestTimeout() {
+            return requestTimeout;
+        }
+
         @Override
         public Builder toBuilder() {
             return new BuilderImpl(this);
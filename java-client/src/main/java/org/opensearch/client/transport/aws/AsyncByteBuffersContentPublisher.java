@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.aws;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * An implementation of AWS {@link SdkHttpContentPublisher} that transfers the buffers holding a request body
+ * one at a time, as they are requested, without copying them into a single array first. Each subscriber gets
+ * its own views of the buffers, so that the content can be sent again.
+ */
+class AsyncByteBuffersContentPublisher implements SdkHttpContentPublisher {
+    private final List<ByteBuffer> buffers;
+    private final long contentLength;
+
+    AsyncByteBuffersContentPublisher(List<ByteBuffer> buffers) {
+        this.buffers = buffers;
+        long length = 0;
+        for (ByteBuffer buffer : buffers) {
+            length += buffer.remaining();
+        }
+        this.contentLength = length;
+    }
+
+    static AsyncByteBuffersContentPublisher empty() {
+        return new AsyncByteBuffersContentPublisher(Collections.emptyList());
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of(contentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        s.onSubscribe(new BuffersSubscription(s, buffers));
+    }
+
+    private static class BuffersSubscription implements Subscription {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final List<ByteBuffer> buffers;
+        private final AtomicLong demand = new AtomicLong();
+        // Number of pending calls to drain(), so that only one thread emits at a time and onNext isn't reentered
+        private final AtomicInteger pending = new AtomicInteger();
+        private int index;
+        private volatile boolean done;
+
+        BuffersSubscription(Subscriber<? super ByteBuffer> subscriber, List<ByteBuffer> buffers) {
+            this.subscriber = subscriber;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Demand should be positive, got [" + n + "]"));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void drain() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (false == done && index < buffers.size() && demand.get() > 0) {
+                    ByteBuffer buffer = buffers.get(index++).duplicate();
+                    demand.decrementAndGet();
+                    subscriber.onNext(buffer);
+                }
+                if (false == done && index == buffers.size()) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.aws;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import javax.annotation.CheckForNull;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A reactive subscriber that exposes a byte stream as a blocking {@link InputStream}, so that a response can be
+ * parsed while it is received. At most {@link #WINDOW} buffers are requested ahead of the reader: a new buffer is
+ * only requested once the reader is done with one, which propagates backpressure to the HTTP client and bounds the
+ * memory held by a response, whatever its size.
+ */
+class AsyncInputStreamSubscriber implements Subscriber<ByteBuffer> {
+    /**
+     * Number of buffers that can be received and not read yet.
+     */
+    static final int WINDOW = 16;
+
+    private static final Object END = new Object();
+
+    // Received buffers, followed by END or by a Failure
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final InputStream inputStream = new QueueInputStream();
+    private volatile Subscription subscription;
+    private volatile boolean discarding;
+
+    /**
+     * The stream of the received bytes. Reads block until bytes are received. Closing the stream discards the rest of
+     * the content.
+     */
+    InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(discarding ? Long.MAX_VALUE : WINDOW);
+    }
+
+    @Override
+    public void onNext(ByteBuffer buf) {
+        if (discarding) {
+            return;
+        }
+        queue.add(buf);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (e == null) {
+            e = new IllegalArgumentException("Subscriber.onError called with null paramter");
+        }
+        end(e);
+    }
+
+    @Override
+    public void onComplete() {
+        end(null);
+    }
+
+    /**
+     * Ends the stream, with a failure if the exchange failed. Once the stream ended, further calls have no effect on
+     * the reader.
+     */
+    void end(@CheckForNull Throwable e) {
+        queue.add(e == null ? END : new Failure(e));
+    }
+
+    private void requestNext() {
+        Subscription subscription = this.subscription;
+        if (subscription != null) {
+            subscription.request(1);
+        }
+    }
+
+    private static class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private class QueueInputStream extends InputStream {
+        private ByteBuffer current;
+        private boolean ended;
+
+        @CheckForNull
+        private ByteBuffer current() throws IOException {
+            while (current == null || false == current.hasRemaining()) {
+                if (current != null) {
+                    current = null;
+                    requestNext();
+                }
+                if (ended) {
+                    return null;
+                }
+                Object next;
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the response body");
+                }
+                if (next == END) {
+                    ended = true;
+                } else if (next instanceof Failure) {
+                    ended = true;
+                    Throwable cause = ((Failure) next).cause;
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                    throw new IOException("Failed to receive the response body", cause);
+                } else {
+                    current = (ByteBuffer) next;
+                }
+            }
+            return current;
+        }
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer buffer = current();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return current == null ? 0 : current.remaining();
+        }
+
+        @Override
+        public void close() {
+            if (discarding) {
+                return;
+            }
+            // Let the rest of the content through rather than cancelling, so that the connection can be reused
+            discarding = true;
+            current = null;
+            queue.clear();
+            Subscription subscription = AsyncInputStreamSubscriber.this.subscription;
+            if (subscription != null && false == ended) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            ended = true;
+        }
+    }
+}
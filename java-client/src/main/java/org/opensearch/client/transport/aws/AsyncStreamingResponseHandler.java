@@ -8,23 +8,26 @@
 
 package org.opensearch.client.transport.aws;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.CheckForNull;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 
 /**
  * An implementation of AWS {@link SdkAsyncHttpResponseHandler} that captures the response,
- * and the content as a byte array.
+ * and exposes the content as an input stream that can be read while it is received.
  */
-final class AsyncCapturingResponseHandler implements SdkAsyncHttpResponseHandler {
+final class AsyncStreamingResponseHandler implements SdkAsyncHttpResponseHandler {
     private final CompletableFuture<SdkHttpResponse> responseFuture;
-    private final AsyncCapturingSubscriber bodySubscriber = new AsyncCapturingSubscriber();
+    private final AsyncInputStreamSubscriber bodySubscriber = new AsyncInputStreamSubscriber();
     private final AtomicBoolean subscribed = new AtomicBoolean(false);
 
-    AsyncCapturingResponseHandler() {
+    AsyncStreamingResponseHandler() {
         responseFuture = new CompletableFuture<>();
     }
 
@@ -32,8 +35,12 @@ final class AsyncCapturingResponseHandler implements SdkAsyncHttpResponseHandler
         return responseFuture;
     }
 
-    public CompletableFuture<byte[]> getBodyPromise() {
-        return bodySubscriber.getPromise();
+    /**
+     * The content of the response. Reads block until the content is received, and the stream needs to be closed to
+     * let the rest of the content through if it isn't fully read.
+     */
+    public InputStream getBodyStream() {
+        return bodySubscriber.getInputStream();
     }
 
     @Override
@@ -51,5 +58,19 @@ final class AsyncCapturingResponseHandler implements SdkAsyncHttpResponseHandler
     @Override
     public void onError(Throwable e) {
         responseFuture.completeExceptionally(e);
+        bodySubscriber.end(e);
+    }
+
+    /**
+     * Called when the exchange is over, so that neither the response nor its content are waited for if the HTTP client
+     * didn't provide them.
+     */
+    void onExchangeComplete(@CheckForNull Throwable e) {
+        if (e != null) {
+            onError(e);
+        } else {
+            responseFuture.completeExceptionally(new IOException("The exchange completed without a response"));
+            bodySubscriber.end(null);
+        }
     }
 }
@@ -0,0 +1,382 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.aws;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Signs requests with AWS Signature Version 4, like {@link software.amazon.awssdk.auth.signer.Aws4Signer} does with
+ * its default parameters, for the region and the service of a transport.
+ * <p>
+ * The signing key is derived from the secret key, the date, the region and the service. It is kept along with the
+ * credentials it was derived from, and derived again when the credentials provider returns other credentials, e.g.
+ * after they are refreshed, or when the date changes at midnight UTC. An HMAC initialized with the signing key is
+ * kept as well and copied for each request, so that signing a request only computes the hash of the canonical
+ * request and the signature.
+ */
+final class Aws4RequestSigner {
+    /**
+     * Hash of the payload to send instead of the actual hash, so that the payload is neither read nor hashed before
+     * it is sent. It is only accepted over HTTPS.
+     */
+    static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    static final String EMPTY_PAYLOAD_SHA256 = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] UPPER_HEX = "0123456789ABCDEF".toCharArray();
+    // Headers that proxies may change, which are therefore not signed
+    private static final List<String> UNSIGNED_HEADERS = Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final MessageDigest SHA256 = newSha256();
+
+    private final String serviceName;
+    private final String regionName;
+    private final Clock clock;
+    private volatile SigningKey signingKey;
+
+    Aws4RequestSigner(String serviceName, Region region) {
+        this(serviceName, region, Clock.systemUTC());
+    }
+
+    Aws4RequestSigner(String serviceName, Region region, Clock clock) {
+        this.serviceName = serviceName;
+        this.regionName = region.id();
+        this.clock = clock;
+    }
+
+    /**
+     * Signs a request, adding the {@code Host}, {@code X-Amz-Date}, {@code X-Amz-Security-Token} (for session
+     * credentials) and {@code Authorization} headers to it.
+     *
+     * @param request     the request to sign
+     * @param credentials the credentials to sign it with
+     * @param payloadHash the hex encoded SHA-256 hash of the payload, or {@link #UNSIGNED_PAYLOAD}
+     * @return the signed request
+     */
+    SdkHttpFullRequest sign(SdkHttpFullRequest.Builder request, AwsCredentials credentials, String payloadHash) {
+        String accessKeyId = credentials.accessKeyId().trim();
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+        String dateStamp = dateStamp(now);
+        String amzDate = dateStamp + 'T' + twoDigits(now.getHour()) + twoDigits(now.getMinute()) + twoDigits(now.getSecond()) + 'Z';
+
+        request.putHeader("Host", hostHeader(request));
+        request.putHeader("X-Amz-Date", amzDate);
+        if (credentials instanceof AwsSessionCredentials) {
+            request.putHeader("X-Amz-Security-Token", ((AwsSessionCredentials) credentials).sessionToken().trim());
+        }
+
+        SigningKey key = signingKey(credentials, now.toLocalDate().toEpochDay(), dateStamp);
+
+        StringBuilder canonical = new StringBuilder(512);
+        canonical.append(request.method().name()).append('\n');
+        appendCanonicalPath(canonical, request.encodedPath());
+        canonical.append('\n');
+        appendCanonicalQuery(canonical, request.rawQueryParameters());
+        canonical.append('\n');
+        String signedHeaders = appendCanonicalHeaders(canonical, request.headers());
+        canonical.append('\n').append(signedHeaders).append('\n').append(payloadHash);
+
+        StringBuilder stringToSign = new StringBuilder(128 + key.scope.length());
+        stringToSign.append(ALGORITHM).append('\n').append(amzDate).append('\n').append(key.scope).append('\n');
+        appendHex(stringToSign, sha256().digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+
+        byte[] signature = key.copyMac().doFinal(stringToSign.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder authorization = new StringBuilder(256);
+        authorization.append(ALGORITHM).append(" Credential=").append(accessKeyId).append('/').append(key.scope);
+        authorization.append(", SignedHeaders=").append(signedHeaders).append(", Signature=");
+        appendHex(authorization, signature);
+        request.putHeader("Authorization", authorization.toString());
+        return request.build();
+    }
+
+    /**
+     * Computes the hex encoded SHA-256 hash of a payload.
+     */
+    static String sha256Hex(List<ByteBuffer> payload) {
+        MessageDigest digest = sha256();
+        for (ByteBuffer buffer : payload) {
+            digest.update(buffer.duplicate());
+        }
+        StringBuilder sb = new StringBuilder(64);
+        appendHex(sb, digest.digest());
+        return sb.toString();
+    }
+
+    private SigningKey signingKey(AwsCredentials credentials, long epochDay, String dateStamp) {
+        SigningKey key = this.signingKey;
+        if (key == null || key.epochDay != epochDay || false == key.isDerivedFrom(credentials)) {
+            key = new SigningKey(credentials, epochDay, dateStamp, regionName, serviceName);
+            this.signingKey = key;
+        }
+        return key;
+    }
+
+    private static String hostHeader(SdkHttpFullRequest.Builder request) {
+        if (SdkHttpUtils.isUsingStandardPort(request.protocol(), request.port())) {
+            return request.host();
+        }
+        return request.host() + ':' + request.port();
+    }
+
+    private static void appendCanonicalPath(StringBuilder sb, String encodedPath) {
+        String path = encodedPath;
+        // Dot segments and redundant slashes are removed before signing
+        if (path != null && (path.contains("/.") || path.contains("//"))) {
+            path = URI.create("https://host" + path).normalize().getRawPath();
+        }
+        if (path == null || path.isEmpty()) {
+            sb.append('/');
+            return;
+        }
+        if (path.charAt(0) != '/') {
+            sb.append('/');
+        }
+        // The path is already encoded, and is encoded again
+        appendEncoded(sb, path, true);
+        if (false == encodedPath.endsWith("/") && sb.charAt(sb.length() - 1) == '/') {
+            sb.setLength(sb.length() - 1);
+        }
+    }
+
+    private static void appendCanonicalQuery(StringBuilder sb, Map<String, List<String>> parameters) {
+        if (parameters.isEmpty()) {
+            return;
+        }
+        TreeMap<String, List<String>> sorted = new TreeMap<>();
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            if (name == null || name.isEmpty()) {
+                continue;
+            }
+            List<String> values = new ArrayList<>(parameter.getValue().size());
+            for (String value : parameter.getValue()) {
+                values.add(value == null ? "" : encode(value));
+            }
+            Collections.sort(values);
+            sorted.put(encode(name), values);
+        }
+        boolean first = true;
+        for (Map.Entry<String, List<String>> parameter : sorted.entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (false == first) {
+                    sb.append('&');
+                }
+                first = false;
+                sb.append(parameter.getKey()).append('=').append(value);
+            }
+        }
+    }
+
+    /**
+     * Appends the canonical headers, each followed by a new line.
+     *
+     * @return the names of the signed headers, separated by semicolons
+     */
+    private static String appendCanonicalHeaders(StringBuilder sb, Map<String, List<String>> headers) {
+        List<Map.Entry<String, List<String>>> signed = new ArrayList<>(headers.size());
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (false == UNSIGNED_HEADERS.contains(name)) {
+                signed.add(new AbstractMap.SimpleImmutableEntry<>(name, header.getValue()));
+            }
+        }
+        signed.sort(Map.Entry.comparingByKey());
+        StringBuilder signedHeaders = new StringBuilder(signed.size() * 16);
+        for (Map.Entry<String, List<String>> header : signed) {
+            sb.append(header.getKey()).append(':');
+            boolean first = true;
+            for (String value : header.getValue()) {
+                if (false == first) {
+                    sb.append(',');
+                }
+                first = false;
+                appendTrimmed(sb, value);
+            }
+            sb.append('\n');
+            if (signedHeaders.length() > 0) {
+                signedHeaders.append(';');
+            }
+            signedHeaders.append(header.getKey());
+        }
+        return signedHeaders.toString();
+    }
+
+    /**
+     * Appends a header value without its leading and trailing whitespace, and with sequences of whitespace replaced by
+     * a single space.
+     */
+    private static void appendTrimmed(StringBuilder sb, String value) {
+        int start = sb.length();
+        boolean previousIsWhitespace = true;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isWhitespace(c)) {
+                if (false == previousIsWhitespace) {
+                    sb.append(' ');
+                    previousIsWhitespace = true;
+                }
+            } else {
+                sb.append(c);
+                previousIsWhitespace = false;
+            }
+        }
+        if (sb.length() > start && sb.charAt(sb.length() - 1) == ' ') {
+            sb.setLength(sb.length() - 1);
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000b' || c == '\r' || c == '\f';
+    }
+
+    private static String encode(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        appendEncoded(sb, value, false);
+        return sb.toString();
+    }
+
+    /**
+     * Appends a value percent-encoded as per RFC 3986, which leaves only unreserved characters unencoded.
+     */
+    private static void appendEncoded(StringBuilder sb, String value, boolean keepSlashes) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '_'
+                || c == '.'
+                || c == '~'
+                || (keepSlashes && c == '/')) {
+                sb.append(c);
+            } else if (c < 0x80) {
+                appendPercentEncoded(sb, c);
+            } else {
+                int end = i + 1;
+                while (end < value.length() && value.charAt(end) >= 0x80) {
+                    end++;
+                }
+                for (byte b : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                    appendPercentEncoded(sb, b & 0xFF);
+                }
+                i = end - 1;
+            }
+        }
+    }
+
+    private static void appendPercentEncoded(StringBuilder sb, int b) {
+        sb.append('%').append(UPPER_HEX[b >> 4]).append(UPPER_HEX[b & 0xF]);
+    }
+
+    private static void appendHex(StringBuilder sb, byte[] bytes) {
+        for (byte b : bytes) {
+            sb.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+    }
+
+    private static String dateStamp(LocalDateTime dateTime) {
+        return Integer.toString(dateTime.getYear()) + twoDigits(dateTime.getMonthValue()) + twoDigits(dateTime.getDayOfMonth());
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : Integer.toString(value);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA256.clone();
+        } catch (CloneNotSupportedException e) {
+            return newSha256();
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        return newMac(key).doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac newMac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(key, HMAC_SHA256));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    /**
+     * A signing key, with the credentials and the day it was derived for.
+     */
+    private static final class SigningKey {
+        private final AwsCredentials credentials;
+        private final long epochDay;
+        private final String scope;
+        private final byte[] key;
+        // Initialized with the key, and only used as a prototype for the HMAC of each request
+        private final Mac mac;
+
+        SigningKey(AwsCredentials credentials, long epochDay, String dateStamp, String regionName, String serviceName) {
+            this.credentials = credentials;
+            this.epochDay = epochDay;
+            this.scope = dateStamp + '/' + regionName + '/' + serviceName + "/aws4_request";
+            byte[] secret = ("AWS4" + credentials.secretAccessKey().trim()).getBytes(StandardCharsets.UTF_8);
+            byte[] dateKey = hmac(secret, dateStamp);
+            byte[] regionKey = hmac(dateKey, regionName);
+            byte[] serviceKey = hmac(regionKey, serviceName);
+            this.key = hmac(serviceKey, "aws4_request");
+            this.mac = Aws4RequestSigner.newMac(key);
+        }
+
+        boolean isDerivedFrom(AwsCredentials other) {
+            return credentials == other
+                || (credentials.accessKeyId().equals(other.accessKeyId()) && credentials.secretAccessKey().equals(other.secretAccessKey()));
+        }
+
+        Mac copyMac() {
+            try {
+                return (Mac) mac.clone();
+            } catch (CloneNotSupportedException e) {
+                return Aws4RequestSigner.newMac(key);
+            }
+        }
+    }
+}
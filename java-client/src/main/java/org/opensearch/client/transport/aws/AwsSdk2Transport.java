@@ -10,7 +10,6 @@ package org.opensearch.client.transport.aws;
 
 import jakarta.json.JsonObject;
 import jakarta.json.stream.JsonParser;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -22,7 +21,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -33,6 +41,7 @@ import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.opensearch._types.ErrorCause;
 import org.opensearch.client.opensearch._types.ErrorResponse;
 import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.Deadline;
 import org.opensearch.client.transport.Endpoint;
 import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
@@ -40,12 +49,12 @@ import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.client.transport.endpoints.BooleanEndpoint;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.util.BufferPool;
 import org.opensearch.client.util.OpenSearchRequestBodyBuffer;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.auth.signer.Aws4Signer;
-import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -68,13 +77,22 @@ public class AwsSdk2Transport implements OpenSearchTransport {
      */
     public static final Integer DEFAULT_REQUEST_COMPRESSION_SIZE = 8192;
 
-    private static final byte[] NO_BYTES = new byte[0];
+    /**
+     * The number of threads of the pool that asynchronous requests are parsed on, unless
+     * {@link AwsSdk2TransportOptions#responseExecutor()} is set.
+     */
+    public static final int DEFAULT_RESPONSE_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicInteger TRANSPORT_IDS = new AtomicInteger();
+
     private final SdkAutoCloseable httpClient;
     private final String host;
-    private final String signingServiceName;
-    private final Region signingRegion;
     private final JsonpMapper defaultMapper;
     private final AwsSdk2TransportOptions transportOptions;
+    private final Aws4RequestSigner signer;
+    // Created for asynchronous HTTP clients when the options have no response executor, and shut down on close
+    @CheckForNull
+    private final ExecutorService defaultResponseExecutor;
 
     /**
      * Create an {@link OpenSearchTransport} with an asynchronous AWS HTTP client.
@@ -172,10 +190,31 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         Objects.requireNonNull(host, "Target OpenSearch service host must not be null");
         this.httpClient = httpClient;
         this.host = host;
-        this.signingServiceName = signingServiceName;
-        this.signingRegion = signingRegion;
+        this.signer = new Aws4RequestSigner(signingServiceName, signingRegion);
         this.transportOptions = options != null ? options : AwsSdk2TransportOptions.builder().build();
         this.defaultMapper = Optional.ofNullable(options).map(AwsSdk2TransportOptions::mapper).orElse(new JacksonJsonpMapper());
+        this.defaultResponseExecutor = httpClient instanceof SdkAsyncHttpClient && transportOptions.responseExecutor() == null
+            ? createResponseExecutor()
+            : null;
+    }
+
+    private static ExecutorService createResponseExecutor() {
+        final String threadName = "opensearch-aws-response-" + TRANSPORT_IDS.incrementAndGet();
+        final AtomicInteger threadIds = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            DEFAULT_RESPONSE_THREADS,
+            DEFAULT_RESPONSE_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                Thread thread = new Thread(r, threadName + "-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
@@ -185,31 +224,49 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         @Nullable TransportOptions options
     ) throws IOException {
 
+        Deadline deadline = deadline(options);
         OpenSearchRequestBodyBuffer requestBody = prepareRequestBody(request, endpoint, options);
-        SdkHttpFullRequest clientReq = prepareRequest(request, endpoint, options, requestBody);
+        boolean releaseBody = true;
+        try {
+            SdkHttpFullRequest clientReq = prepareRequest(request, endpoint, options, requestBody);
 
-        if (httpClient instanceof SdkHttpClient) {
-            return executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options);
-        } else if (httpClient instanceof SdkAsyncHttpClient) {
-            try {
-                return executeAsync((SdkAsyncHttpClient) httpClient, clientReq, requestBody, endpoint, options).get();
-            } catch (ExecutionException e) {
-                Throwable cause = e.getCause();
-                if (cause != null) {
-                    if (cause instanceof IOException) {
-                        throw (IOException) cause;
-                    }
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
+            if (httpClient instanceof SdkHttpClient) {
+                return executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options, deadline);
+            } else if (httpClient instanceof SdkAsyncHttpClient) {
+                // The body is released by executeAsync once sent
+                releaseBody = false;
+                AsyncStreamingResponseHandler responseHandler = executeAsync(
+                    (SdkAsyncHttpClient) httpClient,
+                    clientReq,
+                    requestBody,
+                    deadline
+                );
+                try {
+                    SdkHttpResponse response = responseHandler.getHeaderPromise().get();
+                    // The response is parsed on this thread while it is received
+                    return parseStreamingResponse(response, responseHandler, endpoint, options);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause != null) {
+                        if (cause instanceof IOException) {
+                            throw (IOException) cause;
+                        }
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        throw new RuntimeException(cause);
                     }
-                    throw new RuntimeException(cause);
+                    throw new RuntimeException(e);
+                } catch (InterruptedException e) {
+                    throw new IOException("HttpRequest was interrupted", e);
                 }
-                throw new RuntimeException(e);
-            } catch (InterruptedException e) {
-                throw new IOException("HttpRequest was interrupted", e);
+            } else {
+                throw new IOException("invalid httpClient: " + httpClient);
+            }
+        } finally {
+            if (releaseBody && requestBody != null) {
+                requestBody.release();
             }
-        } else {
-            throw new IOException("invalid httpClient: " + httpClient);
         }
     }
 
@@ -219,13 +276,31 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         @Nullable TransportOptions options
     ) {
+        OpenSearchRequestBodyBuffer requestBody = null;
+        boolean releaseBody = true;
         try {
-            OpenSearchRequestBodyBuffer requestBody = prepareRequestBody(request, endpoint, options);
+            Deadline deadline = deadline(options);
+            requestBody = prepareRequestBody(request, endpoint, options);
             SdkHttpFullRequest clientReq = prepareRequest(request, endpoint, options, requestBody);
             if (httpClient instanceof SdkAsyncHttpClient) {
-                return executeAsync((SdkAsyncHttpClient) httpClient, clientReq, requestBody, endpoint, options);
+                // Asynchronous requests stream the buffers of the body, which is released by executeAsync once sent
+                releaseBody = false;
+                AsyncStreamingResponseHandler responseHandler = executeAsync(
+                    (SdkAsyncHttpClient) httpClient,
+                    clientReq,
+                    requestBody,
+                    deadline
+                );
+                // Parsing blocks until the content is received, it therefore happens outside of the threads of the HTTP client
+                return responseHandler.getHeaderPromise().thenApplyAsync(response -> {
+                    try {
+                        return parseStreamingResponse(response, responseHandler, endpoint, options);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, responseExecutor(options));
             } else if (httpClient instanceof SdkHttpClient) {
-                ResponseT result = executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options);
+                ResponseT result = executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options, deadline);
                 return CompletableFuture.completedFuture(result);
             } else {
                 throw new IOException("invalid httpClient: " + httpClient);
@@ -234,6 +309,10 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             CompletableFuture<ResponseT> cf = new CompletableFuture<>();
             cf.completeExceptionally(e);
             return cf;
+        } finally {
+            if (releaseBody && requestBody != null) {
+                requestBody.release();
+            }
         }
     }
 
@@ -248,7 +327,29 @@ public class AwsSdk2Transport implements OpenSearchTransport {
     }
 
     @Override
-    public void close() {}
+    public void close() {
+        if (defaultResponseExecutor != null) {
+            // Responses being parsed are completed, the HTTP client is owned by the caller
+            defaultResponseExecutor.shutdown();
+        }
+    }
+
+    private Executor responseExecutor(@CheckForNull TransportOptions options) {
+        return Optional.ofNullable(options)
+            .map(o -> o instanceof AwsSdk2TransportOptions ? ((AwsSdk2TransportOptions) o) : null)
+            .map(AwsSdk2TransportOptions::responseExecutor)
+            .or(() -> Optional.ofNullable(transportOptions.responseExecutor()))
+            .orElse(defaultResponseExecutor);
+    }
+
+    /**
+     * The deadline of a request, from its own request timeout or else from the one of this transport. The SDK HTTP
+     * clients make a single attempt and only have client-wide timeouts, so the request is aborted at its deadline.
+     */
+    @CheckForNull
+    private Deadline deadline(@CheckForNull TransportOptions options) {
+        return Deadline.of(Optional.ofNullable(options).filter(o -> o.requestTimeout() != null).orElse(transportOptions));
+    }
 
     @CheckForNull
     private <RequestT> OpenSearchRequestBodyBuffer prepareRequestBody(
@@ -267,7 +368,13 @@ public class AwsSdk2Transport implements OpenSearchTransport {
                 .or(() -> Optional.ofNullable(transportOptions.requestCompressionSize()))
                 .orElse(DEFAULT_REQUEST_COMPRESSION_SIZE);
 
-            OpenSearchRequestBodyBuffer buffer = new OpenSearchRequestBodyBuffer(mapper, maxUncompressedSize);
+            final BufferPool bufferPool = Optional.ofNullable(options)
+                .map(o -> o instanceof AwsSdk2TransportOptions ? ((AwsSdk2TransportOptions) o) : null)
+                .map(AwsSdk2TransportOptions::bufferPool)
+                .or(() -> Optional.ofNullable(transportOptions.bufferPool()))
+                .orElse(null);
+
+            OpenSearchRequestBodyBuffer buffer = new OpenSearchRequestBodyBuffer(mapper, maxUncompressedSize, bufferPool);
             buffer.addContent(request);
             buffer.close();
             return buffer;
@@ -308,6 +415,13 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         }
         applyOptionsHeaders(req, transportOptions);
         applyOptionsHeaders(req, options);
+        boolean signPayload = Optional.ofNullable(options)
+            .map(o -> o instanceof AwsSdk2TransportOptions ? ((AwsSdk2TransportOptions) o) : null)
+            .map(AwsSdk2TransportOptions::signPayload)
+            .or(() -> Optional.ofNullable(transportOptions.signPayload()))
+            .orElse(Boolean.TRUE);
+
+        String payloadHash = Aws4RequestSigner.EMPTY_PAYLOAD_SHA256;
         if (endpoint.hasRequestBody() && body != null) {
             req.putHeader("Content-Type", body.getContentType());
             String encoding = body.getContentEncoding();
@@ -316,9 +430,11 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             }
             req.putHeader("Content-Length", String.valueOf(body.getContentLength()));
             req.contentStreamProvider(body::getInputStream);
-            // To add the "X-Amz-Content-Sha256" header, it needs to set as required.
-            // It is a required header for Amazon OpenSearch Serverless.
-            req.putHeader("x-amz-content-sha256", "required");
+            // Over HTTPS, "UNSIGNED-PAYLOAD" can be signed instead of the hash of the body, which is then neither read
+            // nor hashed before it is sent
+            payloadHash = signPayload ? Aws4RequestSigner.sha256Hex(body.getByteBuffers()) : Aws4RequestSigner.UNSIGNED_PAYLOAD;
+            // The "X-Amz-Content-Sha256" header is required by Amazon OpenSearch Serverless.
+            req.putHeader("x-amz-content-sha256", payloadHash);
         }
 
         boolean responseCompression = Optional.ofNullable(options)
@@ -336,14 +452,9 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             .map(o -> o instanceof AwsSdk2TransportOptions ? ((AwsSdk2TransportOptions) o) : null)
             .map(AwsSdk2TransportOptions::credentials)
             .or(() -> Optional.ofNullable(transportOptions.credentials()))
-            .orElse(DefaultCredentialsProvider.create());
-
-        Aws4SignerParams signerParams = Aws4SignerParams.builder()
-            .awsCredentials(credentials.resolveCredentials())
-            .signingName(this.signingServiceName)
-            .signingRegion(signingRegion)
-            .build();
-        return Aws4Signer.create().sign(req.build(), signerParams);
+            .orElseGet(DefaultCredentialsProvider::create);
+
+        return signer.sign(req, credentials.resolveCredentials(), payloadHash);
     }
 
     private void applyOptionsParams(StringBuilder url, TransportOptions options) {
@@ -377,52 +488,92 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         SdkHttpClient syncHttpClient,
         SdkHttpFullRequest httpRequest,
         Endpoint<?, ResponseT, ?> endpoint,
-        TransportOptions options
+        TransportOptions options,
+        @CheckForNull Deadline deadline
     ) throws IOException {
 
         HttpExecuteRequest.Builder executeRequest = HttpExecuteRequest.builder().request(httpRequest);
         if (httpRequest.contentStreamProvider().isPresent()) {
             executeRequest.contentStreamProvider(httpRequest.contentStreamProvider().get());
         }
-        HttpExecuteResponse executeResponse = syncHttpClient.prepareRequest(executeRequest.build()).call();
+        ExecutableHttpRequest executableRequest = syncHttpClient.prepareRequest(executeRequest.build());
+        AtomicBoolean aborted = new AtomicBoolean();
+        ScheduledFuture<?> timer = deadline == null ? null : deadline.schedule(() -> {
+            aborted.set(true);
+            executableRequest.abort();
+        });
         AbortableInputStream bodyStream = null;
         try {
+            HttpExecuteResponse executeResponse = executableRequest.call();
             bodyStream = executeResponse.responseBody().orElse(null);
             SdkHttpResponse httpResponse = executeResponse.httpResponse();
             return parseResponse(httpResponse, bodyStream, endpoint, options);
+        } catch (IOException | RuntimeException e) {
+            if (aborted.get()) {
+                throw deadline.exceeded(e);
+            }
+            throw e;
         } finally {
+            if (timer != null) {
+                timer.cancel(false);
+            }
             if (bodyStream != null) {
                 bodyStream.close();
             }
         }
     }
 
-    private <ResponseT> CompletableFuture<ResponseT> executeAsync(
+    private AsyncStreamingResponseHandler executeAsync(
         SdkAsyncHttpClient asyncHttpClient,
         SdkHttpFullRequest httpRequest,
         @CheckForNull OpenSearchRequestBodyBuffer requestBody,
-        Endpoint<?, ResponseT, ?> endpoint,
-        TransportOptions options
+        @CheckForNull Deadline deadline
     ) {
-        byte[] requestBodyArray = requestBody == null ? NO_BYTES : requestBody.getByteArray();
+        AsyncByteBuffersContentPublisher requestContent = requestBody == null
+            ? AsyncByteBuffersContentPublisher.empty()
+            : new AsyncByteBuffersContentPublisher(requestBody.getByteBuffers());
 
-        final AsyncCapturingResponseHandler responseHandler = new AsyncCapturingResponseHandler();
+        final AsyncStreamingResponseHandler responseHandler = new AsyncStreamingResponseHandler();
         AsyncExecuteRequest.Builder executeRequest = AsyncExecuteRequest.builder()
             .request(httpRequest)
-            .requestContentPublisher(new AsyncByteArrayContentPublisher(requestBodyArray))
+            .requestContentPublisher(requestContent)
             .responseHandler(responseHandler);
-        CompletableFuture<Void> executeFuture = asyncHttpClient.execute(executeRequest.build());
-        return executeFuture.thenCompose(_v -> responseHandler.getHeaderPromise())
-            .thenCompose(response -> responseHandler.getBodyPromise().thenCompose(responseBody -> {
-                CompletableFuture<ResponseT> ret = new CompletableFuture<>();
-                try {
-                    InputStream bodyStream = new ByteArrayInputStream(responseBody);
-                    ret.complete(parseResponse(response, bodyStream, endpoint, options));
-                } catch (Throwable e) {
-                    ret.completeExceptionally(e);
-                }
-                return ret;
-            }));
+        CompletableFuture<Void> executeFuture;
+        try {
+            executeFuture = asyncHttpClient.execute(executeRequest.build());
+        } catch (RuntimeException e) {
+            if (requestBody != null) {
+                requestBody.release();
+            }
+            throw e;
+        }
+        executeFuture.whenComplete((_v, e) -> {
+            // The body is streamed from its buffers, which can only be returned to the pool once the exchange is over
+            if (requestBody != null) {
+                requestBody.release();
+            }
+            responseHandler.onExchangeComplete(e);
+        });
+        if (deadline != null) {
+            ScheduledFuture<?> timer = deadline.schedule(() -> {
+                // Fails the response, or its content if it is being received, and aborts the exchange
+                responseHandler.onError(deadline.exceeded(null));
+                executeFuture.cancel(true);
+            });
+            executeFuture.whenComplete((_v, e) -> timer.cancel(false));
+        }
+        return responseHandler;
+    }
+
+    private <ResponseT> ResponseT parseStreamingResponse(
+        SdkHttpResponse response,
+        AsyncStreamingResponseHandler responseHandler,
+        Endpoint<?, ResponseT, ?> endpoint,
+        TransportOptions options
+    ) throws IOException {
+        try (InputStream bodyStream = responseHandler.getBodyStream()) {
+            return parseResponse(response, bodyStream, endpoint, options);
+        }
     }
 
     private <ResponseT, ErrorT> ResponseT parseResponse(
@@ -8,10 +8,13 @@
 
 package org.opensearch.client.transport.aws;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.util.BufferPool;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 
 public interface AwsSdk2TransportOptions extends TransportOptions {
@@ -71,6 +74,53 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
      */
     JsonpMapper mapper();
 
+    /**
+     * Get the pool providing the buffers used to serialize request bodies.
+     * <p>
+     * If this is null, then a default will be used -- either a value specified
+     * in a more general {@link AwsSdk2TransportOptions} that applies to the request, or
+     * new buffers for each request if there is none.
+     * </P>
+     *
+     * @return A buffer pool or null
+     */
+    default BufferPool bufferPool() {
+        return null;
+    }
+
+    /**
+     * Get whether the payload of requests is signed.  If this is false, then requests are signed
+     * with {@code x-amz-content-sha256: UNSIGNED-PAYLOAD} and the request body is sent without
+     * being hashed first, which saves a pass over large bodies.  The body is still protected by
+     * TLS, but only services that accept unsigned payloads will authorize such requests.
+     * <p>
+     * If this is null, then a default will be used -- either a value specified
+     * in a more general {@link AwsSdk2TransportOptions} that applies to the request, or
+     * {@link Boolean#TRUE} if there is none.
+     * </P>
+     *
+     * @return payload signing enable/disable flag, or null
+     */
+    default Boolean signPayload() {
+        return null;
+    }
+
+    /**
+     * Get the executor that asynchronous requests sent with an {@code SdkAsyncHttpClient} are parsed on.  Parsing reads
+     * the response body while it is received and blocks until it is, so it must not happen on the threads of the HTTP
+     * client or of the common fork-join pool.
+     * <p>
+     * If this is null, then a default will be used -- either a value specified
+     * in a more general {@link AwsSdk2TransportOptions} that applies to the request, or
+     * a bounded pool of daemon threads owned by the transport, which shuts it down when closed.
+     * </P>
+     *
+     * @return An executor or null
+     */
+    default Executor responseExecutor() {
+        return null;
+    }
+
     AwsSdk2TransportOptions.Builder toBuilder();
 
     static AwsSdk2TransportOptions.Builder builder() {
@@ -84,6 +134,8 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
 
         Builder onWarnings(Function<List<String>, Boolean> listener);
 
+        Builder setRequestTimeout(Duration timeout);
+
         Builder setCredentials(AwsCredentialsProvider credentials);
 
         Builder setRequestCompressionSize(Integer size);
@@ -92,6 +144,12 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
 
         Builder setMapper(JsonpMapper mapper);
 
+        Builder setBufferPool(BufferPool bufferPool);
+
+        Builder setSignPayload(Boolean enabled);
+
+        Builder setResponseExecutor(Executor executor);
+
         AwsSdk2TransportOptions build();
     }
 
@@ -101,6 +159,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
         protected Integer requestCompressionSize;
         protected Boolean responseCompression;
         protected JsonpMapper mapper;
+        protected BufferPool bufferPool;
+        protected Boolean signPayload;
+        protected Executor responseExecutor;
 
         public BuilderImpl() {}
 
@@ -110,6 +171,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             requestCompressionSize = src.requestCompressionSize();
             responseCompression = src.responseCompression();
             mapper = src.mapper();
+            bufferPool = src.bufferPool();
+            signPayload = src.signPayload();
+            responseExecutor = src.responseExecutor();
         }
 
         @Override
@@ -130,6 +194,12 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             return this;
         }
 
+        @Override
+        public Builder setRequestTimeout(Duration timeout) {
+            super.setRequestTimeout(timeout);
+            return this;
+        }
+
         @Override
         public Builder setCredentials(AwsCredentialsProvider credentials) {
             this.credentials = credentials;
@@ -154,6 +224,24 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             return this;
         }
 
+        @Override
+        public Builder setBufferPool(BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
+        @Override
+        public Builder setSignPayload(Boolean enabled) {
+            this.signPayload = enabled;
+            return this;
+        }
+
+        @Override
+        public Builder setResponseExecutor(Executor executor) {
+            this.responseExecutor = executor;
+            return this;
+        }
+
         @Override
         public AwsSdk2TransportOptions build() {
             return new DefaultImpl(this);
@@ -166,6 +254,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
         private Integer requestCompressionSize;
         private Boolean responseCompression;
         private JsonpMapper mapper;
+        private BufferPool bufferPool;
+        private Boolean signPayload;
+        private Executor responseExecutor;
 
         DefaultImpl(AwsSdk2TransportOptions.BuilderImpl builder) {
             super(builder);
@@ -173,6 +264,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             requestCompressionSize = builder.requestCompressionSize;
             responseCompression = builder.responseCompression;
             mapper = builder.mapper;
+            bufferPool = builder.bufferPool;
+            signPayload = builder.signPayload;
+            responseExecutor = builder.responseExecutor;
         }
 
         @Override
@@ -195,6 +289,21 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             return mapper;
         }
 
+        @Override
+        public BufferPool bufferPool() {
+            return bufferPool;
+        }
+
+        @Override
+        public Boolean signPayload() {
+            return signPayload;
+        }
+
+        @Override
+        public Executor responseExecutor() {
+            return responseExecutor;
+        }
+
         @Override
         public AwsSdk2TransportOptions.Builder toBuilder() {
             return new AwsSdk2TransportOptions.BuilderImpl(this);
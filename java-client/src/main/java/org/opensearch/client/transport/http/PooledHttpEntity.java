@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.opensearch.client.util.BufferPool;
+import org.opensearch.client.util.PooledOutputStream;
+
+/**
+ * A repeatable entity whose content is held in buffers acquired from a {@link BufferPool}.
+ * Closing the entity returns the buffers to the pool: it must not be closed before the request has been sent, including
+ * any retry.
+ * <p>
+ * The content is immutable once the entity is created, so that it can be sent any number of times, and concurrently,
+ * without being serialized or compressed again: each {@link #createProducer() producer} sends read-only views of the
+ * buffers.
+ */
+public class PooledHttpEntity extends AbstractHttpEntity {
+    private final PooledOutputStream content;
+
+    public PooledHttpEntity(PooledOutputStream content, ContentType contentType) {
+        this(content, contentType, false);
+    }
+
+    /**
+     * Create a new entity
+     * @param content the content of the entity
+     * @param contentType the content type of the entity
+     * @param chunked whether the entity should be sent with chunked transfer-encoding
+     */
+    public PooledHttpEntity(PooledOutputStream content, ContentType contentType, boolean chunked) {
+        super(contentType, null, chunked);
+        this.content = content;
+    }
+
+    /**
+     * Create a new entity
+     * @param content the content of the entity
+     * @param contentType the content type of the entity
+     * @param contentEncoding the content encoding of the entity, if its content is compressed
+     * @param chunked whether the entity should be sent with chunked transfer-encoding
+     */
+    public PooledHttpEntity(PooledOutputStream content, String contentType, @Nullable String contentEncoding, boolean chunked) {
+        super(contentType, contentEncoding, chunked);
+        this.content = content;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return content.size();
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return content.toInputStream();
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        content.writeTo(outStream);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        content.release();
+    }
+
+    /**
+     * Create an {@link AsyncEntityProducer} that writes the buffers holding the content to the channel, without copying
+     * them.
+     */
+    public AsyncEntityProducer createProducer() {
+        return new Producer();
+    }
+
+    private class Producer implements AsyncEntityProducer {
+        private List<ByteBuffer> buffers;
+        private int index;
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public String getContentType() {
+            return PooledHttpEntity.this.getContentType();
+        }
+
+        @Override
+        public long getContentLength() {
+            return PooledHttpEntity.this.getContentLength();
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, content.size());
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return PooledHttpEntity.this.getContentEncoding();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return PooledHttpEntity.this.isChunked();
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return null;
+        }
+
+        @Override
+        public void produce(DataStreamChannel channel) throws IOException {
+            if (buffers == null) {
+                // Views of their own for each attempt, the buffers are shared by all the attempts
+                buffers = content.toByteBuffers();
+                index = 0;
+            }
+            while (index < buffers.size()) {
+                ByteBuffer buffer = buffers.get(index);
+                if (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                    if (buffer.hasRemaining()) {
+                        // The channel is full, wait until it asks for more data
+                        return;
+                    }
+                }
+                index++;
+            }
+            channel.endStream();
+            releaseResources();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            releaseResources();
+        }
+
+        @Override
+        public void releaseResources() {
+            buffers = null;
+        }
+    }
+}
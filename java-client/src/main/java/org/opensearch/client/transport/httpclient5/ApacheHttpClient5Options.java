@@ -11,6 +11,7 @@ package org.opensearch.client.transport.httpclient5;
 import static org.opensearch.client.transport.TransportHeaders.ACCEPT;
 import static org.opensearch.client.transport.TransportHeaders.USER_AGENT;
 
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -37,6 +38,8 @@ public class ApacheHttpClient5Options implements TransportOptions {
         Collections.emptyList(),
         HttpAsyncResponseConsumerFactory.HeapBufferedResponseConsumerFactory.DEFAULT,
         null,
+        null,
+        null,
         null
     ).build();
 
@@ -44,12 +47,16 @@ public class ApacheHttpClient5Options implements TransportOptions {
     private final HttpAsyncResponseConsumerFactory httpAsyncResponseConsumerFactory;
     private final WarningsHandler warningsHandler;
     private final RequestConfig requestConfig;
+    private final HedgingPolicy hedgingPolicy;
+    private final Duration requestTimeout;
 
     private ApacheHttpClient5Options(Builder builder) {
         this.headers = Collections.unmodifiableList(new ArrayList<>(builder.headers));
         this.httpAsyncResponseConsumerFactory = builder.httpAsyncResponseConsumerFactory;
         this.warningsHandler = builder.warningsHandler;
         this.requestConfig = builder.requestConfig;
+        this.hedgingPolicy = builder.hedgingPolicy;
+        this.requestTimeout = builder.requestTimeout;
     }
 
     public HttpAsyncResponseConsumerFactory getHttpAsyncResponseConsumerFactory() {
@@ -64,6 +71,15 @@ public class ApacheHttpClient5Options implements TransportOptions {
         return requestConfig;
     }
 
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    @Override
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
     @Override
     public Collection<Entry<String, String>> headers() {
         return headers.stream().map(h -> new AbstractMap.SimpleImmutableEntry<>(h.getName(), h.getValue())).collect(Collectors.toList());
@@ -85,7 +101,7 @@ public class ApacheHttpClient5Options implements TransportOptions {
 
     @Override
     public Builder toBuilder() {
-        return new Builder(headers, httpAsyncResponseConsumerFactory, warningsHandler, requestConfig);
+        return new Builder(headers, httpAsyncResponseConsumerFactory, warningsHandler, requestConfig, hedgingPolicy, requestTimeout);
     }
 
     public static class Builder implements TransportOptions.Builder {
@@ -93,21 +109,34 @@ public class ApacheHttpClient5Options implements TransportOptions {
         private HttpAsyncResponseConsumerFactory httpAsyncResponseConsumerFactory;
         private WarningsHandler warningsHandler;
         private RequestConfig requestConfig;
+        private HedgingPolicy hedgingPolicy;
+        private Duration requestTimeout;
 
         private Builder(Builder builder) {
-            this(builder.headers, builder.httpAsyncResponseConsumerFactory, builder.warningsHandler, builder.requestConfig);
+            this(
+                builder.headers,
+                builder.httpAsyncResponseConsumerFactory,
+                builder.warningsHandler,
+                builder.requestConfig,
+                builder.hedgingPolicy,
+                builder.requestTimeout
+            );
         }
 
         private Builder(
             List<Header> headers,
             HttpAsyncResponseConsumerFactory httpAsyncResponseConsumerFactory,
             WarningsHandler warningsHandler,
-            RequestConfig requestConfig
+            RequestConfig requestConfig,
+            HedgingPolicy hedgingPolicy,
+            Duration requestTimeout
         ) {
             this.headers = new ArrayList<>(headers);
             this.httpAsyncResponseConsumerFactory = httpAsyncResponseConsumerFactory;
             this.warningsHandler = warningsHandler;
             this.requestConfig = requestConfig;
+            this.hedgingPolicy = hedgingPolicy;
+            this.requestTimeout = requestTimeout;
         }
 
         /**
@@ -200,6 +229,36 @@ public class ApacheHttpClient5Options implements TransportOptions {
             return this;
         }
 
+        /**
+         * Set the {@link HedgingPolicy} that sends idempotent requests again to another node when they aren't
+         * answered fast enough. If null (the default), requests are not hedged.
+         *
+         * @param hedgingPolicy the hedging policy, shared by the requests it applies to
+         * @return Builder
+         */
+        public Builder setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Set the time a request may take, including its retries on other nodes and its hedge, after which it fails with
+         * a {@link org.opensearch.client.transport.TransportException}. The remaining time also bounds the response
+         * timeout of the {@link #setRequestConfig(RequestConfig) request config} of each attempt. If null (the default),
+         * requests may take as long as their attempts allow.
+         *
+         * @param requestTimeout the request timeout
+         * @return Builder
+         */
+        @Override
+        public Builder setRequestTimeout(Duration requestTimeout) {
+            if (requestTimeout != null && (requestTimeout.isZero() || requestTimeout.isNegative())) {
+                throw new IllegalArgumentException("Request timeout should be positive, got [" + requestTimeout + "]");
+            }
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
         @Override
         public ApacheHttpClient5Options build() {
             return new ApacheHttpClient5Options(this);
@@ -228,6 +287,7 @@ public class ApacheHttpClient5Options implements TransportOptions {
             options.headers().forEach(h -> builder.addHeader(h.getKey(), h.getValue()));
             options.queryParameters().forEach(builder::setParameter);
             builder.onWarnings(options.onWarnings());
+            builder.setRequestTimeout(options.requestTimeout());
             return builder.build();
         }
     }
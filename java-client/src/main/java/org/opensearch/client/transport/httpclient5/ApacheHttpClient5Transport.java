@@ -8,10 +8,12 @@
 
 package org.opensearch.client.transport.httpclient5;
 
+import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -25,8 +27,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -36,7 +38,13 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nullable;
 import org.apache.commons.logging.Log;
@@ -48,6 +56,7 @@ import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.classic.methods.HttpHead;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.entity.GzipDecompressingEntity;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
@@ -61,7 +70,6 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
-import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
 import org.apache.hc.core5.http.message.BasicHeader;
@@ -70,11 +78,14 @@ import org.apache.hc.core5.http.nio.AsyncRequestProducer;
 import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
 import org.apache.hc.core5.net.URIBuilder;
 import org.apache.hc.core5.util.Args;
+import org.apache.hc.core5.util.Timeout;
+import org.opensearch.client.json.ByteArrayJsonParserFactory;
 import org.opensearch.client.json.JsonpDeserializer;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.NdJsonpSerializable;
 import org.opensearch.client.opensearch._types.ErrorResponse;
 import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.Deadline;
 import org.opensearch.client.transport.Endpoint;
 import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
@@ -82,10 +93,16 @@ import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.client.transport.endpoints.BooleanEndpoint;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.transport.http.PooledHttpEntity;
+import org.opensearch.client.transport.httpclient5.internal.HeapBufferedHttpEntity;
 import org.opensearch.client.transport.httpclient5.internal.HttpUriRequestProducer;
+import org.opensearch.client.transport.httpclient5.internal.LoadAwareNodeSelector;
+import org.opensearch.client.transport.httpclient5.internal.NdJsonEntity;
 import org.opensearch.client.transport.httpclient5.internal.Node;
 import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+import org.opensearch.client.util.BufferPool;
 import org.opensearch.client.util.MissingRequiredPropertyException;
+import org.opensearch.client.util.PooledOutputStream;
 
 /**
  * Apache HttpClient 5 based client transport.
@@ -98,13 +115,25 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     private final CloseableHttpAsyncClient client;
     private final ApacheHttpClient5Options transportOptions;
     private final ConcurrentMap<HttpHost, DeadHostState> denylist = new ConcurrentHashMap<>();
+    private final AtomicLong denylistVersion = new AtomicLong();
     private final AtomicInteger lastNodeIndex = new AtomicInteger(0);
     private volatile NodeTuple<List<Node>> nodeTuple;
+    private volatile NodeRing nodeRing;
     private final NodeSelector nodeSelector;
     private final WarningsHandler warningsHandler;
     private final FailureListener failureListener;
     private final boolean compressionEnabled;
     private final boolean chunkedEnabled;
+    private final boolean ndJsonStreamingEnabled;
+    @Nullable
+    private final BufferPool bufferPool;
+    private final RequestCompressionPolicy compressionPolicy;
+    private final CompressionCodec compressionCodec;
+    private final CompressionCounters compressionCounters = new CompressionCounters();
+    @Nullable
+    private final ConcurrencyLimiter concurrencyLimiter;
+    @Nullable
+    private final RetryPolicy retryPolicy;
     private final String pathPrefix;
     private final List<Header> defaultHeaders;
 
@@ -120,6 +149,39 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         final boolean strictDeprecationMode,
         final boolean compressionEnabled,
         final boolean chunkedEnabled
+    ) {
+        this(
+            client,
+            defaultHeaders,
+            nodes,
+            mapper,
+            options,
+            pathPrefix,
+            failureListener,
+            nodeSelector,
+            strictDeprecationMode,
+            compressionEnabled,
+            chunkedEnabled,
+            Settings.DEFAULT
+        );
+    }
+
+    /**
+     * Creates a transport with the settings that can only be set with {@link ApacheHttpClient5TransportBuilder}.
+     */
+    ApacheHttpClient5Transport(
+        final CloseableHttpAsyncClient client,
+        final Header[] defaultHeaders,
+        final List<Node> nodes,
+        final JsonpMapper mapper,
+        @Nullable TransportOptions options,
+        final String pathPrefix,
+        final FailureListener failureListener,
+        final NodeSelector nodeSelector,
+        final boolean strictDeprecationMode,
+        final boolean compressionEnabled,
+        final boolean chunkedEnabled,
+        final Settings settings
     ) {
         this.mapper = mapper;
         this.client = client;
@@ -131,6 +193,12 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         this.failureListener = (failureListener == null) ? new FailureListener() : failureListener;
         this.chunkedEnabled = chunkedEnabled;
         this.compressionEnabled = compressionEnabled;
+        this.ndJsonStreamingEnabled = settings.ndJsonStreamingEnabled;
+        this.bufferPool = settings.bufferPool;
+        this.compressionPolicy = (settings.compressionPolicy == null) ? RequestCompressionPolicy.always() : settings.compressionPolicy;
+        this.compressionCodec = (settings.compressionCodec == null) ? CompressionCodec.gzip() : settings.compressionCodec;
+        this.concurrencyLimiter = settings.concurrencyLimiter;
+        this.retryPolicy = settings.retryPolicy;
         setNodes(nodes);
     }
 
@@ -140,8 +208,10 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         TransportOptions options
     ) throws IOException {
+        final ApacheHttpClient5Options requestOptions = (options == null) ? transportOptions : ApacheHttpClient5Options.of(options);
+        final Response response;
         try {
-            return performRequestAsync(request, endpoint, options).join();
+            response = executeRequest(request, endpoint, requestOptions).join();
         } catch (final CompletionException ex) {
             if (ex.getCause() instanceof RuntimeException) {
                 throw (RuntimeException) ex.getCause();
@@ -151,6 +221,8 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                 throw new IOException(ex.getCause());
             }
         }
+        // Deserialize on the calling thread, which also lets streamed responses be read while they are received
+        return prepareResponse(response, endpoint);
     }
 
     @Override
@@ -161,25 +233,133 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     ) {
 
         final ApacheHttpClient5Options requestOptions = (options == null) ? transportOptions : ApacheHttpClient5Options.of(options);
+        final CompletableFuture<Response> future = executeRequest(request, endpoint, requestOptions);
+
+        final Function<Response, ResponseT> prepare = r -> {
+            try {
+                return (ResponseT) prepareResponse(r, endpoint);
+            } catch (final IOException ex) {
+                throw new CompletionException(ex);
+            }
+        };
+
+        final HttpAsyncResponseConsumerFactory consumerFactory = requestOptions.getHttpAsyncResponseConsumerFactory();
+        if (consumerFactory instanceof HttpAsyncResponseConsumerFactory.StreamingResponseConsumerFactory) {
+            // Streamed responses must not be read on the I/O reactor thread that completes the future
+            return future.thenApplyAsync(
+                prepare,
+                ((HttpAsyncResponseConsumerFactory.StreamingResponseConsumerFactory) consumerFactory).getExecutor()
+            );
+        }
+        return future.thenApply(prepare);
+    }
+
+    private <RequestT> CompletableFuture<Response> executeRequest(
+        RequestT request,
+        Endpoint<RequestT, ?, ?> endpoint,
+        ApacheHttpClient5Options requestOptions
+    ) {
         final CompletableFuture<Response> future = new CompletableFuture<>();
-        final HttpUriRequestBase clientReq = prepareLowLevelRequest(request, endpoint, requestOptions);
+        CompletableFuture<Response> result = future;
         final WarningsHandler warningsHandler = (requestOptions.getWarningsHandler() == null)
             ? this.warningsHandler
             : requestOptions.getWarningsHandler();
 
+        final Deadline deadline = Deadline.of(requestOptions);
         try {
-            performRequestAsync(nextNodes(), requestOptions, clientReq, warningsHandler, future);
+            final HttpUriRequestBase clientReq = prepareLowLevelRequest(request, endpoint, requestOptions);
+            final HttpEntity entity = clientReq.getEntity();
+            final NodeRing nodes;
+            try {
+                nodes = nextNodes();
+            } catch (final IOException ex) {
+                if (entity != null) {
+                    closeQuietly(entity);
+                }
+                throw ex;
+            }
+            // The latency above which the request shrinks the limits of its endpoint and of the nodes it is sent to
+            final long limitTimeoutNanos = concurrencyLimiter == null ? 0 : concurrencyLimiter.timeoutNanos(request.getClass());
+            if (concurrencyLimiter != null) {
+                final ConcurrencyLimiter.Limit limit = concurrencyLimiter.endpoint(request.getClass());
+                if (false == limit.tryAcquire()) {
+                    if (entity != null) {
+                        closeQuietly(entity);
+                    }
+                    throw limit.rejected();
+                }
+                // The limit is released before the caller is notified, so that it may send another request right away
+                final long startNanos = System.nanoTime();
+                final CompletableFuture<Response> released = new CompletableFuture<>();
+                future.whenComplete((r, e) -> {
+                    release(limit, startNanos, limitTimeoutNanos, e);
+                    if (e != null) {
+                        released.completeExceptionally(e);
+                    } else {
+                        released.complete(r);
+                    }
+                });
+                result = released;
+            }
+            final Retries retries = retryPolicy == null ? null : new Retries(retryPolicy, request);
+            final HedgingPolicy hedgingPolicy = requestOptions.getHedgingPolicy();
+            if (hedgingPolicy != null && nodes.size() > 1 && hedgingPolicy.isHedgeable(request)) {
+                final HedgedRequest hedgedRequest = new HedgedRequest(
+                    hedgingPolicy,
+                    nodes,
+                    firstNodeIndex(nodes),
+                    requestOptions,
+                    clientReq,
+                    warningsHandler,
+                    deadline,
+                    retries,
+                    limitTimeoutNanos,
+                    future
+                );
+                hedgedRequest.start();
+                cancelAtDeadline(deadline, future, hedgedRequest::cancel);
+            } else {
+                // The entity is sent again on retries, and may only release its resources once the last attempt has
+                // completed, which may be after the request timed out
+                final CompletableFuture<Response> attempts = new CompletableFuture<>();
+                attempts.whenComplete((r, e) -> {
+                    if (entity != null) {
+                        closeQuietly(entity);
+                    }
+                    if (e != null) {
+                        future.completeExceptionally(e);
+                    } else if (false == future.complete(r)) {
+                        // The request timed out in the meantime
+                        EntityUtils.consumeQuietly(r.getEntity());
+                    }
+                });
+                performRequestAsync(
+                    nodes,
+                    firstNodeIndex(nodes),
+                    0,
+                    maxAttempts(nodes, retries),
+                    requestOptions,
+                    clientReq,
+                    warningsHandler,
+                    deadline,
+                    retries,
+                    limitTimeoutNanos,
+                    attempts
+                );
+                cancelAtDeadline(deadline, future, clientReq::cancel);
+            }
         } catch (final IOException ex) {
             future.completeExceptionally(ex);
         }
 
-        return future.thenApply(r -> {
-            try {
-                return (ResponseT) prepareResponse(r, endpoint);
-            } catch (final IOException ex) {
-                throw new CompletionException(ex);
-            }
-        });
+        return result;
+    }
+
+    /**
+     * Get the list of nodes that the client knows about. The list is unmodifiable.
+     */
+    public List<Node> getNodes() {
+        return nodeTuple.nodes;
     }
 
     @Override
@@ -192,19 +372,88 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         return transportOptions;
     }
 
+    /**
+     * Statistics of the compression of request bodies, to weigh the CPU time it costs against the bytes it saves.
+     */
+    public CompressionStats compressionStats() {
+        return compressionCounters.snapshot();
+    }
+
     @Override
     public void close() throws IOException {
         client.close();
     }
 
+    /**
+     * Fails a request with a {@link TransportException} when its deadline expires, and cancels what is still in flight.
+     */
+    private static void cancelAtDeadline(@Nullable Deadline deadline, CompletableFuture<Response> future, Runnable cancel) {
+        if (deadline == null || future.isDone()) {
+            return;
+        }
+        final ScheduledFuture<?> timer = deadline.schedule(() -> {
+            if (future.completeExceptionally(deadline.exceeded(null))) {
+                cancel.run();
+            }
+        });
+        future.whenComplete((r, e) -> timer.cancel(false));
+    }
+
+    /**
+     * The maximum number of attempts of a request, which is decided by the {@link RetryPolicy} if there is one, and is
+     * one attempt per node otherwise.
+     */
+    private static int maxAttempts(NodeRing nodes, @Nullable Retries retries) {
+        return retries == null ? nodes.size() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Sends a request to the node at index {@code start + attempt} of the ring, then to the following ones while the
+     * attempts fail and may be retried, until {@code attempts} attempts were made or the deadline, if any, expired.
+     */
     private void performRequestAsync(
-        final NodeTuple<Iterator<Node>> nodeTuple,
+        final NodeRing nodes,
+        final int start,
+        final int attempt,
+        final int attempts,
         final ApacheHttpClient5Options options,
         final HttpUriRequestBase request,
         final WarningsHandler warningsHandler,
+        @Nullable final Deadline deadline,
+        @Nullable final Retries retries,
+        final long limitTimeoutNanos,
         final CompletableFuture<Response> listener
     ) {
-        final RequestContext context = createContextForNextAttempt(options, request, nodeTuple.nodes.next(), nodeTuple.authCache);
+        final Node node = nodes.node(start, attempt);
+        final ConcurrencyLimiter.Limit limit = concurrencyLimiter == null ? null : concurrencyLimiter.node(node.getHost());
+        if (limit != null && false == limit.tryAcquire()) {
+            // The node has as many requests in flight as it can take, the next one is tried right away
+            if (attempt + 1 < Math.min(attempts, nodes.size())
+                && false == request.isCancelled()
+                && (deadline == null || false == deadline.isExpired())) {
+                performRequestAsync(
+                    nodes,
+                    start,
+                    attempt + 1,
+                    attempts,
+                    options,
+                    request,
+                    warningsHandler,
+                    deadline,
+                    retries,
+                    limitTimeoutNanos,
+                    listener
+                );
+            } else {
+                listener.completeExceptionally(limit.rejected());
+            }
+            return;
+        }
+        if (deadline != null && options.getRequestConfig() != null) {
+            request.setConfig(attemptConfig(options.getRequestConfig(), deadline));
+        }
+        final RequestContext context = createContextForNextAttempt(options, request, node, nodes.nodeTuple.authCache);
+        final AttemptTracker tracker = new AttemptTracker(node, limit, limitTimeoutNanos);
         Future<ClassicHttpResponse> future = client.execute(
             context.requestProducer,
             context.asyncResponseConsumer,
@@ -212,6 +461,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
             new FutureCallback<ClassicHttpResponse>() {
                 @Override
                 public void completed(ClassicHttpResponse httpResponse) {
+                    tracker.end(isRetryStatus(httpResponse.getCode()), isOverloadStatus(httpResponse.getCode()));
                     try {
                         ResponseOrResponseException responseOrResponseException = convertResponse(
                             request,
@@ -222,11 +472,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                         if (responseOrResponseException.responseException == null) {
                             listener.complete(responseOrResponseException.response);
                         } else {
-                            if (nodeTuple.nodes.hasNext()) {
-                                performRequestAsync(nodeTuple, options, request, warningsHandler, listener);
-                            } else {
-                                listener.completeExceptionally(responseOrResponseException.responseException);
-                            }
+                            retryOrFail(responseOrResponseException.responseException);
                         }
                     } catch (Exception e) {
                         listener.completeExceptionally(e);
@@ -235,13 +481,10 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
 
                 @Override
                 public void failed(Exception failure) {
+                    tracker.end(true, true);
                     try {
                         onFailure(context.node);
-                        if (nodeTuple.nodes.hasNext()) {
-                            performRequestAsync(nodeTuple, options, request, warningsHandler, listener);
-                        } else {
-                            listener.completeExceptionally(failure);
-                        }
+                        retryOrFail(failure);
                     } catch (Exception e) {
                         listener.completeExceptionally(e);
                     }
@@ -249,22 +492,87 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
 
                 @Override
                 public void cancelled() {
+                    tracker.cancelled();
                     listener.completeExceptionally(new CancellationException("request was cancelled"));
                 }
+
+                private void retryOrFail(Exception failure) {
+                    final long delayNanos = (attempt + 1 >= attempts || request.isCancelled())
+                        ? -1
+                        : retryDelayNanos(retries, attempt + 1, failure);
+                    if (delayNanos < 0) {
+                        listener.completeExceptionally(failure);
+                    } else if (deadline != null && deadline.remainingNanos() <= delayNanos) {
+                        // No time is left for another attempt
+                        listener.completeExceptionally(deadline.exceeded(failure));
+                    } else if (delayNanos == 0) {
+                        performRequestAsync(
+                            nodes,
+                            start,
+                            attempt + 1,
+                            attempts,
+                            options,
+                            request,
+                            warningsHandler,
+                            deadline,
+                            retries,
+                            limitTimeoutNanos,
+                            listener
+                        );
+                    } else {
+                        // Wait on the shared timer of delayed executors rather than on the I/O reactor thread
+                        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+                            if (request.isCancelled()) {
+                                listener.completeExceptionally(new CancellationException("request was cancelled"));
+                            } else {
+                                performRequestAsync(
+                                    nodes,
+                                    start,
+                                    attempt + 1,
+                                    attempts,
+                                    options,
+                                    request,
+                                    warningsHandler,
+                                    deadline,
+                                    retries,
+                                    limitTimeoutNanos,
+                                    listener
+                                );
+                            }
+                        });
+                    }
+                }
             }
         );
 
         if (future instanceof org.apache.hc.core5.concurrent.Cancellable) {
             request.setDependency((org.apache.hc.core5.concurrent.Cancellable) future);
         }
+        if (deadline != null && deadline.isExpired()) {
+            // The request may have been cancelled at its deadline before this attempt was sent, which resets it
+            request.cancel();
+        }
     }
 
     /**
-     * Replaces the nodes with which the client communicates.
+     * The request config of an attempt, whose response timeout is bounded by the time left before the deadline.
+     */
+    private static RequestConfig attemptConfig(RequestConfig config, Deadline deadline) {
+        final long remainingMillis = Math.max(1, deadline.remainingMillis());
+        final Timeout responseTimeout = config.getResponseTimeout();
+        if (responseTimeout != null && false == responseTimeout.isDisabled() && responseTimeout.toMilliseconds() <= remainingMillis) {
+            return config;
+        }
+        return RequestConfig.copy(config).setResponseTimeout(Timeout.ofMilliseconds(remainingMillis)).build();
+    }
+
+    /**
+     * Replaces the nodes with which the client communicates. Requests that are in flight keep using the nodes they
+     * were sent to, while subsequent requests are sent to the new nodes. This also clears the denylist.
      *
      * @param nodes the new nodes to communicate with.
      */
-    private void setNodes(Collection<Node> nodes) {
+    public synchronized void setNodes(Collection<Node> nodes) {
         if (nodes == null || nodes.isEmpty()) {
             throw new IllegalArgumentException("nodes must not be null or empty");
         }
@@ -279,6 +587,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         }
         this.nodeTuple = new NodeTuple<>(Collections.unmodifiableList(new ArrayList<>(nodesByHost.values())), authCache);
         this.denylist.clear();
+        this.denylistVersion.incrementAndGet();
     }
 
     private ResponseOrResponseException convertResponse(
@@ -308,11 +617,26 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         if (isRetryStatus(statusCode)) {
             // mark host dead and retry against next one
             onFailure(node);
-            return new ResponseOrResponseException(responseException);
+        } else {
+            // mark host alive, and only retry if the retry policy says so, as the error should be a request problem
+            onResponse(node);
         }
-        // mark host alive and don't retry, as the error should be a request problem
-        onResponse(node);
-        throw responseException;
+        return new ResponseOrResponseException(responseException);
+    }
+
+    /**
+     * The delay before the next attempt of a request, or a negative value if it must not be retried. Without a
+     * {@link RetryPolicy}, the request is sent to the next node right away if the node failed to answer or answered with
+     * a 502, 503 or 504 status.
+     */
+    private static long retryDelayNanos(@Nullable Retries retries, int attempt, Exception failure) {
+        if (retries == null) {
+            if (failure instanceof ResponseException) {
+                return isRetryStatus(((ResponseException) failure).getResponse().getStatusLine().getStatusCode()) ? 0 : -1;
+            }
+            return 0;
+        }
+        return retries.delayNanos(attempt, failure);
     }
 
     private static Set<Integer> getIgnoreErrorCodes(String ignoreString, String requestMethod) {
@@ -346,6 +670,28 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         return statusCode < 300;
     }
 
+    /**
+     * Whether a status hints at an overloaded node, for the {@link ConcurrencyLimiter}.
+     */
+    private static boolean isOverloadStatus(int statusCode) {
+        return statusCode == 429 || isRetryStatus(statusCode);
+    }
+
+    /**
+     * Releases the limit of an endpoint once a request completed, which shrinks if the request failed in a way that hints
+     * at an overloaded cluster rather than at a faulty request.
+     */
+    private static void release(ConcurrencyLimiter.Limit limit, long startNanos, long timeoutNanos, @Nullable Throwable failure) {
+        if (failure instanceof CancellationException || failure instanceof ConcurrencyLimitExceededException) {
+            limit.release();
+        } else if (failure instanceof ResponseException) {
+            final int statusCode = ((ResponseException) failure).getResponse().getStatusLine().getStatusCode();
+            limit.release(System.nanoTime() - startNanos, timeoutNanos, isOverloadStatus(statusCode));
+        } else {
+            limit.release(System.nanoTime() - startNanos, timeoutNanos, failure != null && false == isRequestFailure(failure));
+        }
+    }
+
     private static boolean isRetryStatus(int statusCode) {
         switch (statusCode) {
             case 502:
@@ -357,106 +703,65 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     }
 
     /**
-     * Returns a non-empty {@link Iterator} of nodes to be used for a request
-     * that match the {@link NodeSelector}.
+     * Returns the snapshot of the nodes to be used for a request, that match
+     * the {@link NodeSelector}. It is rebuilt if the nodes or the denylist
+     * changed since it was taken.
      * <p>
      * If there are no living nodes that match the {@link NodeSelector}
-     * this will return the dead node that matches the {@link NodeSelector}
+     * it holds the dead node that matches the {@link NodeSelector}
      * that is closest to being revived.
      * @throws IOException if no nodes are available
      */
-    private NodeTuple<Iterator<Node>> nextNodes() throws IOException {
+    NodeRing nextNodes() throws IOException {
         NodeTuple<List<Node>> nodeTuple = this.nodeTuple;
-        Iterable<Node> hosts = selectNodes(nodeTuple, denylist, lastNodeIndex, nodeSelector);
-        return new NodeTuple<>(hosts.iterator(), nodeTuple.authCache);
+        long denylistVersion = this.denylistVersion.get();
+        NodeRing nodes = this.nodeRing;
+        if (nodes == null || false == nodes.isCurrent(nodeTuple, denylistVersion)) {
+            nodes = NodeRing.build(nodeTuple, denylist, denylistVersion, nodeSelector);
+            this.nodeRing = nodes;
+        }
+        if (nodes.rejection() != null) {
+            throw new IOException(nodes.rejection());
+        }
+        return nodes;
     }
 
     /**
-     * Select nodes to try and sorts them so that the first one will be tried initially, then the following ones
-     * if the previous attempt failed and so on. Package private for testing.
+     * Index of the node to try first, then the following ones if the previous attempt failed and so on.
      */
-    static Iterable<Node> selectNodes(
-        NodeTuple<List<Node>> nodeTuple,
-        Map<HttpHost, DeadHostState> denylist,
-        AtomicInteger lastNodeIndex,
-        NodeSelector nodeSelector
-    ) throws IOException {
-        /*
-         * Sort the nodes into living and dead lists.
-         */
-        List<Node> livingNodes = new ArrayList<>(Math.max(0, nodeTuple.nodes.size() - denylist.size()));
-        List<DeadNode> deadNodes = new ArrayList<>(denylist.size());
-        for (Node node : nodeTuple.nodes) {
-            DeadHostState deadness = denylist.get(node.getHost());
-            if (deadness == null || deadness.shallBeRetried()) {
-                livingNodes.add(node);
-            } else {
-                deadNodes.add(new DeadNode(node, deadness));
-            }
+    int firstNodeIndex(NodeRing nodes) {
+        if (false == nodes.living) {
+            return 0;
         }
-
-        if (false == livingNodes.isEmpty()) {
-            /*
-             * Normal state: there is at least one living node. If the
-             * selector is ok with any over the living nodes then use them
-             * for the request.
-             */
-            List<Node> selectedLivingNodes = new ArrayList<>(livingNodes);
-            nodeSelector.select(selectedLivingNodes);
-            if (false == selectedLivingNodes.isEmpty()) {
-                /*
-                 * Rotate the list using a global counter as the distance so subsequent
-                 * requests will try the nodes in a different order.
-                 */
-                Collections.rotate(selectedLivingNodes, lastNodeIndex.getAndIncrement());
-                return selectedLivingNodes;
-            }
+        if (nodeSelector instanceof LoadAwareNodeSelector) {
+            return ((LoadAwareNodeSelector) nodeSelector).first(nodes.nodes());
         }
-
         /*
-         * Last resort: there are no good nodes to use, either because
-         * the selector rejected all the living nodes or because there aren't
-         * any living ones. Either way, we want to revive a single dead node
-         * that the NodeSelectors are OK with. We do this by passing the dead
-         * nodes through the NodeSelector so it can have its say in which nodes
-         * are ok. If the selector is ok with any of the nodes then we will take
-         * the one in the list that has the lowest revival time and try it.
+         * Use a global counter as the distance so subsequent
+         * requests will try the nodes in a different order.
          */
-        if (false == deadNodes.isEmpty()) {
-            final List<DeadNode> selectedDeadNodes = new ArrayList<>(deadNodes);
-            /*
-             * We'd like NodeSelectors to remove items directly from deadNodes
-             * so we can find the minimum after it is filtered without having
-             * to compare many things. This saves us a sort on the unfiltered
-             * list.
-             */
-            nodeSelector.select(() -> new DeadNodeIteratorAdapter(selectedDeadNodes.iterator()));
-            if (false == selectedDeadNodes.isEmpty()) {
-                return Collections.singletonList(Collections.min(selectedDeadNodes).node);
-            }
-        }
-        throw new IOException(
-            "NodeSelector [" + nodeSelector + "] rejected all nodes, " + "living " + livingNodes + " and dead " + deadNodes
-        );
+        return Math.floorMod(lastNodeIndex.getAndIncrement(), nodes.size());
     }
 
     /**
      * Called after each failed attempt.
-     * Receives as an argument the host that was used for the failed attempt.
+     * Receives as an argument the host that was used for the failed attempt. Package private for benchmarks.
      */
-    private void onFailure(Node node) {
+    void onFailure(Node node) {
         while (true) {
             DeadHostState previousDeadHostState = denylist.putIfAbsent(
                 node.getHost(),
                 new DeadHostState(DeadHostState.DEFAULT_TIME_SUPPLIER)
             );
             if (previousDeadHostState == null) {
+                denylistVersion.incrementAndGet();
                 if (logger.isDebugEnabled()) {
                     logger.debug("added [" + node + "] to denylist");
                 }
                 break;
             }
             if (denylist.replace(node.getHost(), previousDeadHostState, new DeadHostState(previousDeadHostState))) {
+                denylistVersion.incrementAndGet();
                 if (logger.isDebugEnabled()) {
                     logger.debug("updated [" + node + "] already in denylist");
                 }
@@ -524,26 +829,31 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         RequestT request,
         Endpoint<RequestT, ?, ?> endpoint,
         @Nullable ApacheHttpClient5Options options
-    ) {
+    ) throws IOException {
         final String method = endpoint.method(request);
         final String path = endpoint.requestUrl(request);
         final Map<String, String> params = endpoint.queryParameters(request);
 
         final URI uri = buildUri(pathPrefix, path, params);
         final HttpUriRequestBase clientReq = new HttpUriRequestBase(method, uri);
-        if (endpoint.hasRequestBody()) {
-            // Request has a body and must implement JsonpSerializable or NdJsonpSerializable
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-            if (request instanceof NdJsonpSerializable) {
-                writeNdJson((NdJsonpSerializable) request, baos);
-            } else {
-                JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
-                mapper.serialize(request, generator);
-                generator.close();
+        if (endpoint.hasRequestBody() && ndJsonStreamingEnabled && request instanceof NdJsonpSerializable) {
+            // Serialize nd-json bodies lazily while they are sent rather than buffering them
+            final NdJsonEntity entity = new NdJsonEntity((NdJsonpSerializable) request, mapper, JsonContentType, chunkedEnabled);
+            // The length isn't known until the body is serialized. Uncompressed bodies are serialized again if the request
+            // is retried, which is the price of not holding them in memory
+            addRequestBody(clientReq, entity, shouldCompress(endpoint, -1));
+        } else if (endpoint.hasRequestBody()) {
+            // Request has a body and must implement JsonpSerializable or NdJsonpSerializable. It is serialized once, and
+            // sent as is on retries
+            final PooledOutputStream out = new PooledOutputStream(bufferPool == null ? BufferPool.unpooled() : bufferPool);
+            try {
+                writeRequestBody(request, out);
+            } catch (IOException | RuntimeException ex) {
+                out.release();
+                throw ex;
             }
-
-            addRequestBody(clientReq, new ByteArrayEntity(baos.toByteArray(), JsonContentType));
+            final PooledHttpEntity entity = new PooledHttpEntity(out, JsonContentType, chunkedEnabled);
+            addRequestBody(clientReq, entity, shouldCompress(endpoint, entity.getContentLength()));
         }
 
         setHeaders(clientReq, options.headers());
@@ -555,22 +865,38 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         return clientReq;
     }
 
-    private HttpUriRequestBase addRequestBody(HttpUriRequestBase httpRequest, HttpEntity entity) {
+    private boolean shouldCompress(Endpoint<?, ?, ?> endpoint, long contentLength) {
+        return compressionEnabled && compressionPolicy.shouldCompress(endpoint, contentLength);
+    }
+
+    private HttpUriRequestBase addRequestBody(HttpUriRequestBase httpRequest, HttpEntity entity, boolean compress) throws IOException {
         if (entity != null) {
-            if (compressionEnabled) {
-                if (chunkedEnabled) {
-                    entity = new ContentCompressingEntity(entity, chunkedEnabled);
-                } else {
-                    entity = new ContentCompressingEntity(entity);
-                }
-            } else if (chunkedEnabled) {
-                entity = new ContentHttpEntity(entity, chunkedEnabled);
+            if (compress) {
+                entity = compress(entity);
+            } else {
+                compressionCounters.uncompressedRequests.increment();
             }
             httpRequest.setEntity(entity);
         }
         return httpRequest;
     }
 
+    /**
+     * Compresses a request body once, on the calling thread rather than on an I/O thread, so that its length is known
+     * and it is sent as is on retries.
+     */
+    private HttpEntity compress(HttpEntity entity) throws IOException {
+        final long start = System.nanoTime();
+        final CountingEntity uncompressed = new CountingEntity(entity);
+        final PooledHttpEntity compressed = compressionCodec.compress(
+            uncompressed,
+            bufferPool == null ? BufferPool.unpooled() : bufferPool
+        );
+        compressionCounters.compressedRequests.increment();
+        compressionCounters.record(uncompressed.count, compressed.getContentLength(), System.nanoTime() - start);
+        return compressed;
+    }
+
     private void setHeaders(HttpRequest httpRequest, Collection<Entry<String, String>> requestHeaders) {
         // request headers override default headers, so we don't add default headers if they exist as request headers
         final Set<String> requestNames = new HashSet<>(requestHeaders.size());
@@ -594,8 +920,11 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
      */
     private void onResponse(Node node) {
         DeadHostState removedHost = this.denylist.remove(node.getHost());
-        if (logger.isDebugEnabled() && removedHost != null) {
-            logger.debug("removed [" + node + "] from denylist");
+        if (removedHost != null) {
+            denylistVersion.incrementAndGet();
+            if (logger.isDebugEnabled()) {
+                logger.debug("removed [" + node + "] from denylist");
+            }
         }
     }
 
@@ -623,8 +952,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                 if (entity == null) {
                     throw new TransportException("Expecting a response body, but none was sent", new ResponseException(clientResp));
                 }
-                InputStream content = entity.getContent();
-                try (JsonParser parser = mapper.jsonProvider().createParser(content)) {
+                try (JsonParser parser = createParser(entity)) {
                     response = responseParser.deserialize(parser, mapper);
                 }
                 ;
@@ -636,67 +964,299 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     }
 
     /**
-     * {@link NodeTuple} enables the {@linkplain Node}s and {@linkplain AuthCache}
-     * to be set together in a thread safe, volatile way.
+     * Parses the entity in place if it was buffered in heap memory and the JSON provider supports it, which spares the
+     * copies of the look ahead of unions, and from its content otherwise.
      */
-    static class NodeTuple<T> {
-        final T nodes;
-        final AuthCache authCache;
-
-        NodeTuple(final T nodes, final AuthCache authCache) {
-            this.nodes = nodes;
-            this.authCache = authCache;
+    private JsonParser createParser(HttpEntity entity) throws IOException {
+        JsonProvider provider = mapper.jsonProvider();
+        if (entity instanceof HeapBufferedHttpEntity
+            && entity.getContentEncoding() == null
+            && provider instanceof ByteArrayJsonParserFactory) {
+            byte[] content = ((HeapBufferedHttpEntity) entity).content();
+            return ((ByteArrayJsonParserFactory) provider).createParser(content, 0, content.length);
         }
+        return provider.createParser(entity.getContent());
     }
 
     /**
-     * Contains a reference to a denylisted node and the time until it is
-     * revived. We use this so we can do a single pass over the denylist.
+     * A request that is sent again to the next node if it isn't answered within the delay of its {@link HedgingPolicy}.
+     * The first response completes the request and the other request is cancelled, while a failure only completes it if
+     * the other request failed too. The request that is sent first still fails over to the following nodes as usual,
+     * while the hedge is a single attempt. Both requests share the same entity, which is released once both completed.
+     * Neither request is sent again once the deadline, if any, expired.
      */
-    private static class DeadNode implements Comparable<DeadNode> {
-        final Node node;
-        final DeadHostState deadness;
+    private final class HedgedRequest {
+        private final HedgingPolicy policy;
+        private final NodeRing nodes;
+        private final int start;
+        private final ApacheHttpClient5Options options;
+        private final HttpUriRequestBase request;
+        private final HttpUriRequestBase hedge;
+        private final WarningsHandler warningsHandler;
+        private final Deadline deadline;
+        private final Retries retries;
+        private final long limitTimeoutNanos;
+        private final CompletableFuture<Response> listener;
+        private final long startNanos = System.nanoTime();
+        // Requests that haven't completed yet, and no more requests may be sent once it is 0
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicBoolean answered = new AtomicBoolean();
+        private volatile Throwable failure;
+        private volatile ScheduledFuture<?> hedgeTimer;
+
+        HedgedRequest(
+            final HedgingPolicy policy,
+            final NodeRing nodes,
+            final int start,
+            final ApacheHttpClient5Options options,
+            final HttpUriRequestBase request,
+            final WarningsHandler warningsHandler,
+            @Nullable final Deadline deadline,
+            @Nullable final Retries retries,
+            final long limitTimeoutNanos,
+            final CompletableFuture<Response> listener
+        ) throws IOException {
+            this.policy = policy;
+            this.nodes = nodes;
+            this.start = start;
+            this.options = options;
+            this.request = request;
+            this.hedge = copyRequest(request);
+            this.warningsHandler = warningsHandler;
+            this.deadline = deadline;
+            this.retries = retries;
+            this.limitTimeoutNanos = limitTimeoutNanos;
+            this.listener = listener;
+        }
 
-        DeadNode(Node node, DeadHostState deadness) {
-            this.node = node;
-            this.deadness = deadness;
+        void start() {
+            policy.onRequest();
+            final CompletableFuture<Response> first = new CompletableFuture<>();
+            first.whenComplete((r, e) -> onComplete(r, e, false));
+            performRequestAsync(
+                nodes,
+                start,
+                0,
+                maxAttempts(nodes, retries),
+                options,
+                request,
+                warningsHandler,
+                deadline,
+                retries,
+                limitTimeoutNanos,
+                first
+            );
+            if (false == listener.isDone()) {
+                hedgeTimer = Deadline.scheduleAfter(policy.delayNanos(), this::sendHedge);
+                if (listener.isDone()) {
+                    // Completed while the timer was scheduled
+                    cancelHedgeTimer();
+                }
+            }
         }
 
-        @Override
-        public String toString() {
-            return node.toString();
+        private void cancelHedgeTimer() {
+            final ScheduledFuture<?> timer = hedgeTimer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
         }
 
-        @Override
-        public int compareTo(DeadNode rhs) {
-            return deadness.compareTo(rhs.deadness);
+        private void sendHedge() {
+            if (listener.isDone() || (deadline != null && deadline.isExpired()) || false == policy.tryHedge()) {
+                return;
+            }
+            if (pending.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+                // Completed in the meantime
+                return;
+            }
+            final CompletableFuture<Response> second = new CompletableFuture<>();
+            second.whenComplete((r, e) -> onComplete(r, e, true));
+            // A single attempt on the node after the one the request was sent to first
+            performRequestAsync(nodes, start, 1, 2, options, hedge, warningsHandler, deadline, null, limitTimeoutNanos, second);
+        }
+
+        /**
+         * Cancels both requests, e.g. when the deadline expired.
+         */
+        void cancel() {
+            request.cancel();
+            hedge.cancel();
         }
+
+        private void onComplete(Response response, Throwable e, boolean fromHedge) {
+            if (e == null) {
+                if (answered.compareAndSet(false, true)) {
+                    // Recorded before the caller is notified, as it may look at the statistics of the policy right away
+                    policy.onResponse(System.nanoTime() - startNanos, fromHedge);
+                    (fromHedge ? request : hedge).cancel();
+                    if (false == listener.complete(response)) {
+                        // The request timed out in the meantime
+                        EntityUtils.consumeQuietly(response.getEntity());
+                    }
+                } else {
+                    // The other request was answered first
+                    EntityUtils.consumeQuietly(response.getEntity());
+                }
+            } else if (false == fromHedge && isRequestFailure(e)) {
+                // The node answered, and the request itself is at fault
+                if (answered.compareAndSet(false, true)) {
+                    hedge.cancel();
+                    listener.completeExceptionally(e);
+                }
+            } else if (false == fromHedge || failure == null) {
+                failure = e;
+            }
+            if (pending.decrementAndGet() == 0) {
+                if (false == listener.isDone()) {
+                    listener.completeExceptionally(failure);
+                }
+                final HttpEntity entity = request.getEntity();
+                if (entity != null) {
+                    closeQuietly(entity);
+                }
+            }
+            if (listener.isDone()) {
+                // Discard the timer rather than keeping this request until the hedge delay elapsed
+                cancelHedgeTimer();
+            }
+        }
+    }
+
+    private static boolean isRequestFailure(Throwable e) {
+        if (e instanceof ResponseException) {
+            return false == isRetryStatus(((ResponseException) e).getResponse().getStatusLine().getStatusCode());
+        }
+        return e instanceof WarningFailureException;
+    }
+
+    private static HttpUriRequestBase copyRequest(final HttpUriRequestBase request) throws IOException {
+        final HttpUriRequestBase copy;
+        try {
+            copy = new HttpUriRequestBase(request.getMethod(), request.getUri());
+        } catch (final URISyntaxException ex) {
+            throw new IOException(ex);
+        }
+        copy.setHeaders(request.getHeaders());
+        copy.setEntity(request.getEntity());
+        copy.setConfig(request.getConfig());
+        return copy;
     }
 
     /**
-     * Adapts an <code>Iterator&lt;DeadNodeAndRevival&gt;</code> into an
-     * <code>Iterator&lt;Node&gt;</code>.
+     * The retries of a request, as decided by the {@link RetryPolicy}. Attempts are made one after the other, and so
+     * the delay before the last attempt isn't updated concurrently.
      */
-    private static class DeadNodeIteratorAdapter implements Iterator<Node> {
-        private final Iterator<DeadNode> itr;
+    private static final class Retries {
+        private final RetryPolicy policy;
+        private final Object request;
+        private volatile long previousDelayNanos;
+
+        Retries(RetryPolicy policy, Object request) {
+            this.policy = policy;
+            this.request = request;
+            policy.onRequest(request);
+        }
 
-        private DeadNodeIteratorAdapter(Iterator<DeadNode> itr) {
-            this.itr = itr;
+        long delayNanos(int attempt, Exception failure) {
+            final long delayNanos = policy.retryDelayNanos(request, attempt, previousDelayNanos, failure);
+            previousDelayNanos = Math.max(0, delayNanos);
+            return delayNanos;
         }
+    }
 
-        @Override
-        public boolean hasNext() {
-            return itr.hasNext();
+    /**
+     * Notifies a {@link LoadAwareNodeSelector}, if there is one, of the start and the end of an attempt, and releases
+     * the limit of the node in the {@link ConcurrencyLimiter}, if there is one.
+     */
+    private class AttemptTracker {
+        private final Node node;
+        @Nullable
+        private final ConcurrencyLimiter.Limit limit;
+        private final long limitTimeoutNanos;
+        private final long startNanos;
+
+        AttemptTracker(Node node, @Nullable ConcurrencyLimiter.Limit limit, long limitTimeoutNanos) {
+            this.node = node;
+            this.limit = limit;
+            this.limitTimeoutNanos = limitTimeoutNanos;
+            if (nodeSelector instanceof LoadAwareNodeSelector) {
+                ((LoadAwareNodeSelector) nodeSelector).onRequestStart(node);
+            }
+            this.startNanos = (nodeSelector instanceof LoadAwareNodeSelector || limit != null) ? System.nanoTime() : 0;
         }
 
-        @Override
-        public Node next() {
-            return itr.next().node;
+        /**
+         * @param failed     whether the node failed to answer, or answered with a status that is retried
+         * @param overloaded whether the failure hints at an overloaded node
+         */
+        void end(boolean failed, boolean overloaded) {
+            final long latencyNanos = System.nanoTime() - startNanos;
+            if (nodeSelector instanceof LoadAwareNodeSelector) {
+                ((LoadAwareNodeSelector) nodeSelector).onRequestEnd(node, latencyNanos, failed);
+            }
+            if (limit != null) {
+                limit.release(latencyNanos, limitTimeoutNanos, overloaded);
+            }
         }
 
-        @Override
-        public void remove() {
-            itr.remove();
+        void cancelled() {
+            if (nodeSelector instanceof LoadAwareNodeSelector) {
+                ((LoadAwareNodeSelector) nodeSelector).onRequestEnd(node, System.nanoTime() - startNanos, false);
+            }
+            if (limit != null) {
+                limit.release();
+            }
+        }
+    }
+
+    /**
+     * {@link NodeTuple} enables the {@linkplain Node}s and {@linkplain AuthCache}
+     * to be set together in a thread safe, volatile way.
+     */
+    static class NodeTuple<T> {
+        final T nodes;
+        final AuthCache authCache;
+
+        NodeTuple(final T nodes, final AuthCache authCache) {
+            this.nodes = nodes;
+            this.authCache = authCache;
+        }
+    }
+
+    /**
+     * The settings of the transport that are set with {@link ApacheHttpClient5TransportBuilder}, so that new ones don't
+     * require new constructors.
+     */
+    static final class Settings {
+        static final Settings DEFAULT = new Settings(false, null, null, null, null, null);
+
+        final boolean ndJsonStreamingEnabled;
+        @Nullable
+        final BufferPool bufferPool;
+        @Nullable
+        final RequestCompressionPolicy compressionPolicy;
+        @Nullable
+        final CompressionCodec compressionCodec;
+        @Nullable
+        final ConcurrencyLimiter concurrencyLimiter;
+        @Nullable
+        final RetryPolicy retryPolicy;
+
+        Settings(
+            boolean ndJsonStreamingEnabled,
+            @Nullable BufferPool bufferPool,
+            @Nullable RequestCompressionPolicy compressionPolicy,
+            @Nullable CompressionCodec compressionCodec,
+            @Nullable ConcurrencyLimiter concurrencyLimiter,
+            @Nullable RetryPolicy retryPolicy
+        ) {
+            this.ndJsonStreamingEnabled = ndJsonStreamingEnabled;
+            this.bufferPool = bufferPool;
+            this.compressionPolicy = compressionPolicy;
+            this.compressionCodec = compressionCodec;
+            this.concurrencyLimiter = concurrencyLimiter;
+            this.retryPolicy = retryPolicy;
         }
     }
 
@@ -704,21 +1264,39 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
      * Write an nd-json value by serializing each of its items on a separate line, recursing if its items themselves implement
      * {@link NdJsonpSerializable} to flattening nested structures.
      */
-    private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream baos) {
+    private void writeNdJson(NdJsonpSerializable value, OutputStream out) throws IOException {
         Iterator<?> values = value._serializables();
         while (values.hasNext()) {
             Object item = values.next();
             if (item instanceof NdJsonpSerializable && item != value) { // do not recurse on the item itself
-                writeNdJson((NdJsonpSerializable) item, baos);
+                writeNdJson((NdJsonpSerializable) item, out);
             } else {
-                JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
                 mapper.serialize(item, generator);
                 generator.close();
-                baos.write('\n');
+                out.write('\n');
             }
         }
     }
 
+    private void writeRequestBody(Object request, OutputStream out) throws IOException {
+        if (request instanceof NdJsonpSerializable) {
+            writeNdJson((NdJsonpSerializable) request, out);
+        } else {
+            JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+            mapper.serialize(request, generator);
+            generator.close();
+        }
+    }
+
+    private static void closeQuietly(HttpEntity entity) {
+        try {
+            entity.close();
+        } catch (final IOException ex) {
+            logger.debug("Failed to close request entity", ex);
+        }
+    }
+
     private static URI buildUri(String pathPrefix, String path, Map<String, String> params) {
         Objects.requireNonNull(path, "path must not be null");
         try {
@@ -863,7 +1441,8 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     }
 
     /**
-     * A gzip compressing entity that also implements {@code getContent()}.
+     * A gzip compressing entity that also implements {@code getContent()}. Its content is compressed each time it is
+     * read: the transport rather compresses request bodies once, so that they can be sent again on retries.
      */
     public static class ContentCompressingEntity extends HttpEntityWrapper {
         private static final String GZIP_CODEC = "gzip";
@@ -1001,6 +1580,61 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         }
     }
 
+    /**
+     * Counters of the compression of request bodies.
+     */
+    private static final class CompressionCounters {
+        private final LongAdder compressedRequests = new LongAdder();
+        private final LongAdder uncompressedRequests = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+        private final LongAdder compressionNanos = new LongAdder();
+
+        void record(long uncompressed, long compressed, long nanos) {
+            uncompressedBytes.add(uncompressed);
+            compressedBytes.add(compressed);
+            compressionNanos.add(nanos);
+        }
+
+        CompressionStats snapshot() {
+            return new CompressionStats(
+                compressedRequests.sum(),
+                uncompressedRequests.sum(),
+                uncompressedBytes.sum(),
+                compressedBytes.sum(),
+                compressionNanos.sum()
+            );
+        }
+    }
+
+    /**
+     * An entity that counts the bytes of its content as it is written.
+     */
+    private static class CountingEntity extends HttpEntityWrapper {
+        private long count;
+
+        CountingEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            super.writeTo(new FilterOutputStream(outStream) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    count++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    count += len;
+                }
+            });
+        }
+    }
+
     /**
      * A ByteArrayOutputStream that can be turned into an input stream without copying the underlying buffer.
      */
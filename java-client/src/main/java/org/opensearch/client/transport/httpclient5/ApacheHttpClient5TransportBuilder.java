@@ -41,6 +41,7 @@ import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.client.transport.httpclient5.internal.Node;
 import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+import org.opensearch.client.util.BufferPool;
 
 public class ApacheHttpClient5TransportBuilder {
     /**
@@ -75,6 +76,12 @@ public class ApacheHttpClient5TransportBuilder {
     private boolean strictDeprecationMode = false;
     private boolean compressionEnabled = false;
     private Optional<Boolean> chunkedEnabled;
+    private boolean ndJsonStreamingEnabled = false;
+    private BufferPool bufferPool;
+    private RequestCompressionPolicy compressionPolicy;
+    private CompressionCodec compressionCodec;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private RetryPolicy retryPolicy;
     private JsonpMapper mapper;
     private TransportOptions options;
 
@@ -251,6 +258,35 @@ public class ApacheHttpClient5TransportBuilder {
         return this;
     }
 
+    /**
+     * Sets the policy that decides which request bodies are compressed when compression is enabled, e.g. only those of
+     * at least some length with {@link RequestCompressionPolicy#minLength(long)}. By default, all request bodies are
+     * compressed.
+     *
+     * @param compressionPolicy the {@link RequestCompressionPolicy} to decide with
+     * @throws NullPointerException if {@code compressionPolicy} is {@code null}.
+     * @see #setCompressionEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setCompressionPolicy(RequestCompressionPolicy compressionPolicy) {
+        Objects.requireNonNull(compressionPolicy, "compressionPolicy must not be null");
+        this.compressionPolicy = compressionPolicy;
+        return this;
+    }
+
+    /**
+     * Sets the codec that request bodies are compressed with when compression is enabled, e.g. to trade a lower ratio
+     * for less CPU time with {@code CompressionCodec.gzip(1)}. Defaults to {@link CompressionCodec#gzip()}.
+     *
+     * @param compressionCodec the {@link CompressionCodec} to compress with
+     * @throws NullPointerException if {@code compressionCodec} is {@code null}.
+     * @see #setCompressionEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setCompressionCodec(CompressionCodec compressionCodec) {
+        Objects.requireNonNull(compressionCodec, "compressionCodec must not be null");
+        this.compressionCodec = compressionCodec;
+        return this;
+    }
+
     /**
      * Whether the REST client should use Transfer-Encoding: chunked for requests or not"
      *
@@ -261,6 +297,59 @@ public class ApacheHttpClient5TransportBuilder {
         return this;
     }
 
+    /**
+     * Whether nd-json request bodies (e.g. bulk requests) should be serialized lazily while they are sent, rather than
+     * being buffered in memory beforehand. Unless chunked transfer-encoding is enabled, the body is serialized twice:
+     * once to compute its length and once to send it.
+     *
+     * @param ndJsonStreamingEnabled flag for enabling streaming of nd-json request bodies
+     */
+    public ApacheHttpClient5TransportBuilder setNdJsonStreamingEnabled(boolean ndJsonStreamingEnabled) {
+        this.ndJsonStreamingEnabled = ndJsonStreamingEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the pool of buffers used to serialize request bodies. The buffers are returned to the pool once the request
+     * has completed. By default, request bodies are serialized into a new byte array for each request.
+     *
+     * @param bufferPool the {@link BufferPool} to serialize request bodies with
+     * @throws NullPointerException if {@code bufferPool} is {@code null}.
+     */
+    public ApacheHttpClient5TransportBuilder setBufferPool(BufferPool bufferPool) {
+        Objects.requireNonNull(bufferPool, "bufferPool must not be null");
+        this.bufferPool = bufferPool;
+        return this;
+    }
+
+    /**
+     * Sets the limiter of the requests in flight to each node and for each endpoint, so that requests fail fast with a
+     * {@link ConcurrencyLimitExceededException} rather than queuing up when the cluster slows down. By default, the
+     * number of requests in flight is only bounded by the connection pool.
+     *
+     * @param concurrencyLimiter the {@link ConcurrencyLimiter} to limit requests with
+     * @throws NullPointerException if {@code concurrencyLimiter} is {@code null}.
+     */
+    public ApacheHttpClient5TransportBuilder setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        Objects.requireNonNull(concurrencyLimiter, "concurrencyLimiter must not be null");
+        this.concurrencyLimiter = concurrencyLimiter;
+        return this;
+    }
+
+    /**
+     * Sets the policy that decides which failed requests are retried, and after which delay, e.g. a
+     * {@link BackoffRetryPolicy}. By default, requests are sent to the next node right away when a node fails to answer
+     * or answers with a 502, 503 or 504 status, until each node was tried once.
+     *
+     * @param retryPolicy the {@link RetryPolicy} to retry requests with
+     * @throws NullPointerException if {@code retryPolicy} is {@code null}.
+     */
+    public ApacheHttpClient5TransportBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+        Objects.requireNonNull(retryPolicy, "retryPolicy must not be null");
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
     /**
      * Creates a new {@link RestClient} based on the provided configuration.
      */
@@ -287,7 +376,15 @@ public class ApacheHttpClient5TransportBuilder {
             nodeSelector,
             strictDeprecationMode,
             compressionEnabled,
-            chunkedEnabled.orElse(false)
+            chunkedEnabled.orElse(false),
+            new ApacheHttpClient5Transport.Settings(
+                ndJsonStreamingEnabled,
+                bufferPool,
+                compressionPolicy,
+                compressionCodec,
+                concurrencyLimiter,
+                retryPolicy
+            )
         );
 
         httpClient.start();
@@ -0,0 +1,291 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.opensearch.client.util.ObjectBuilder;
+import org.opensearch.client.util.ObjectBuilderBase;
+
+/**
+ * A {@link RetryPolicy} that retries requests after a growing, randomized delay, within a budget of retries.
+ * <p>
+ * Requests are retried when a node answers with a 429, 502, 503 or 504 status, e.g. when its thread pools reject
+ * requests under write pressure, or fails to answer with an {@link IOException}, e.g. because it is unreachable. The
+ * delays follow a "decorrelated jitter" backoff: each delay is drawn at random between the base delay and three times
+ * the previous delay, up to the maximum delay, so that the requests rejected together are not retried together.
+ * <p>
+ * The number of retries is capped by a budget: each request earns a fraction of a retry, and a request is only retried
+ * if a whole one was earned, so that retries cannot multiply the load of a cluster that rejects requests because it is
+ * overloaded. The budget starts full, with enough retries saved up for a few failures.
+ * <p>
+ * A policy keeps track of its budget and of the retries of each endpoint, and should be used by a single transport. It
+ * is set with {@link ApacheHttpClient5TransportBuilder#setRetryPolicy(RetryPolicy)}.
+ */
+public final class BackoffRetryPolicy implements RetryPolicy {
+    // Retries that can be saved up while no retry is needed
+    private static final long MAX_BUDGET = 10 * 1000;
+
+    private final Set<Integer> retryStatuses;
+    private final Set<Class<? extends Exception>> retryExceptions;
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long budgetPerRequest;
+    private final AtomicLong budget = new AtomicLong(MAX_BUDGET);
+    private final ConcurrentMap<Class<?>, Counters> endpoints = new ConcurrentHashMap<>();
+
+    private BackoffRetryPolicy(Builder builder) {
+        this.retryStatuses = builder.retryStatuses;
+        this.retryExceptions = builder.retryExceptions;
+        this.maxRetries = builder.maxRetries;
+        this.baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.baseDelayMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxDelayMillis);
+        this.budgetPerRequest = Math.round(builder.retryBudgetRatio * 1000);
+    }
+
+    public static BackoffRetryPolicy of(Function<Builder, ObjectBuilder<BackoffRetryPolicy>> fn) {
+        return fn.apply(new Builder()).build();
+    }
+
+    /**
+     * Whether a failed attempt may be retried, regardless of the number of attempts and of the budget.
+     */
+    public boolean isRetryable(Exception failure) {
+        if (failure instanceof ResponseException) {
+            return retryStatuses.contains(((ResponseException) failure).getResponse().getStatusLine().getStatusCode());
+        }
+        for (Class<? extends Exception> type : retryExceptions) {
+            if (type.isInstance(failure)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Statistics of the retries of each endpoint, by class name of the requests.
+     */
+    public Map<String, Stats> endpointStats() {
+        final Map<String, Stats> stats = new TreeMap<>();
+        endpoints.forEach((type, counters) -> stats.put(type.getName(), counters.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    @Override
+    public void onRequest(Object request) {
+        counters(request).requests.increment();
+        long current;
+        do {
+            current = budget.get();
+            if (current >= MAX_BUDGET) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(MAX_BUDGET, current + budgetPerRequest)));
+    }
+
+    @Override
+    public long retryDelayNanos(Object request, int attempt, long previousDelayNanos, Exception failure) {
+        if (attempt > maxRetries || false == isRetryable(failure)) {
+            return -1;
+        }
+        final Counters counters = counters(request);
+        if (false == trySpend()) {
+            counters.rejectedRetries.increment();
+            return -1;
+        }
+        counters.retries.increment();
+        return delayNanos(previousDelayNanos);
+    }
+
+    /**
+     * The delay before the next attempt, drawn at random between the base delay and three times the previous delay.
+     */
+    long delayNanos(long previousDelayNanos) {
+        final long upperBound = Math.min(maxDelayNanos, Math.max(baseDelayNanos, previousDelayNanos) * 3);
+        if (upperBound <= baseDelayNanos) {
+            return upperBound;
+        }
+        return ThreadLocalRandom.current().nextLong(baseDelayNanos, upperBound + 1);
+    }
+
+    private boolean trySpend() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < 1000) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - 1000));
+        return true;
+    }
+
+    private Counters counters(Object request) {
+        return endpoints.computeIfAbsent(request.getClass(), t -> new Counters());
+    }
+
+    private static final class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder rejectedRetries = new LongAdder();
+
+        Stats stats() {
+            return new Stats(requests.sum(), retries.sum(), rejectedRetries.sum());
+        }
+    }
+
+    /**
+     * A point-in-time snapshot of the retries of an endpoint.
+     */
+    public static final class Stats {
+        private final long requests;
+        private final long retries;
+        private final long rejectedRetries;
+
+        public Stats(long requests, long retries, long rejectedRetries) {
+            this.requests = requests;
+            this.retries = retries;
+            this.rejectedRetries = rejectedRetries;
+        }
+
+        /**
+         * Number of requests that were sent.
+         */
+        public long requests() {
+            return requests;
+        }
+
+        /**
+         * Number of retries, i.e. the number of extra attempts that were made.
+         */
+        public long retries() {
+            return retries;
+        }
+
+        /**
+         * Number of retryable failures that weren't retried because the budget was spent.
+         */
+        public long rejectedRetries() {
+            return rejectedRetries;
+        }
+
+        @Override
+        public String toString() {
+            return "BackoffRetryPolicy.Stats{requests=" + requests + ", retries=" + retries + ", rejectedRetries=" + rejectedRetries + "}";
+        }
+    }
+
+    /**
+     * Builder for {@link BackoffRetryPolicy}.
+     */
+    public static class Builder extends ObjectBuilderBase implements ObjectBuilder<BackoffRetryPolicy> {
+        private Set<Integer> retryStatuses = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504)));
+        private Set<Class<? extends Exception>> retryExceptions = Collections.singleton(IOException.class);
+        private int maxRetries = 3;
+        private long baseDelayMillis = 50;
+        private long maxDelayMillis = 5000;
+        private double retryBudgetRatio = 0.2;
+
+        /**
+         * The statuses of the responses that are retried. Defaults to 429, 502, 503 and 504.
+         */
+        public final Builder retryStatuses(int... value) {
+            final Set<Integer> statuses = new HashSet<>();
+            for (int status : value) {
+                statuses.add(status);
+            }
+            this.retryStatuses = Collections.unmodifiableSet(statuses);
+            return this;
+        }
+
+        /**
+         * The types of the exceptions, other than the error responses of nodes, that are retried. Defaults to
+         * {@link IOException}.
+         */
+        @SafeVarargs
+        public final Builder retryExceptions(Class<? extends Exception>... value) {
+            Set<Class<? extends Exception>> exceptions = new HashSet<>(value.length);
+            for (Class<? extends Exception> exception : value) {
+                exceptions.add(exception);
+            }
+            this.retryExceptions = Collections.unmodifiableSet(exceptions);
+            return this;
+        }
+
+        /**
+         * The maximum number of retries of a request. Defaults to 3.
+         */
+        public final Builder maxRetries(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Max retries should not be negative, got [" + value + "]");
+            }
+            this.maxRetries = value;
+            return this;
+        }
+
+        /**
+         * The shortest delay before a retry. Defaults to 50 milliseconds.
+         */
+        public final Builder baseDelayMillis(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Base delay should not be negative, got [" + value + "]");
+            }
+            this.baseDelayMillis = value;
+            return this;
+        }
+
+        /**
+         * The longest delay before a retry. Defaults to 5 seconds.
+         */
+        public final Builder maxDelayMillis(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Max delay should not be negative, got [" + value + "]");
+            }
+            this.maxDelayMillis = value;
+            return this;
+        }
+
+        /**
+         * The maximum ratio of retries to requests, i.e. of extra load on the cluster, once the retries saved up are
+         * spent. Defaults to {@code 0.2}.
+         */
+        public final Builder retryBudgetRatio(double value) {
+            if (!(value > 0 && value <= 1)) {
+                throw new IllegalArgumentException("Retry budget ratio should be between 0 and 1, got [" + value + "]");
+            }
+            this.retryBudgetRatio = value;
+            return this;
+        }
+
+        /**
+         * Builds a {@link BackoffRetryPolicy}.
+         */
+        public BackoffRetryPolicy build() {
+            _checkSingleUse();
+            if (baseDelayMillis > maxDelayMillis) {
+                throw new IllegalArgumentException(
+                    "Base delay [" + baseDelayMillis + "] should not be greater than max delay [" + maxDelayMillis + "]"
+                );
+            }
+            return new BackoffRetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.core5.http.HttpEntity;
+import org.opensearch.client.transport.http.PooledHttpEntity;
+import org.opensearch.client.util.BufferPool;
+import org.opensearch.client.util.PooledOutputStream;
+
+/**
+ * A codec that compresses request bodies sent by {@link ApacheHttpClient5Transport}, along with the
+ * {@code Content-Encoding} it is sent with. The server must be able to decode it: OpenSearch accepts {@code gzip} and
+ * {@code deflate} request bodies.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see ApacheHttpClient5TransportBuilder#setCompressionCodec(CompressionCodec)
+ */
+public interface CompressionCodec {
+
+    /**
+     * The value of the {@code Content-Encoding} header of compressed request bodies.
+     */
+    String contentEncoding();
+
+    /**
+     * Wraps a stream so that the bytes written to the returned stream are written compressed to {@code out}. Closing the
+     * returned stream finishes the compressed content and closes {@code out}.
+     */
+    OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Compresses the content of an entity into buffers acquired from a pool, and closes it. The compressed entity can
+     * then be sent, and sent again on retries, without compressing its content again.
+     *
+     * @param entity the entity to compress
+     * @param pool   the pool of buffers to hold the compressed content
+     * @return an entity with the compressed content, the content encoding of this codec, and sent with chunked
+     *         transfer-encoding if {@code entity} is
+     */
+    default PooledHttpEntity compress(HttpEntity entity, BufferPool pool) throws IOException {
+        final PooledOutputStream out = new PooledOutputStream(pool);
+        try (HttpEntity uncompressed = entity) {
+            try (OutputStream compressed = compress(out)) {
+                uncompressed.writeTo(compressed);
+            }
+        } catch (IOException | RuntimeException ex) {
+            out.release();
+            throw ex;
+        }
+        return new PooledHttpEntity(out, entity.getContentType(), contentEncoding(), entity.isChunked());
+    }
+
+    /**
+     * A {@code gzip} codec with the default compression level.
+     */
+    static CompressionCodec gzip() {
+        return gzip(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * A {@code gzip} codec with a compression level, from {@code 1} (fastest) to {@code 9} (smallest), or
+     * {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    static CompressionCodec gzip(int level) {
+        checkLevel(level);
+        return new CompressionCodec() {
+            @Override
+            public String contentEncoding() {
+                return "gzip";
+            }
+
+            @Override
+            public OutputStream compress(OutputStream out) throws IOException {
+                return new GZIPOutputStream(out, 8192) {
+                    {
+                        def.setLevel(level);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A {@code deflate} (zlib) codec with a compression level, from {@code 1} (fastest) to {@code 9} (smallest), or
+     * {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    static CompressionCodec deflate(int level) {
+        checkLevel(level);
+        return new CompressionCodec() {
+            @Override
+            public String contentEncoding() {
+                return "deflate";
+            }
+
+            @Override
+            public OutputStream compress(OutputStream out) {
+                Deflater deflater = new Deflater(level);
+                return new DeflaterOutputStream(out, deflater, 8192) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            // Not ended by DeflaterOutputStream since it was provided
+                            deflater.end();
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    private static void checkLevel(int level) {
+        if ((level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level should be between 1 and 9, got [" + level + "]");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+/**
+ * A point-in-time snapshot of the request compression statistics of an {@link ApacheHttpClient5Transport}, to weigh
+ * the CPU time spent compressing request bodies against the bytes it saves. Request bodies are compressed once per
+ * request, however many times they are sent.
+ *
+ * @see ApacheHttpClient5Transport#compressionStats()
+ */
+public final class CompressionStats {
+    private final long compressedRequests;
+    private final long uncompressedRequests;
+    private final long uncompressedBytes;
+    private final long compressedBytes;
+    private final long compressionNanos;
+
+    public CompressionStats(
+        long compressedRequests,
+        long uncompressedRequests,
+        long uncompressedBytes,
+        long compressedBytes,
+        long compressionNanos
+    ) {
+        this.compressedRequests = compressedRequests;
+        this.uncompressedRequests = uncompressedRequests;
+        this.uncompressedBytes = uncompressedBytes;
+        this.compressedBytes = compressedBytes;
+        this.compressionNanos = compressionNanos;
+    }
+
+    /**
+     * Number of requests whose body was sent compressed.
+     */
+    public long compressedRequests() {
+        return compressedRequests;
+    }
+
+    /**
+     * Number of requests whose body was sent uncompressed, because compression is disabled or because of the
+     * {@link RequestCompressionPolicy}.
+     */
+    public long uncompressedRequests() {
+        return uncompressedRequests;
+    }
+
+    /**
+     * Number of bytes that were compressed.
+     */
+    public long uncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Number of bytes they were compressed into.
+     */
+    public long compressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * Time spent compressing request bodies, including the time spent writing the bodies that are serialized while they
+     * are compressed, e.g. streamed nd-json bodies.
+     */
+    public long compressionNanos() {
+        return compressionNanos;
+    }
+
+    /**
+     * Ratio of the compressed bytes to the uncompressed bytes, or {@code 1} if nothing was compressed.
+     */
+    public double compressionRatio() {
+        return uncompressedBytes == 0 ? 1 : (double) compressedBytes / uncompressedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats{compressedRequests="
+            + compressedRequests
+            + ", uncompressedRequests="
+            + uncompressedRequests
+            + ", uncompressedBytes="
+            + uncompressedBytes
+            + ", compressedBytes="
+            + compressedBytes
+            + ", compressionNanos="
+            + compressionNanos
+            + "}";
+    }
+}
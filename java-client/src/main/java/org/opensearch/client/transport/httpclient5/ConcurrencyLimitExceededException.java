@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import org.opensearch.client.transport.TransportException;
+
+/**
+ * Thrown when a request isn't sent because too many requests are in flight for its endpoint, or to every node it could
+ * be sent to, according to the {@link ConcurrencyLimiter} of the transport. The request may be retried later, once the
+ * cluster has caught up.
+ */
+public class ConcurrencyLimitExceededException extends TransportException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
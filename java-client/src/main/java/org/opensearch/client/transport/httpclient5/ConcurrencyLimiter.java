@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.util.ObjectBuilder;
+import org.opensearch.client.util.ObjectBuilderBase;
+
+/**
+ * Limits the number of requests of {@link ApacheHttpClient5Transport} in flight to each node and for each endpoint, so
+ * that requests fail fast with a {@link ConcurrencyLimitExceededException} when the cluster slows down, rather than
+ * piling up in the connection pools of the HTTP client.
+ * <p>
+ * Limits adapt to the latency and failures of the requests (additive increase, multiplicative decrease): a limit grows
+ * by one when a request succeeds while at least half of the limit was in use, and shrinks by the backoff ratio when a
+ * request fails, is answered with a 429, 502, 503 or 504 status, or takes longer than the timeout of its endpoint. This
+ * reacts to a node that is getting overloaded before it fails outright, which is when it is put on the denylist.
+ * <p>
+ * A request that would exceed the limit of its endpoint, i.e. of the type of the request, fails without being sent. A
+ * request that would exceed the limit of a node is sent to the next node instead, and fails if no node is left to try.
+ * <p>
+ * A limiter keeps track of requests in flight, and should be used by a single transport. It is set with
+ * {@link ApacheHttpClient5TransportBuilder#setConcurrencyLimiter(ConcurrencyLimiter)}.
+ */
+public final class ConcurrencyLimiter {
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+    private final Map<Class<?>, Long> endpointTimeoutNanos;
+    private final ConcurrentMap<HttpHost, Limit> nodes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Limit> endpoints = new ConcurrentHashMap<>();
+
+    private ConcurrencyLimiter(Builder builder) {
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(builder.timeoutMillis);
+        this.endpointTimeoutNanos = builder.endpointTimeoutNanos.isEmpty()
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new HashMap<>(builder.endpointTimeoutNanos));
+    }
+
+    public static ConcurrencyLimiter of(Function<Builder, ObjectBuilder<ConcurrencyLimiter>> fn) {
+        return fn.apply(new Builder()).build();
+    }
+
+    /**
+     * The requests in flight to each node and their limit, by node URI.
+     */
+    public Map<String, Stats> nodeStats() {
+        final Map<String, Stats> stats = new TreeMap<>();
+        nodes.forEach((host, limit) -> stats.put(host.toURI(), limit.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * The requests in flight for each endpoint and their limit, by class name of the requests.
+     */
+    public Map<String, Stats> endpointStats() {
+        final Map<String, Stats> stats = new TreeMap<>();
+        endpoints.forEach((type, limit) -> stats.put(type.getName(), limit.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    Limit node(HttpHost host) {
+        return nodes.computeIfAbsent(host, h -> new Limit("node [" + h.toURI() + "]"));
+    }
+
+    Limit endpoint(Class<?> requestType) {
+        return endpoints.computeIfAbsent(requestType, t -> new Limit("endpoint [" + t.getName() + "]"));
+    }
+
+    /**
+     * The latency above which a request of a type counts as failed, in the limit of its endpoint and of the nodes it is
+     * sent to.
+     */
+    long timeoutNanos(Class<?> requestType) {
+        return endpointTimeoutNanos.getOrDefault(requestType, timeoutNanos);
+    }
+
+    /**
+     * The adaptive limit of the requests in flight to a node or for an endpoint.
+     */
+    final class Limit {
+        private final String name;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final AtomicInteger limit = new AtomicInteger(initialLimit);
+        private final LongAdder rejectedRequests = new LongAdder();
+
+        private Limit(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return whether a request may be sent, in which case {@link #release(long, long, boolean)} or
+         * {@link #release()} must be called once it completed
+         */
+        boolean tryAcquire() {
+            int current;
+            do {
+                current = inflight.get();
+                if (current >= limit.get()) {
+                    rejectedRequests.increment();
+                    return false;
+                }
+            } while (!inflight.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Called when a request completed, to adapt the limit to its outcome.
+         *
+         * @param latencyNanos the time it took
+         * @param timeoutNanos the latency above which it counts as failed, see {@link #timeoutNanos(Class)}
+         * @param dropped      whether it failed in a way that hints at an overloaded cluster
+         */
+        void release(long latencyNanos, long timeoutNanos, boolean dropped) {
+            final int current = inflight.getAndDecrement();
+            if (dropped || latencyNanos > timeoutNanos) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+            } else if (current * 2 >= limit.get()) {
+                // Only grow the limit when it is actually in use
+                limit.updateAndGet(l -> Math.min(maxLimit, l + 1));
+            }
+        }
+
+        /**
+         * Called when a request completed without telling anything about the cluster, e.g. when it was cancelled.
+         */
+        void release() {
+            inflight.decrementAndGet();
+        }
+
+        ConcurrencyLimitExceededException rejected() {
+            return new ConcurrencyLimitExceededException(
+                "Too many requests in flight for " + name + ", the limit is [" + limit.get() + "]"
+            );
+        }
+
+        Stats stats() {
+            return new Stats(inflight.get(), limit.get(), rejectedRequests.sum());
+        }
+    }
+
+    /**
+     * A point-in-time snapshot of the requests in flight to a node or for an endpoint.
+     */
+    public static final class Stats {
+        private final int inflight;
+        private final int limit;
+        private final long rejectedRequests;
+
+        public Stats(int inflight, int limit, long rejectedRequests) {
+            this.inflight = inflight;
+            this.limit = limit;
+            this.rejectedRequests = rejectedRequests;
+        }
+
+        /**
+         * Number of requests in flight.
+         */
+        public int inflight() {
+            return inflight;
+        }
+
+        /**
+         * The current limit of the requests in flight.
+         */
+        public int limit() {
+            return limit;
+        }
+
+        /**
+         * Number of requests that were rejected because the limit was reached.
+         */
+        public long rejectedRequests() {
+            return rejectedRequests;
+        }
+
+        @Override
+        public String toString() {
+            return "ConcurrencyLimiter.Stats{inflight=" + inflight + ", limit=" + limit + ", rejectedRequests=" + rejectedRequests + "}";
+        }
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimiter}.
+     */
+    public static class Builder extends ObjectBuilderBase implements ObjectBuilder<ConcurrencyLimiter> {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private long timeoutMillis = 5000;
+        private final Map<Class<?>, Long> endpointTimeoutNanos = new HashMap<>();
+
+        /**
+         * The limit of each node and endpoint before it adapts. Defaults to {@code 20}.
+         */
+        public final Builder initialLimit(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Initial limit should be at least 1, got [" + value + "]");
+            }
+            this.initialLimit = value;
+            return this;
+        }
+
+        /**
+         * The lowest limit a node or endpoint can shrink to. Defaults to {@code 1}.
+         */
+        public final Builder minLimit(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Min limit should be at least 1, got [" + value + "]");
+            }
+            this.minLimit = value;
+            return this;
+        }
+
+        /**
+         * The highest limit a node or endpoint can grow to. Defaults to {@code 200}.
+         */
+        public final Builder maxLimit(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Max limit should be at least 1, got [" + value + "]");
+            }
+            this.maxLimit = value;
+            return this;
+        }
+
+        /**
+         * The ratio a limit is multiplied by when a request fails, between {@code 0} and {@code 1}. Defaults to
+         * {@code 0.9}.
+         */
+        public final Builder backoffRatio(double value) {
+            if (!(value > 0 && value < 1)) {
+                throw new IllegalArgumentException("Backoff ratio should be between 0 and 1, got [" + value + "]");
+            }
+            this.backoffRatio = value;
+            return this;
+        }
+
+        /**
+         * The latency above which a request counts as failed. Defaults to 5 seconds.
+         * <p>
+         * This applies to requests of all types, unless set for their endpoint with
+         * {@link #endpointTimeoutMillis(Class, long)}. Requests that are expected to take longer, e.g. large bulk
+         * requests or scroll requests, would otherwise shrink the limits of their endpoint and of the nodes they are
+         * sent to as if they had been dropped, even if the cluster isn't overloaded.
+         */
+        public final Builder timeoutMillis(long value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Timeout should be at least 1, got [" + value + "]");
+            }
+            this.timeoutMillis = value;
+            return this;
+        }
+
+        /**
+         * The latency above which a request of a type counts as failed, instead of {@link #timeoutMillis(long)}, e.g.
+         * {@code endpointTimeoutMillis(BulkRequest.class, 60000)}.
+         */
+        public final Builder endpointTimeoutMillis(Class<?> requestType, long value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Timeout should be at least 1, got [" + value + "]");
+            }
+            this.endpointTimeoutNanos.put(requestType, TimeUnit.MILLISECONDS.toNanos(value));
+            return this;
+        }
+
+        /**
+         * Builds a {@link ConcurrencyLimiter}.
+         */
+        public ConcurrencyLimiter build() {
+            _checkSingleUse();
+            if (minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException(
+                    "Initial limit [" + initialLimit + "] should be between min limit [" + minLimit + "] and max limit [" + maxLimit + "]"
+                );
+            }
+            return new ConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.util.ObjectBuilder;
+import org.opensearch.client.util.ObjectBuilderBase;
+
+/**
+ * Hedges idempotent requests of {@link ApacheHttpClient5Transport}: if a request hasn't been answered after a delay, the
+ * same request is sent to the next node, and the first response is used while the other request is cancelled. This cuts
+ * the tail latency caused by an occasional slow node, at the cost of a few extra requests.
+ * <p>
+ * The delay is a quantile, the 95th percentile by default, of the latency of the requests hedged by this policy, so that
+ * only the slowest requests are hedged. Until enough latencies are known, the maximum delay is used. The number of
+ * extra requests is capped by a budget: each request earns a fraction of a hedge, and a hedge is only sent if a whole
+ * one was earned, so that hedging cannot multiply the load of a cluster that is slow because it is overloaded.
+ * <p>
+ * Only requests of the types marked as idempotent are hedged, by default {@link GetRequest}, {@link MgetRequest},
+ * {@link SearchRequest} and {@link CountRequest}. A request is hedged once at most, and only if there are several
+ * nodes to send it to.
+ * <p>
+ * A policy keeps track of latencies and of its budget, and should be shared by the requests it applies to. It is set
+ * with {@link ApacheHttpClient5Options.Builder#setHedgingPolicy(HedgingPolicy)}.
+ */
+public final class HedgingPolicy {
+    // Hedges that can be saved up while no hedge is needed
+    private static final long MAX_BUDGET = 10 * 1000;
+    // Latencies recorded between two updates of the delay, after which older latencies weigh half as much
+    private static final int SAMPLES_PER_UPDATE = 256;
+
+    private final Set<Class<?>> idempotentRequests;
+    private final double quantile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long budgetPerRequest;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong budget = new AtomicLong();
+    private volatile long delayNanos;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedgedRequests = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    private HedgingPolicy(Builder builder) {
+        this.idempotentRequests = builder.idempotentRequests;
+        this.quantile = builder.quantile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.minDelayMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.maxDelayMillis);
+        this.budgetPerRequest = Math.round(builder.maxHedgeRatio * 1000);
+        this.delayNanos = maxDelayNanos;
+    }
+
+    public static HedgingPolicy of(Function<Builder, ObjectBuilder<HedgingPolicy>> fn) {
+        return fn.apply(new Builder()).build();
+    }
+
+    /**
+     * Whether a request may be hedged, i.e. if it is of a type marked as idempotent.
+     */
+    public boolean isHedgeable(Object request) {
+        return request != null && idempotentRequests.contains(request.getClass());
+    }
+
+    /**
+     * The current delay after which a request that hasn't been answered is hedged.
+     */
+    public long delayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Statistics of the requests hedged by this policy.
+     */
+    public Stats stats() {
+        return new Stats(requests.sum(), hedgedRequests.sum(), hedgeWins.sum(), delayNanos);
+    }
+
+    /**
+     * Called when a hedgeable request is sent, to earn a fraction of a hedge.
+     */
+    void onRequest() {
+        requests.increment();
+        long current;
+        do {
+            current = budget.get();
+            if (current >= MAX_BUDGET) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(MAX_BUDGET, current + budgetPerRequest)));
+    }
+
+    /**
+     * Called when the delay of a request has elapsed, to spend a hedge from the budget.
+     *
+     * @return whether the request can be hedged
+     */
+    boolean tryHedge() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < 1000) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - 1000));
+        hedgedRequests.increment();
+        return true;
+    }
+
+    /**
+     * Called when a hedgeable request was answered.
+     *
+     * @param latencyNanos the time it took to answer it, including the delay before it was hedged
+     * @param hedgeWon     whether the hedge answered first
+     */
+    void onResponse(long latencyNanos, boolean hedgeWon) {
+        if (hedgeWon) {
+            hedgeWins.increment();
+        }
+        if (latencies.record(latencyNanos)) {
+            long delay = latencies.quantile(quantile);
+            delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, delay));
+        }
+    }
+
+    /**
+     * A point-in-time snapshot of the statistics of a {@link HedgingPolicy}.
+     */
+    public static final class Stats {
+        private final long requests;
+        private final long hedgedRequests;
+        private final long hedgeWins;
+        private final long delayNanos;
+
+        public Stats(long requests, long hedgedRequests, long hedgeWins, long delayNanos) {
+            this.requests = requests;
+            this.hedgedRequests = hedgedRequests;
+            this.hedgeWins = hedgeWins;
+            this.delayNanos = delayNanos;
+        }
+
+        /**
+         * Number of hedgeable requests that were sent.
+         */
+        public long requests() {
+            return requests;
+        }
+
+        /**
+         * Number of requests that were hedged, i.e. the number of extra requests that were sent.
+         */
+        public long hedgedRequests() {
+            return hedgedRequests;
+        }
+
+        /**
+         * Number of hedged requests that were answered by the hedge first.
+         */
+        public long hedgeWins() {
+            return hedgeWins;
+        }
+
+        /**
+         * The delay after which requests were hedged when the snapshot was taken.
+         */
+        public long delayNanos() {
+            return delayNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "HedgingPolicy.Stats{requests="
+                + requests
+                + ", hedgedRequests="
+                + hedgedRequests
+                + ", hedgeWins="
+                + hedgeWins
+                + ", delayNanos="
+                + delayNanos
+                + "}";
+        }
+    }
+
+    /**
+     * An approximate histogram of latencies in microseconds, with four buckets per power of two, i.e. within 25% of the
+     * actual latencies. Counts are halved each time the quantile is updated so that it follows recent latencies. It
+     * relies on atomic variables only, and concurrent updates may be slightly off, which is fine for a delay.
+     */
+    private static final class LatencyHistogram {
+        private static final int BUCKETS = 120;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong samples = new AtomicLong();
+
+        /**
+         * @return whether the quantiles should be updated
+         */
+        boolean record(long latencyNanos) {
+            counts.incrementAndGet(bucket(Math.max(0, latencyNanos / 1000)));
+            return samples.incrementAndGet() % SAMPLES_PER_UPDATE == 0;
+        }
+
+        long quantile(double quantile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts.get(i);
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            long result = -1;
+            for (int i = 0; i < BUCKETS; i++) {
+                long count = counts.get(i);
+                seen += count;
+                if (result < 0 && seen >= rank && count > 0) {
+                    result = upperBoundMicros(i) * 1000;
+                }
+                counts.set(i, count >> 1);
+            }
+            return result < 0 ? Long.MAX_VALUE : result;
+        }
+
+        static int bucket(long micros) {
+            if (micros < 4) {
+                return (int) micros;
+            }
+            int msb = 63 - Long.numberOfLeadingZeros(micros);
+            int bucket = (msb - 1) * 4 + (int) ((micros >>> (msb - 2)) & 3);
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        static long upperBoundMicros(int bucket) {
+            if (bucket < 4) {
+                return bucket + 1;
+            }
+            int msb = bucket / 4 + 1;
+            return ((4L + bucket % 4) << (msb - 2)) + (1L << (msb - 2));
+        }
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy}.
+     */
+    public static class Builder extends ObjectBuilderBase implements ObjectBuilder<HedgingPolicy> {
+        private Set<Class<?>> idempotentRequests = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(GetRequest.class, MgetRequest.class, SearchRequest.class, CountRequest.class))
+        );
+        private double quantile = 0.95;
+        private long minDelayMillis = 5;
+        private long maxDelayMillis = 1000;
+        private double maxHedgeRatio = 0.05;
+
+        /**
+         * The types of the requests that are idempotent and may be hedged. Defaults to {@link GetRequest},
+         * {@link MgetRequest}, {@link SearchRequest} and {@link CountRequest}.
+         */
+        public final Builder idempotentRequests(Class<?>... value) {
+            this.idempotentRequests = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(value)));
+            return this;
+        }
+
+        /**
+         * The quantile of the latency after which requests are hedged, between {@code 0} and {@code 1}. Defaults to
+         * {@code 0.95}.
+         */
+        public final Builder quantile(double value) {
+            if (!(value > 0 && value < 1)) {
+                throw new IllegalArgumentException("Quantile should be between 0 and 1, got [" + value + "]");
+            }
+            this.quantile = value;
+            return this;
+        }
+
+        /**
+         * The shortest delay after which requests are hedged. Defaults to 5 milliseconds.
+         */
+        public final Builder minDelayMillis(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Min delay should not be negative, got [" + value + "]");
+            }
+            this.minDelayMillis = value;
+            return this;
+        }
+
+        /**
+         * The longest delay after which requests are hedged, which is also the delay used until enough latencies are
+         * known. Defaults to 1 second.
+         */
+        public final Builder maxDelayMillis(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Max delay should not be negative, got [" + value + "]");
+            }
+            this.maxDelayMillis = value;
+            return this;
+        }
+
+        /**
+         * The maximum ratio of hedges to requests, i.e. of extra load on the cluster. Defaults to {@code 0.05}.
+         */
+        public final Builder maxHedgeRatio(double value) {
+            if (!(value > 0 && value <= 1)) {
+                throw new IllegalArgumentException("Max hedge ratio should be between 0 and 1, got [" + value + "]");
+            }
+            this.maxHedgeRatio = value;
+            return this;
+        }
+
+        /**
+         * Builds a {@link HedgingPolicy}.
+         */
+        public HedgingPolicy build() {
+            _checkSingleUse();
+            if (minDelayMillis > maxDelayMillis) {
+                throw new IllegalArgumentException(
+                    "Min delay [" + minDelayMillis + "] should not be greater than max delay [" + maxDelayMillis + "]"
+                );
+            }
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -32,9 +32,11 @@
 
 package org.opensearch.client.transport.httpclient5;
 
+import java.util.concurrent.Executor;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
 import org.opensearch.client.transport.httpclient5.internal.HeapBufferedAsyncResponseConsumer;
+import org.opensearch.client.transport.httpclient5.internal.StreamingAsyncResponseConsumer;
 
 /**
  * Factory used to create instances of {@link AsyncResponseConsumer}. Each request retry needs its own instance of the
@@ -84,4 +86,63 @@ public interface HttpAsyncResponseConsumerFactory {
             return new HeapBufferedAsyncResponseConsumer(bufferLimit);
         }
     }
+
+    /**
+     * Factory used to create instances of {@link StreamingAsyncResponseConsumer}, which let responses be deserialized
+     * while their body is being received instead of buffering it entirely in heap memory.
+     * <p>
+     * Since reading a streamed response blocks until data arrives, responses of asynchronous requests are deserialized
+     * on the provided executor rather than on the I/O reactor threads. Responses of synchronous requests are deserialized
+     * on the calling thread.
+     */
+    class StreamingResponseConsumerFactory implements HttpAsyncResponseConsumerFactory {
+
+        // default window size is 64KB
+        static final int DEFAULT_WINDOW_SIZE = 64 * 1024;
+
+        private final int bufferLimit;
+        private final int windowSize;
+        private final Executor executor;
+
+        /**
+         * Creates a {@link StreamingResponseConsumerFactory} instance with the given buffer limit and a window of 64KB.
+         *
+         * @param bufferLimitBytes the maximum size of a response body
+         * @param executor the executor used to deserialize the responses of asynchronous requests
+         */
+        public StreamingResponseConsumerFactory(int bufferLimitBytes, Executor executor) {
+            this(bufferLimitBytes, DEFAULT_WINDOW_SIZE, executor);
+        }
+
+        /**
+         * Creates a {@link StreamingResponseConsumerFactory} instance with the given buffer limit and window size.
+         *
+         * @param bufferLimitBytes the maximum size of a response body
+         * @param windowSizeBytes the maximum number of bytes buffered while a response is streamed
+         * @param executor the executor used to deserialize the responses of asynchronous requests
+         */
+        public StreamingResponseConsumerFactory(int bufferLimitBytes, int windowSizeBytes, Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("executor must not be null");
+            }
+            this.bufferLimit = bufferLimitBytes;
+            this.windowSize = windowSizeBytes;
+            this.executor = executor;
+        }
+
+        /**
+         * Get the executor used to deserialize the responses of asynchronous requests.
+         */
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Creates the {@link AsyncResponseConsumer}, called once per request attempt.
+         */
+        @Override
+        public AsyncResponseConsumer<ClassicHttpResponse> createHttpAsyncResponseConsumer() {
+            return new StreamingAsyncResponseConsumer(bufferLimit, windowSize);
+        }
+    }
 }
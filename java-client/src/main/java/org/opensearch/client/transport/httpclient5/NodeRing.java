@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+
+/**
+ * Immutable snapshot of the nodes that requests are sent to, as selected from the nodes of the transport, its
+ * denylist and its {@link NodeSelector}. Requests are sent to the node at a starting index and retried on the
+ * following ones, so that selecting nodes for a request doesn't allocate. A snapshot is only rebuilt when the nodes
+ * or the denylist change, or when a denylisted node is due to be retried.
+ */
+final class NodeRing {
+    final ApacheHttpClient5Transport.NodeTuple<List<Node>> nodeTuple;
+    final long denylistVersion;
+    /**
+     * Whether the ring holds living nodes, rather than the dead node that is closest to being revived.
+     */
+    final boolean living;
+    private final Node[] nodes;
+    private final List<Node> nodeList;
+    private final boolean expires;
+    private final long expiresAtNanos;
+    @Nullable
+    private final String rejection;
+
+    private NodeRing(
+        ApacheHttpClient5Transport.NodeTuple<List<Node>> nodeTuple,
+        long denylistVersion,
+        List<Node> nodes,
+        boolean living,
+        boolean expires,
+        long expiresAtNanos,
+        @Nullable String rejection
+    ) {
+        this.nodeTuple = nodeTuple;
+        this.denylistVersion = denylistVersion;
+        this.nodes = nodes.toArray(new Node[0]);
+        this.nodeList = Collections.unmodifiableList(Arrays.asList(this.nodes));
+        this.living = living;
+        this.expires = expires;
+        this.expiresAtNanos = expiresAtNanos;
+        this.rejection = rejection;
+    }
+
+    /**
+     * Whether this snapshot still reflects the nodes and the denylist of the transport.
+     */
+    boolean isCurrent(ApacheHttpClient5Transport.NodeTuple<List<Node>> nodeTuple, long denylistVersion) {
+        return this.nodeTuple == nodeTuple
+            && this.denylistVersion == denylistVersion
+            && (false == expires || System.nanoTime() - expiresAtNanos <= 0);
+    }
+
+    /**
+     * The message of the exception to throw when the selector rejected all nodes, or {@code null}.
+     */
+    @Nullable
+    String rejection() {
+        return rejection;
+    }
+
+    int size() {
+        return nodes.length;
+    }
+
+    /**
+     * The node of an attempt, for a request that starts at the given index.
+     */
+    Node node(int start, int attempt) {
+        return nodes[(start + attempt) % nodes.length];
+    }
+
+    /**
+     * Unmodifiable view of the nodes of the ring.
+     */
+    List<Node> nodes() {
+        return nodeList;
+    }
+
+    /**
+     * Builds the snapshot of the nodes to send requests to: the living nodes that match the {@link NodeSelector} or,
+     * if there are none, the dead node that matches the {@link NodeSelector} that is closest to being revived.
+     *
+     * @param denylistVersion the version of the denylist, read before the denylist itself
+     */
+    static NodeRing build(
+        ApacheHttpClient5Transport.NodeTuple<List<Node>> nodeTuple,
+        Map<HttpHost, DeadHostState> denylist,
+        long denylistVersion,
+        NodeSelector nodeSelector
+    ) {
+        /*
+         * Sort the nodes into living and dead lists.
+         */
+        List<Node> livingNodes = new ArrayList<>(Math.max(0, nodeTuple.nodes.size() - denylist.size()));
+        List<DeadNode> deadNodes = new ArrayList<>(denylist.size());
+        boolean expires = false;
+        long expiresAtNanos = 0;
+        for (Node node : nodeTuple.nodes) {
+            DeadHostState deadness = denylist.get(node.getHost());
+            if (deadness == null || deadness.shallBeRetried()) {
+                livingNodes.add(node);
+            } else {
+                deadNodes.add(new DeadNode(node, deadness));
+                // The snapshot needs to be rebuilt when the first dead node is due to be retried
+                if (false == expires || deadness.getDeadUntilNanos() - expiresAtNanos < 0) {
+                    expiresAtNanos = deadness.getDeadUntilNanos();
+                    expires = true;
+                }
+            }
+        }
+
+        if (false == livingNodes.isEmpty()) {
+            /*
+             * Normal state: there is at least one living node. If the
+             * selector is ok with any over the living nodes then use them
+             * for the request.
+             */
+            List<Node> selectedLivingNodes = new ArrayList<>(livingNodes);
+            nodeSelector.select(selectedLivingNodes);
+            if (false == selectedLivingNodes.isEmpty()) {
+                return new NodeRing(nodeTuple, denylistVersion, selectedLivingNodes, true, expires, expiresAtNanos, null);
+            }
+        }
+
+        /*
+         * Last resort: there are no good nodes to use, either because
+         * the selector rejected all the living nodes or because there aren't
+         * any living ones. Either way, we want to revive a single dead node
+         * that the NodeSelectors are OK with. We do this by passing the dead
+         * nodes through the NodeSelector so it can have its say in which nodes
+         * are ok. If the selector is ok with any of the nodes then we will take
+         * the one in the list that has the lowest revival time and try it.
+         */
+        if (false == deadNodes.isEmpty()) {
+            final List<DeadNode> selectedDeadNodes = new ArrayList<>(deadNodes);
+            /*
+             * We'd like NodeSelectors to remove items directly from deadNodes
+             * so we can find the minimum after it is filtered without having
+             * to compare many things. This saves us a sort on the unfiltered
+             * list.
+             */
+            nodeSelector.select(() -> new DeadNodeIteratorAdapter(selectedDeadNodes.iterator()));
+            if (false == selectedDeadNodes.isEmpty()) {
+                List<Node> revived = Collections.singletonList(Collections.min(selectedDeadNodes).node);
+                return new NodeRing(nodeTuple, denylistVersion, revived, false, expires, expiresAtNanos, null);
+            }
+        }
+        String rejection = "NodeSelector [" + nodeSelector + "] rejected all nodes, " + "living " + livingNodes + " and dead " + deadNodes;
+        return new NodeRing(nodeTuple, denylistVersion, Collections.emptyList(), false, expires, expiresAtNanos, rejection);
+    }
+
+    /**
+     * Contains a reference to a denylisted node and the time until it is
+     * revived. We use this so we can do a single pass over the denylist.
+     */
+    private static class DeadNode implements Comparable<DeadNode> {
+        final Node node;
+        final DeadHostState deadness;
+
+        DeadNode(Node node, DeadHostState deadness) {
+            this.node = node;
+            this.deadness = deadness;
+        }
+
+        @Override
+        public String toString() {
+            return node.toString();
+        }
+
+        @Override
+        public int compareTo(DeadNode rhs) {
+            return deadness.compareTo(rhs.deadness);
+        }
+    }
+
+    /**
+     * Adapts an <code>Iterator&lt;DeadNodeAndRevival&gt;</code> into an
+     * <code>Iterator&lt;Node&gt;</code>.
+     */
+    private static class DeadNodeIteratorAdapter implements Iterator<Node> {
+        private final Iterator<DeadNode> itr;
+
+        private DeadNodeIteratorAdapter(Iterator<DeadNode> itr) {
+            this.itr = itr;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return itr.hasNext();
+        }
+
+        @Override
+        public Node next() {
+            return itr.next().node;
+        }
+
+        @Override
+        public void remove() {
+            itr.remove();
+        }
+    }
+}
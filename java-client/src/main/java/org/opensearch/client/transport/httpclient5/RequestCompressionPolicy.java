@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import org.opensearch.client.transport.Endpoint;
+
+/**
+ * Decides which request bodies {@link ApacheHttpClient5Transport} compresses when compression is enabled. Small bodies
+ * usually aren't worth the CPU time of compressing them, and some endpoints may be sent to nodes nearby.
+ * <p>
+ * Endpoints can be compared to the {@code _ENDPOINT} constants of request classes, e.g.
+ * {@code (endpoint, length) -> endpoint == BulkRequest._ENDPOINT && length >= 1024}.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see ApacheHttpClient5TransportBuilder#setCompressionPolicy(RequestCompressionPolicy)
+ */
+@FunctionalInterface
+public interface RequestCompressionPolicy {
+
+    /**
+     * Whether to compress the body of a request.
+     *
+     * @param endpoint      the endpoint of the request
+     * @param contentLength the length of the body, or {@code -1} if it isn't known because the body is streamed
+     */
+    boolean shouldCompress(Endpoint<?, ?, ?> endpoint, long contentLength);
+
+    /**
+     * A policy that compresses all request bodies.
+     */
+    static RequestCompressionPolicy always() {
+        return (endpoint, contentLength) -> true;
+    }
+
+    /**
+     * A policy that compresses request bodies of at least {@code minLength} bytes, and streamed bodies whose length
+     * isn't known.
+     */
+    static RequestCompressionPolicy minLength(long minLength) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException("Min length should not be negative, got [" + minLength + "]");
+        }
+        return (endpoint, contentLength) -> contentLength < 0 || contentLength >= minLength;
+    }
+
+    /**
+     * A policy that compresses the request bodies that both this policy and {@code other} compress.
+     */
+    default RequestCompressionPolicy and(RequestCompressionPolicy other) {
+        return (endpoint, contentLength) -> shouldCompress(endpoint, contentLength) && other.shouldCompress(endpoint, contentLength);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+/**
+ * Decides which failed attempts of a request {@link ApacheHttpClient5Transport} retries, and how long it waits before
+ * sending the request to the next node. The transport waits on a timer shared by all the requests, and no thread is
+ * blocked while it waits. An attempt is never retried once the deadline of the request, if any, has expired.
+ * <p>
+ * Without a retry policy, the transport sends a request to the next node right away when a node fails to answer or
+ * answers with a 502, 503 or 504 status, until each node was tried once. With a retry policy, the policy alone decides
+ * how many attempts are made, and the nodes are tried again in turn if there are fewer nodes than attempts.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see BackoffRetryPolicy
+ * @see ApacheHttpClient5TransportBuilder#setRetryPolicy(RetryPolicy)
+ */
+public interface RetryPolicy {
+
+    /**
+     * Called when a request is sent, before its first attempt.
+     *
+     * @param request the request, e.g. a {@code SearchRequest}
+     */
+    default void onRequest(Object request) {}
+
+    /**
+     * Decides whether to retry a failed attempt.
+     *
+     * @param request            the request, e.g. a {@code SearchRequest}
+     * @param attempt            the number of the attempt that failed, starting at {@code 1}
+     * @param previousDelayNanos the delay before the attempt that failed, {@code 0} for the first attempt
+     * @param failure            a {@link ResponseException} if the node answered with an error status, or the exception
+     *                           the attempt failed with
+     * @return the delay before the next attempt in nanoseconds, or a negative value if the request must not be retried
+     */
+    long retryDelayNanos(Object request, int attempt, long previousDelayNanos, Exception failure);
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.util.ObjectBuilder;
+import org.opensearch.client.util.ObjectBuilderBase;
+
+/**
+ * A {@link LoadAwareNodeSelector} that sends requests to the nodes that answer faster. Each node has a cost: a peak
+ * exponentially weighted moving average of the latency of its responses, multiplied by the number of requests in
+ * flight to it plus one. For each request, two of the living nodes are picked at random and the one with the lowest
+ * cost is tried first, followed by the nodes after it in the list. Comparing two random nodes rather than taking the
+ * cheapest one keeps clients from all rushing to the same node.
+ * <p>
+ * The average jumps to any latency that is higher than it and then decays over time, so that a node that pauses,
+ * e.g. for garbage collection, is avoided as soon as a slow response or a growing number of requests in flight shows
+ * it. Since the cost also decays while no response is received, nodes that were avoided are eventually tried again.
+ * <p>
+ * The bookkeeping relies on atomic variables only, without locks.
+ */
+public class AdaptiveNodeSelector implements LoadAwareNodeSelector {
+    /**
+     * Cost of a node with requests in flight that never answered, so that it is only picked over nodes that are known
+     * to be slow for a long time.
+     */
+    private static final double PENALTY = (double) (Long.MAX_VALUE >> 16);
+
+    private final NodeSelector filter;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final ConcurrentMap<HttpHost, NodeStats> stats = new ConcurrentHashMap<>();
+
+    private AdaptiveNodeSelector(Builder builder) {
+        this.filter = builder.filter;
+        this.decayNanos = (double) TimeUnit.MILLISECONDS.toNanos(builder.decayTimeMillis);
+        this.failurePenaltyNanos = TimeUnit.MILLISECONDS.toNanos(builder.failurePenaltyMillis);
+    }
+
+    public static AdaptiveNodeSelector of(Function<Builder, ObjectBuilder<AdaptiveNodeSelector>> fn) {
+        return fn.apply(new Builder()).build();
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        filter.select(nodes);
+    }
+
+    @Override
+    public int first(List<Node> nodes) {
+        int size = nodes.size();
+        if (size < 2) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        long now = System.nanoTime();
+        return cost(nodes.get(first), now) <= cost(nodes.get(second), now) ? first : second;
+    }
+
+    @Override
+    public void onRequestStart(Node node) {
+        stats.computeIfAbsent(node.getHost(), host -> new NodeStats()).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onRequestEnd(Node node, long tookNanos, boolean failed) {
+        NodeStats nodeStats = stats.get(node.getHost());
+        if (nodeStats == null) {
+            return;
+        }
+        nodeStats.inFlight.decrementAndGet();
+        nodeStats.observe(failed ? Math.max(tookNanos, failurePenaltyNanos) : tookNanos, System.nanoTime(), decayNanos);
+    }
+
+    /**
+     * Cost of sending a request to a node, the lower the better. Package private for testing.
+     */
+    double cost(Node node, long now) {
+        NodeStats nodeStats = stats.get(node.getHost());
+        if (nodeStats == null) {
+            return 0;
+        }
+        int inFlight = nodeStats.inFlight.get();
+        double latency = nodeStats.latency(now, decayNanos);
+        if (latency == 0 && inFlight > 0) {
+            return PENALTY + inFlight;
+        }
+        return latency * (inFlight + 1);
+    }
+
+    /**
+     * Number of requests in flight to a node. Package private for testing.
+     */
+    int inFlight(Node node) {
+        NodeStats nodeStats = stats.get(node.getHost());
+        return nodeStats == null ? 0 : nodeStats.inFlight.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ADAPTIVE[" + filter + "]";
+    }
+
+    private static class NodeStats {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        // Bits of the double value of the average latency in nanoseconds
+        private final AtomicLong latencyBits = new AtomicLong(Double.doubleToRawLongBits(0));
+        private final AtomicLong lastObservedNanos = new AtomicLong(System.nanoTime());
+
+        void observe(long tookNanos, long now, double decayNanos) {
+            long last = lastObservedNanos.getAndSet(now);
+            double weight = Math.exp(-Math.max(0, now - last) / decayNanos);
+            long previousBits;
+            long nextBits;
+            do {
+                previousBits = latencyBits.get();
+                double previous = Double.longBitsToDouble(previousBits);
+                double next = tookNanos > previous ? tookNanos : previous * weight + tookNanos * (1 - weight);
+                nextBits = Double.doubleToRawLongBits(next);
+            } while (false == latencyBits.compareAndSet(previousBits, nextBits));
+        }
+
+        double latency(long now, double decayNanos) {
+            double latency = Double.longBitsToDouble(latencyBits.get());
+            long elapsed = now - lastObservedNanos.get();
+            return elapsed > 0 ? latency * Math.exp(-elapsed / decayNanos) : latency;
+        }
+    }
+
+    /**
+     * Builder for {@link AdaptiveNodeSelector}.
+     */
+    public static class Builder extends ObjectBuilderBase implements ObjectBuilder<AdaptiveNodeSelector> {
+        private NodeSelector filter = NodeSelector.ANY;
+        private long decayTimeMillis = 5_000;
+        private long failurePenaltyMillis = 1_000;
+
+        /**
+         * Selector that filters the nodes before they are ordered, e.g.
+         * {@link NodeSelector#SKIP_DEDICATED_CLUSTER_MANAGERS}. Defaults to {@link NodeSelector#ANY}.
+         */
+        public final Builder filter(NodeSelector value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Filter should not be null");
+            }
+            this.filter = value;
+            return this;
+        }
+
+        /**
+         * Time constant of the decay of the average latency, in milliseconds. The longer, the more past responses
+         * weigh in, and the longer a node that was slow is avoided. Defaults to 5 seconds.
+         */
+        public final Builder decayTimeMillis(long value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException("Decay time should be positive, got [" + value + "]");
+            }
+            this.decayTimeMillis = value;
+            return this;
+        }
+
+        /**
+         * Minimum latency recorded for failed attempts, in milliseconds, so that nodes that fail fast are not preferred.
+         * Defaults to 1 second.
+         */
+        public final Builder failurePenaltyMillis(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Failure penalty should not be negative, got [" + value + "]");
+            }
+            this.failurePenaltyMillis = value;
+            return this;
+        }
+
+        /**
+         * Builds an {@link AdaptiveNodeSelector}.
+         */
+        public AdaptiveNodeSelector build() {
+            _checkSingleUse();
+            return new AdaptiveNodeSelector(this);
+        }
+    }
+}
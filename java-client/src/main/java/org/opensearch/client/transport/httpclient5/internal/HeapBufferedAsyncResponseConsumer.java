@@ -41,7 +41,6 @@ import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpResponse;
-import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
 import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
 import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
@@ -113,7 +112,7 @@ public class HeapBufferedAsyncResponseConsumer extends AbstractAsyncResponseCons
                 LOGGER.debug("Unable to detect content encoding", ex);
             }
 
-            final ByteArrayEntity httpEntity = new ByteArrayEntity(entity, contentType, encoding);
+            final HeapBufferedHttpEntity httpEntity = new HeapBufferedHttpEntity(entity, contentType, encoding);
             classicResponse.setEntity(httpEntity);
         }
 
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+
+/**
+ * The entity of a response buffered by {@link HeapBufferedAsyncResponseConsumer}, whose content can be parsed in place
+ * rather than read from a stream.
+ */
+public class HeapBufferedHttpEntity extends ByteArrayEntity {
+    private final byte[] content;
+
+    public HeapBufferedHttpEntity(byte[] content, ContentType contentType, String contentEncoding) {
+        super(content, contentType, contentEncoding);
+        this.content = content;
+    }
+
+    /**
+     * The content of the entity, which must not be modified.
+     */
+    public byte[] content() {
+        return content;
+    }
+}
@@ -15,6 +15,7 @@ import org.apache.hc.core5.http.nio.AsyncEntityProducer;
 import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
 import org.apache.hc.core5.net.URIAuthority;
 import org.apache.hc.core5.util.Args;
+import org.opensearch.client.transport.http.PooledHttpEntity;
 
 /**
  * The producer of the {@link HttpUriRequestBase} instances associated with a particular {@link HttpHost}
@@ -52,7 +53,11 @@ public class HttpUriRequestProducer extends BasicRequestProducer {
         final HttpEntity entity = request.getEntity();
         AsyncEntityProducer entityProducer = null;
 
-        if (entity != null) {
+        if (entity instanceof NdJsonEntity) {
+            entityProducer = ((NdJsonEntity) entity).createProducer();
+        } else if (entity instanceof PooledHttpEntity) {
+            entityProducer = ((PooledHttpEntity) entity).createProducer();
+        } else if (entity != null) {
             entityProducer = new HttpEntityAsyncEntityProducer(entity);
         }
 
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.util.List;
+
+/**
+ * A {@link NodeSelector} that also decides which of the selected nodes is tried first, and that is notified of each
+ * attempt sent to a node so that it can take their load into account. When the node selector of
+ * {@link org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport} implements this interface, it
+ * replaces the round-robin choice of the living node to try first.
+ * <p>
+ * These methods are called for every request, possibly concurrently, and should not block.
+ */
+public interface LoadAwareNodeSelector extends NodeSelector {
+    /**
+     * Chooses the node to send a request to, among the living nodes that were selected. The chosen node is tried
+     * first, then the ones that follow it in the list, wrapping around, if the previous attempts failed.
+     *
+     * @param nodes the selected living nodes, never empty and not modifiable
+     * @return the index of the node to try first
+     */
+    int first(List<Node> nodes);
+
+    /**
+     * Notifies that an attempt is about to be sent to a node.
+     *
+     * @param node the node the attempt is sent to
+     */
+    void onRequestStart(Node node);
+
+    /**
+     * Notifies that an attempt sent to a node has completed. Called exactly once for each call to
+     * {@link #onRequestStart(Node)}.
+     *
+     * @param node the node the attempt was sent to
+     * @param tookNanos the time it took to receive the response or the failure, in nanoseconds
+     * @param failed whether the attempt failed or got a response with a status that marks the node as dead
+     */
+    void onRequestEnd(Node node, long tookNanos, boolean failed);
+}
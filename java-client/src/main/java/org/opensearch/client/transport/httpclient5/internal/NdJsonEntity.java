@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.util.Args;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+
+/**
+ * A repeatable {@link org.apache.hc.core5.http.HttpEntity} that serializes an {@link NdJsonpSerializable} value lazily,
+ * one line at a time, instead of materializing the whole request body in memory. Only the line being written is
+ * buffered, which keeps memory usage flat for large bulk requests.
+ * <p>
+ * When the entity is not chunked, its content length is computed with a sizing pass that serializes the value once
+ * without retaining its output.
+ */
+public class NdJsonEntity extends AbstractHttpEntity {
+
+    // Upper bound of the data written by the producer in a single call, to avoid holding the I/O reactor thread
+    private static final int MAX_BYTES_PER_PRODUCE = 64 * 1024;
+
+    private final NdJsonpSerializable value;
+    private final JsonpMapper mapper;
+    private volatile long contentLength = -2L;
+
+    /**
+     * Create a new entity
+     * @param value the value to serialize
+     * @param mapper the mapper used to serialize each line
+     * @param contentType the content type of the entity
+     * @param chunked whether the entity should be sent with chunked transfer-encoding
+     */
+    public NdJsonEntity(NdJsonpSerializable value, JsonpMapper mapper, ContentType contentType, boolean chunked) {
+        super(contentType, null, chunked);
+        this.value = Args.notNull(value, "Value");
+        this.mapper = Args.notNull(mapper, "Mapper");
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Returns the length of the content, or {@code -1} if the entity is chunked. The length of non-chunked entities
+     * is computed once by serializing the value.
+     */
+    @Override
+    public long getContentLength() {
+        if (isChunked()) {
+            return -1L;
+        }
+        long length = contentLength;
+        if (length == -2L) {
+            length = 0;
+            LineWriter lines = new LineWriter();
+            while (lines.next()) {
+                length += lines.buffer.size();
+            }
+            contentLength = length;
+        }
+        return length;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return new LineInputStream(new LineWriter());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        Args.notNull(out, "Output stream");
+        LineWriter lines = new LineWriter();
+        while (lines.next()) {
+            lines.buffer.writeTo(out);
+        }
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return null;
+    }
+
+    @Override
+    public void close() {}
+
+    /**
+     * Create an {@link AsyncEntityProducer} that serializes lines as the channel accepts data.
+     */
+    public AsyncEntityProducer createProducer() {
+        return new Producer();
+    }
+
+    /**
+     * Serializes the items of the value line by line, recursing if its items themselves implement
+     * {@link NdJsonpSerializable} to flatten nested structures.
+     */
+    private class LineWriter {
+        private final Deque<Iterator<?>> iterators = new ArrayDeque<>();
+        private final Deque<Object> owners = new ArrayDeque<>();
+        private final LineBuffer buffer = new LineBuffer();
+
+        LineWriter() {
+            push(value);
+        }
+
+        private void push(NdJsonpSerializable owner) {
+            iterators.push(owner._serializables());
+            owners.push(owner);
+        }
+
+        /**
+         * Serialize the next line in the buffer.
+         *
+         * @return {@code false} if there are no more lines.
+         */
+        boolean next() {
+            buffer.reset();
+            while (!iterators.isEmpty()) {
+                Iterator<?> values = iterators.peek();
+                if (!values.hasNext()) {
+                    iterators.pop();
+                    owners.pop();
+                    continue;
+                }
+                Object item = values.next();
+                if (item instanceof NdJsonpSerializable && item != owners.peek()) { // do not recurse on the item itself
+                    push((NdJsonpSerializable) item);
+                    continue;
+                }
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(buffer);
+                mapper.serialize(item, generator);
+                generator.close();
+                buffer.write('\n');
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A ByteArrayOutputStream whose content can be read without copying the underlying buffer.
+     */
+    private static class LineBuffer extends ByteArrayOutputStream {
+        LineBuffer() {
+            super(1024);
+        }
+
+        int byteAt(int pos) {
+            return buf[pos] & 0xFF;
+        }
+
+        int read(int pos, byte[] b, int off, int len) {
+            int n = Math.min(len, count - pos);
+            System.arraycopy(buf, pos, b, off, n);
+            return n;
+        }
+
+        ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    private static class LineInputStream extends InputStream {
+        private final LineWriter lines;
+        private int pos;
+        private boolean eof;
+
+        LineInputStream(LineWriter lines) {
+            this.lines = lines;
+        }
+
+        private boolean fill() {
+            while (!eof && pos >= lines.buffer.size()) {
+                pos = 0;
+                eof = !lines.next();
+            }
+            return !eof;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return lines.buffer.byteAt(pos++);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int n = lines.buffer.read(pos, b, off, len);
+            pos += n;
+            return n;
+        }
+    }
+
+    private class Producer implements AsyncEntityProducer {
+        private LineWriter lines;
+        private ByteBuffer chunk;
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public String getContentType() {
+            return NdJsonEntity.this.getContentType();
+        }
+
+        @Override
+        public long getContentLength() {
+            return NdJsonEntity.this.getContentLength();
+        }
+
+        @Override
+        public int available() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return NdJsonEntity.this.getContentEncoding();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return NdJsonEntity.this.isChunked();
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return null;
+        }
+
+        @Override
+        public void produce(DataStreamChannel channel) throws IOException {
+            if (lines == null) {
+                lines = new LineWriter();
+            }
+            int written = 0;
+            while (written < MAX_BYTES_PER_PRODUCE) {
+                if (chunk != null && chunk.hasRemaining()) {
+                    written += channel.write(chunk);
+                    if (chunk.hasRemaining()) {
+                        // The channel is full, wait until it asks for more data
+                        return;
+                    }
+                }
+                if (!lines.next()) {
+                    channel.endStream();
+                    releaseResources();
+                    return;
+                }
+                chunk = lines.buffer.asByteBuffer();
+            }
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            releaseResources();
+        }
+
+        @Override
+        public void releaseResources() {
+            lines = null;
+            chunk = null;
+        }
+    }
+}
@@ -52,6 +52,10 @@ public interface NodeSelector {
      * {@link org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport}
      * will call this method with a list of "dead" nodes.
      * <p>
+     * The {@link org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport}
+     * keeps the selected nodes until its nodes or its denylist change, so
+     * the selection should only depend on the nodes.
+     * <p>
      * Implementers should not rely on the ordering of the nodes.
      *
      * @param nodes the {@link Node}s targeted for the sending requests
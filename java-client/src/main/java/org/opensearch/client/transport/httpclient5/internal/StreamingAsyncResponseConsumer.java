@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentTooLongException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.BasicHttpEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * An {@link AsyncResponseConsumer} that hands successful responses over as soon as their head has been received, with an
+ * entity whose content is read while the body is still arriving. At most {@code windowSize} bytes are buffered at any
+ * time: the server is asked for more data only once the reader has drained the buffer. The buffer limit applies to the
+ * whole body and is enforced as data is received.
+ * <p>
+ * Responses with a non-successful status code are buffered in heap memory, like {@link HeapBufferedAsyncResponseConsumer}
+ * does, so that they can be inspected from the I/O reactor threads.
+ * <p>
+ * The entity of a streamed response blocks its reader until data is available, and must therefore never be read from the
+ * I/O reactor threads.
+ */
+public class StreamingAsyncResponseConsumer implements AsyncResponseConsumer<ClassicHttpResponse> {
+    private final int bufferLimit;
+    private final int windowSize;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    private volatile AsyncResponseConsumer<ClassicHttpResponse> buffered;
+    private volatile SharedInputBuffer buffer;
+    private volatile boolean completed;
+    private long received;
+
+    /**
+     * Creates a new instance of this consumer.
+     *
+     * @param bufferLimit the maximum size of a response body. Must be greater than 0.
+     * @param windowSize the maximum number of bytes buffered while the response is streamed. Must be greater than 0.
+     * @throws IllegalArgumentException if {@code bufferLimit} or {@code windowSize} is less than or equal to 0.
+     */
+    public StreamingAsyncResponseConsumer(int bufferLimit, int windowSize) {
+        if (bufferLimit <= 0) {
+            throw new IllegalArgumentException("bufferLimit must be greater than 0");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+        this.bufferLimit = bufferLimit;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Get the limit of the buffer.
+     */
+    public int getBufferLimit() {
+        return bufferLimit;
+    }
+
+    @Override
+    public void consumeResponse(
+        final HttpResponse response,
+        final EntityDetails entityDetails,
+        final HttpContext context,
+        final FutureCallback<ClassicHttpResponse> resultCallback
+    ) throws HttpException, IOException {
+        if (entityDetails != null && (response.getCode() < HttpStatus.SC_SUCCESS || response.getCode() >= HttpStatus.SC_REDIRECTION)) {
+            buffered = new HeapBufferedAsyncResponseConsumer(bufferLimit);
+            buffered.consumeResponse(response, entityDetails, context, resultCallback);
+            return;
+        }
+
+        final ClassicHttpResponse classicResponse = new BasicClassicHttpResponse(response.getCode());
+        classicResponse.setVersion(response.getVersion());
+        classicResponse.setHeaders(response.getHeaders());
+        classicResponse.setReasonPhrase(response.getReasonPhrase());
+        if (response.getLocale() != null) {
+            classicResponse.setLocale(response.getLocale());
+        }
+
+        if (entityDetails != null) {
+            if (entityDetails.getContentLength() > bufferLimit) {
+                throw new ContentTooLongException(
+                    "entity content is too long ["
+                        + entityDetails.getContentLength()
+                        + "] for the configured buffer limit ["
+                        + bufferLimit
+                        + "]"
+                );
+            }
+            buffer = new SharedInputBuffer(windowSize);
+            final ContentType contentType = ContentType.parseLenient(entityDetails.getContentType());
+            classicResponse.setEntity(
+                new BasicHttpEntity(
+                    new StreamingContent(buffer),
+                    entityDetails.getContentLength(),
+                    contentType,
+                    entityDetails.getContentEncoding()
+                )
+            );
+        }
+
+        resultCallback.completed(classicResponse);
+    }
+
+    @Override
+    public void informationResponse(final HttpResponse response, final HttpContext context) throws HttpException, IOException {}
+
+    @Override
+    public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+        if (buffered != null) {
+            buffered.updateCapacity(capacityChannel);
+        } else if (buffer != null) {
+            buffer.updateCapacity(capacityChannel);
+        }
+    }
+
+    @Override
+    public void consume(final ByteBuffer src) throws IOException {
+        if (buffered != null) {
+            buffered.consume(src);
+            return;
+        }
+        received += src.remaining();
+        if (received > bufferLimit) {
+            throw new ContentTooLongException(
+                "entity content is too long [" + received + "] for the configured buffer limit [" + bufferLimit + "]"
+            );
+        }
+        buffer.fill(src);
+    }
+
+    @Override
+    public void streamEnd(final List<? extends Header> trailers) throws HttpException, IOException {
+        if (buffered != null) {
+            buffered.streamEnd(trailers);
+        } else if (buffer != null) {
+            completed = true;
+            buffer.markEndStream();
+        }
+    }
+
+    @Override
+    public void failed(final Exception cause) {
+        failure.compareAndSet(null, cause);
+        if (buffered != null) {
+            buffered.failed(cause);
+        } else if (buffer != null) {
+            buffer.abort();
+        }
+    }
+
+    @Override
+    public void releaseResources() {
+        if (buffered != null) {
+            buffered.releaseResources();
+        } else if (buffer != null && !completed) {
+            // The exchange ended before the whole body was received: unblock the reader
+            buffer.abort();
+        }
+    }
+
+    /**
+     * The content of a streamed entity, which reports an error if the exchange ended before the end of the body.
+     */
+    private class StreamingContent extends FilterInputStream {
+        StreamingContent(SharedInputBuffer buffer) {
+            super(new ContentInputStream(buffer));
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkEnd(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return checkEnd(super.read(b, off, len));
+        }
+
+        private int checkEnd(int result) throws IOException {
+            if (result == -1 && !completed) {
+                final Exception cause = failure.get();
+                throw new IOException("Response stream was closed before the end of the content", cause);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+/**
+ * Responsible for sniffing the http hosts of the nodes of a cluster.
+ */
+public interface NodesSniffer {
+    /**
+     * Returns the sniffed OpenSearch nodes.
+     *
+     * @return the sniffed nodes, possibly empty
+     * @throws IOException if the nodes could not be sniffed
+     */
+    List<Node> sniff() throws IOException;
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch.nodes.NodesInfoRequest;
+import org.opensearch.client.transport.JsonEndpoint;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+/**
+ * Sniffs the nodes of a cluster with the nodes info API, sent through the transport whose nodes are updated. Nodes
+ * are returned with their roles, version and attributes so that a
+ * {@link org.opensearch.client.transport.httpclient5.internal.NodeSelector} can filter them, for instance with
+ * {@link org.opensearch.client.transport.httpclient5.internal.NodeSelector#SKIP_DEDICATED_CLUSTER_MANAGERS}.
+ * Nodes that don't have http enabled are skipped.
+ * <p>
+ * The response is read as raw JSON rather than as a {@link org.opensearch.client.opensearch.nodes.NodesInfoResponse},
+ * so that roles the client doesn't know about, such as the roles defined by plugins, don't fail every sniff.
+ */
+public class OpenSearchNodesSniffer implements NodesSniffer {
+    private static final Log logger = LogFactory.getLog(OpenSearchNodesSniffer.class);
+
+    private static final JsonEndpoint<NodesInfoRequest, JsonData, ErrorResponse> ENDPOINT = ((SimpleEndpoint<
+        NodesInfoRequest,
+        ?>) NodesInfoRequest._ENDPOINT).withResponseDeserializer(JsonData._DESERIALIZER);
+
+    private final ApacheHttpClient5Transport transport;
+    private final String scheme;
+
+    /**
+     * Creates a new instance that sniffs nodes with the scheme of the first node the transport knows about.
+     *
+     * @param transport the transport to send the nodes info requests with
+     */
+    public OpenSearchNodesSniffer(ApacheHttpClient5Transport transport) {
+        this(transport, transport.getNodes().get(0).getHost().getSchemeName());
+    }
+
+    /**
+     * Creates a new instance that sniffs nodes with the provided scheme, since the nodes info API doesn't tell whether
+     * http hosts use TLS.
+     *
+     * @param transport the transport to send the nodes info requests with
+     * @param scheme the scheme of the sniffed hosts, {@code http} or {@code https}
+     */
+    public OpenSearchNodesSniffer(ApacheHttpClient5Transport transport, String scheme) {
+        Objects.requireNonNull(transport, "transport must not be null");
+        this.transport = transport;
+        this.scheme = Objects.requireNonNull(scheme, "scheme must not be null");
+    }
+
+    @Override
+    public List<Node> sniff() throws IOException {
+        JsonData response = transport.performRequest(NodesInfoRequest.of(r -> r.metric("http")), ENDPOINT, null);
+        return readNodes(response.toJson().asJsonObject(), scheme);
+    }
+
+    static List<Node> readNodes(JsonObject response, String scheme) {
+        JsonObject nodeInfos = response.getJsonObject("nodes");
+        List<Node> nodes = new ArrayList<>(nodeInfos.size());
+        for (Map.Entry<String, JsonValue> entry : nodeInfos.entrySet()) {
+            Node node = readNode(entry.getKey(), entry.getValue().asJsonObject(), scheme);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    private static Node readNode(String nodeId, JsonObject info, String scheme) {
+        JsonObject http = info.getJsonObject("http");
+        if (http == null || false == http.containsKey("publish_address")) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("skipping node [" + nodeId + "] with http disabled");
+            }
+            return null;
+        }
+
+        HttpHost publishedHost = readHost(http.getString("publish_address"), scheme);
+        Set<HttpHost> boundHosts = new HashSet<>();
+        for (String boundAddress : readStrings(http.getJsonArray("bound_address"))) {
+            boundHosts.add(readHost(boundAddress, scheme));
+        }
+
+        Set<String> roles = new HashSet<>(readStrings(info.getJsonArray("roles")));
+
+        Map<String, List<String>> attributes = new LinkedHashMap<>();
+        JsonObject nodeAttributes = info.getJsonObject("attributes");
+        if (nodeAttributes != null) {
+            for (Map.Entry<String, JsonValue> attribute : nodeAttributes.entrySet()) {
+                attributes.put(attribute.getKey(), Collections.singletonList(((JsonString) attribute.getValue()).getString()));
+            }
+        }
+
+        return new Node(
+            publishedHost,
+            boundHosts,
+            info.getString("name", null),
+            info.getString("version", null),
+            new Node.Roles(roles),
+            attributes
+        );
+    }
+
+    private static List<String> readStrings(JsonArray array) {
+        if (array == null) {
+            return Collections.emptyList();
+        }
+        List<String> strings = new ArrayList<>(array.size());
+        for (JsonString value : array.getValuesAs(JsonString.class)) {
+            strings.add(value.getString());
+        }
+        return strings;
+    }
+
+    /**
+     * Reads an address that is either {@code ip:port} or, when the node is configured with a host name,
+     * {@code hostname/ip:port}, in which case the host name is used.
+     */
+    private static HttpHost readHost(String address, String scheme) {
+        String hostName = null;
+        int slash = address.indexOf('/');
+        if (slash >= 0) {
+            hostName = address.substring(0, slash);
+            address = address.substring(slash + 1);
+        }
+        URI uri = URI.create(scheme + "://" + address);
+        if (hostName == null) {
+            hostName = uri.getHost();
+            // IPv6 addresses are bracketed in URIs
+            if (hostName.startsWith("[") && hostName.endsWith("]")) {
+                hostName = hostName.substring(1, hostName.length() - 1);
+            }
+        }
+        return new HttpHost(scheme, hostName, uri.getPort());
+    }
+}
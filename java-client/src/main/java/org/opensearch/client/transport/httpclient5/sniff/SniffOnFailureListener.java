@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+/**
+ * {@link ApacheHttpClient5Transport.FailureListener} that sniffs the nodes of the cluster whenever a failure happens.
+ * It needs to be set to the transport builder with
+ * {@link org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder#setFailureListener}, and the
+ * {@link Sniffer} that was created for the transport needs to be provided with {@link #setSniffer(Sniffer)}.
+ */
+public class SniffOnFailureListener extends ApacheHttpClient5Transport.FailureListener {
+    private final AtomicReference<Sniffer> sniffer = new AtomicReference<>();
+
+    /**
+     * Create a {@link SniffOnFailureListener} instance.
+     */
+    public SniffOnFailureListener() {}
+
+    /**
+     * Sets the {@link Sniffer} instance used to sniff on failure. It can only be set once.
+     *
+     * @param sniffer the {@link Sniffer} to notify of failures
+     */
+    public void setSniffer(Sniffer sniffer) {
+        Objects.requireNonNull(sniffer, "sniffer must not be null");
+        if (false == this.sniffer.compareAndSet(null, sniffer)) {
+            throw new IllegalStateException("sniffer can only be set once");
+        }
+    }
+
+    @Override
+    public void onFailure(Node node) {
+        // Failures that happen before the sniffer is set, e.g. while it sniffs for the first time, are ignored
+        Sniffer sniffer = this.sniffer.get();
+        if (sniffer != null) {
+            sniffer.sniffOnFailure();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+
+/**
+ * Class responsible for sniffing nodes from some source (default is OpenSearch itself) and setting them to a provided
+ * instance of {@link ApacheHttpClient5Transport}. Must be created via {@link SnifferBuilder}, which allows to set all
+ * of the different options or rely on defaults. A background task fetches the nodes through the {@link NodesSniffer}
+ * and sets them to the transport. It runs at the start and then every {@link SnifferBuilder#setSniffIntervalMillis}.
+ * When a {@link SniffOnFailureListener} is set to the transport, nodes are also sniffed right after a failure, and
+ * the following execution is scheduled after {@link SnifferBuilder#setSniffAfterFailureDelayMillis}. Failures that
+ * happen while nodes are being sniffed, including those of the sniff request itself, don't trigger another execution
+ * right away: the next one is scheduled after the after failure delay instead.
+ * <p>
+ * Requests that are in flight keep the nodes they were sent with while the nodes of the transport are replaced. The
+ * sniffer needs to be closed before the transport.
+ */
+public class Sniffer implements Closeable {
+    private static final Log logger = LogFactory.getLog(Sniffer.class);
+    private static final String SNIFFER_THREAD_NAME = "os_java_sniffer";
+
+    private final ApacheHttpClient5Transport transport;
+    private final NodesSniffer nodesSniffer;
+    private final NodeSelector nodeSelector;
+    private final long sniffIntervalMillis;
+    private final long sniffAfterFailureDelayMillis;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<Task> nextTask = new AtomicReference<>();
+    private volatile boolean closed;
+    // Set while a sniff execution is running, and when a failure happens meanwhile
+    private volatile boolean sniffing;
+    private volatile boolean failedWhileSniffing;
+
+    Sniffer(
+        ApacheHttpClient5Transport transport,
+        NodesSniffer nodesSniffer,
+        NodeSelector nodeSelector,
+        long sniffIntervalMillis,
+        long sniffAfterFailureDelayMillis
+    ) {
+        this.transport = transport;
+        this.nodesSniffer = nodesSniffer;
+        this.nodeSelector = nodeSelector;
+        this.sniffIntervalMillis = sniffIntervalMillis;
+        this.sniffAfterFailureDelayMillis = sniffAfterFailureDelayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new SnifferThreadFactory(SNIFFER_THREAD_NAME));
+        schedule(0L, sniffIntervalMillis);
+    }
+
+    /**
+     * Returns a new {@link SnifferBuilder} to help with {@link Sniffer} creation.
+     *
+     * @param transport the transport whose nodes will be updated
+     * @return a new instance of {@link SnifferBuilder}
+     */
+    public static SnifferBuilder builder(ApacheHttpClient5Transport transport) {
+        return new SnifferBuilder(transport);
+    }
+
+    /**
+     * Schedules a sniff execution right away, which replaces the next ordinary execution. The one after it is
+     * scheduled after the configured after failure delay. Called by {@link SniffOnFailureListener}.
+     * <p>
+     * If nodes are being sniffed, no execution is scheduled right away, as the failure may be that of the sniff request
+     * itself: the next execution is scheduled after the after failure delay instead.
+     */
+    public void sniffOnFailure() {
+        if (sniffing) {
+            failedWhileSniffing = true;
+            return;
+        }
+        schedule(0L, sniffAfterFailureDelayMillis);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Task task = nextTask.getAndSet(null);
+        if (task != null) {
+            task.cancel();
+        }
+        scheduler.shutdownNow();
+        try {
+            if (false == scheduler.awaitTermination(1000, TimeUnit.MILLISECONDS)) {
+                logger.debug("sniffer did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void sniff() throws Exception {
+        List<Node> nodes = new ArrayList<>(nodesSniffer.sniff());
+        if (logger.isDebugEnabled()) {
+            logger.debug("sniffed nodes: " + nodes);
+        }
+        nodeSelector.select(nodes);
+        if (nodes.isEmpty()) {
+            logger.warn("no nodes to set, nodes will be updated at the next sniffing round");
+        } else {
+            transport.setNodes(nodes);
+        }
+    }
+
+    /**
+     * Schedules a sniff execution that supersedes the one that is currently scheduled, if any. An execution that has
+     * already started completes, but the one that it would have scheduled is replaced.
+     */
+    private void schedule(long delayMillis, long nextDelayMillis) {
+        if (closed) {
+            return;
+        }
+        Task task = new Task(nextDelayMillis);
+        Task previous = nextTask.getAndSet(task);
+        if (previous != null) {
+            previous.cancel();
+        }
+        try {
+            task.future = scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed concurrently
+            logger.debug("could not schedule sniff task", e);
+        }
+    }
+
+    private class Task implements Runnable {
+        private final long nextDelayMillis;
+        private volatile ScheduledFuture<?> future;
+
+        Task(long nextDelayMillis) {
+            this.nextDelayMillis = nextDelayMillis;
+        }
+
+        @Override
+        public void run() {
+            if (nextTask.get() != this) {
+                // Superseded before it could be cancelled
+                return;
+            }
+            failedWhileSniffing = false;
+            sniffing = true;
+            try {
+                sniff();
+            } catch (Exception e) {
+                logger.error("error while sniffing nodes", e);
+            } finally {
+                sniffing = false;
+                // Unless a failure scheduled another execution while this one was running
+                if (nextTask.get() == this) {
+                    schedule(failedWhileSniffing ? sniffAfterFailureDelayMillis : nextDelayMillis, sniffIntervalMillis);
+                }
+            }
+        }
+
+        void cancel() {
+            ScheduledFuture<?> future = this.future;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static class SnifferThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        private SnifferThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, namePrefix + "[T#" + threadNumber.getAndIncrement() + "]");
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport;
+import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+
+/**
+ * Sniffer builder. Helps creating a new {@link Sniffer}.
+ */
+public final class SnifferBuilder {
+    public static final long DEFAULT_SNIFF_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+    public static final long DEFAULT_SNIFF_AFTER_FAILURE_DELAY = TimeUnit.MINUTES.toMillis(1);
+
+    private final ApacheHttpClient5Transport transport;
+    private long sniffIntervalMillis = DEFAULT_SNIFF_INTERVAL;
+    private long sniffAfterFailureDelayMillis = DEFAULT_SNIFF_AFTER_FAILURE_DELAY;
+    private NodesSniffer nodesSniffer;
+    private NodeSelector nodeSelector = NodeSelector.ANY;
+
+    /**
+     * Creates a new builder instance by providing the {@link ApacheHttpClient5Transport} that will be used to
+     * communicate with OpenSearch
+     */
+    SnifferBuilder(ApacheHttpClient5Transport transport) {
+        this.transport = Objects.requireNonNull(transport, "transport cannot be null");
+    }
+
+    /**
+     * Sets the interval between consecutive ordinary sniff executions in milliseconds. Will be honoured when
+     * sniffOnFailure is disabled or when there are no failures between consecutive sniff executions.
+     *
+     * @param sniffIntervalMillis the interval in milliseconds
+     * @throws IllegalArgumentException if sniffIntervalMillis is not greater than 0
+     */
+    public SnifferBuilder setSniffIntervalMillis(long sniffIntervalMillis) {
+        if (sniffIntervalMillis <= 0) {
+            throw new IllegalArgumentException("sniffIntervalMillis must be greater than 0");
+        }
+        this.sniffIntervalMillis = sniffIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Sets the delay of a sniff execution scheduled after a failure (in milliseconds). Failures are notified by
+     * {@link SniffOnFailureListener}, which needs to be set to the transport.
+     *
+     * @param sniffAfterFailureDelayMillis the delay in milliseconds
+     * @throws IllegalArgumentException if sniffAfterFailureDelayMillis is not greater than 0
+     */
+    public SnifferBuilder setSniffAfterFailureDelayMillis(long sniffAfterFailureDelayMillis) {
+        if (sniffAfterFailureDelayMillis <= 0) {
+            throw new IllegalArgumentException("sniffAfterFailureDelayMillis must be greater than 0");
+        }
+        this.sniffAfterFailureDelayMillis = sniffAfterFailureDelayMillis;
+        return this;
+    }
+
+    /**
+     * Sets the {@link NodesSniffer} to be used to read hosts. A default instance of {@link OpenSearchNodesSniffer}
+     * is created when not provided. This method can be used to change the configuration of the
+     * {@link OpenSearchNodesSniffer}, or to provide a different implementation (e.g. in case hosts need to be taken from
+     * a different source).
+     *
+     * @param nodesSniffer the {@link NodesSniffer} to use
+     */
+    public SnifferBuilder setNodesSniffer(NodesSniffer nodesSniffer) {
+        this.nodesSniffer = Objects.requireNonNull(nodesSniffer, "nodesSniffer cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the {@link NodeSelector} that filters sniffed nodes before they are set to the transport, for instance
+     * {@link NodeSelector#SKIP_DEDICATED_CLUSTER_MANAGERS} to never send requests to dedicated cluster-manager nodes.
+     * Unlike the node selector of the transport, nodes that it rejects are not kept as a last resort. Defaults to
+     * {@link NodeSelector#ANY}.
+     *
+     * @param nodeSelector the {@link NodeSelector} to use
+     */
+    public SnifferBuilder setNodeSelector(NodeSelector nodeSelector) {
+        this.nodeSelector = Objects.requireNonNull(nodeSelector, "nodeSelector cannot be null");
+        return this;
+    }
+
+    /**
+     * Creates the {@link Sniffer} based on the provided configuration, and starts sniffing.
+     */
+    public Sniffer build() {
+        if (nodesSniffer == null) {
+            this.nodesSniffer = new OpenSearchNodesSniffer(transport);
+        }
+        return new Sniffer(transport, nodesSniffer, nodeSelector, sniffIntervalMillis, sniffAfterFailureDelayMillis);
+    }
+}
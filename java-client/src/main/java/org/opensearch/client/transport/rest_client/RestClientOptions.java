@@ -35,6 +35,7 @@ package org.opensearch.client.transport.rest_client;
 import static org.opensearch.client.transport.TransportHeaders.ACCEPT;
 import static org.opensearch.client.transport.TransportHeaders.USER_AGENT;
 
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.List;
@@ -55,6 +56,7 @@ import org.opensearch.client.transport.Version;
 public class RestClientOptions implements TransportOptions {
 
     private final RequestOptions options;
+    private final Duration requestTimeout;
 
     static RestClientOptions of(TransportOptions options) {
         if (options instanceof RestClientOptions) {
@@ -65,12 +67,18 @@ public class RestClientOptions implements TransportOptions {
             options.headers().forEach(h -> builder.addHeader(h.getKey(), h.getValue()));
             options.queryParameters().forEach(builder::setParameter);
             builder.onWarnings(options.onWarnings());
+            builder.setRequestTimeout(options.requestTimeout());
             return builder.build();
         }
     }
 
     public RestClientOptions(RequestOptions options) {
+        this(options, null);
+    }
+
+    public RestClientOptions(RequestOptions options, Duration requestTimeout) {
         this.options = options;
+        this.requestTimeout = requestTimeout;
     }
 
     public static RestClientOptions.Builder builder() {
@@ -112,14 +120,20 @@ public class RestClientOptions implements TransportOptions {
         return warnings -> options.getWarningsHandler().warningsShouldFailRequest(warnings);
     }
 
+    @Override
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
     @Override
     public Builder toBuilder() {
-        return new Builder(options.toBuilder());
+        return new Builder(options.toBuilder()).setRequestTimeout(requestTimeout);
     }
 
     public static class Builder implements TransportOptions.Builder {
 
         private RequestOptions.Builder builder;
+        private Duration requestTimeout;
 
         public Builder(RequestOptions.Builder builder) {
             this.builder = builder;
@@ -180,9 +194,23 @@ public class RestClientOptions implements TransportOptions {
             return this;
         }
 
+        /**
+         * Set the time a request may take, including its retries on other nodes. The remaining time also bounds the
+         * response timeout of the request config of the wrapped request options. If null (the default), requests may
+         * take as long as their attempts allow.
+         */
+        @Override
+        public Builder setRequestTimeout(Duration timeout) {
+            if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+                throw new IllegalArgumentException("Request timeout should be positive, got [" + timeout + "]");
+            }
+            this.requestTimeout = timeout;
+            return this;
+        }
+
         @Override
         public RestClientOptions build() {
-            return new RestClientOptions(builder.build());
+            return new RestClientOptions(builder.build(), requestTimeout);
         }
     }
 
@@ -34,19 +34,22 @@ package org.opensearch.client.transport.rest_client;
 
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
 import javax.annotation.Nullable;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
-import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
 import org.opensearch.client.Cancellable;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.Response;
@@ -58,6 +61,7 @@ import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.NdJsonpSerializable;
 import org.opensearch.client.opensearch._types.ErrorResponse;
 import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.Deadline;
 import org.opensearch.client.transport.Endpoint;
 import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
@@ -65,8 +69,11 @@ import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.client.transport.endpoints.BooleanEndpoint;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.transport.http.PooledHttpEntity;
 import org.opensearch.client.util.ApiTypeHelper;
+import org.opensearch.client.util.BufferPool;
 import org.opensearch.client.util.MissingRequiredPropertyException;
+import org.opensearch.client.util.PooledOutputStream;
 
 /**
  * The {@link RestClientTransport} is deprecated and is scheduled for removal in later versions. Please
@@ -97,11 +104,27 @@ public class RestClientTransport implements OpenSearchTransport {
     private final RestClient restClient;
     private final JsonpMapper mapper;
     private final RestClientOptions transportOptions;
+    @Nullable
+    private final BufferPool bufferPool;
 
     public RestClientTransport(RestClient restClient, JsonpMapper mapper, @Nullable TransportOptions options) {
+        this(restClient, mapper, options, null);
+    }
+
+    /**
+     * Creates a transport that serializes request bodies into buffers acquired from {@code bufferPool}. The buffers are
+     * returned to the pool once the request has completed.
+     */
+    public RestClientTransport(
+        RestClient restClient,
+        JsonpMapper mapper,
+        @Nullable TransportOptions options,
+        @Nullable BufferPool bufferPool
+    ) {
         this.restClient = restClient;
         this.mapper = mapper;
         this.transportOptions = options == null ? RestClientOptions.initialOptions() : RestClientOptions.of(options);
+        this.bufferPool = bufferPool;
     }
 
     public RestClientTransport(RestClient restClient, JsonpMapper mapper) {
@@ -119,7 +142,7 @@ public class RestClientTransport implements OpenSearchTransport {
      * Copies this {@link #RestClientTransport} with specific request options.
      */
     public RestClientTransport withRequestOptions(@Nullable TransportOptions options) {
-        return new RestClientTransport(this.restClient, this.mapper, options);
+        return new RestClientTransport(this.restClient, this.mapper, options, this.bufferPool);
     }
 
     @Override
@@ -143,9 +166,31 @@ public class RestClientTransport implements OpenSearchTransport {
         @Nullable TransportOptions options
     ) throws IOException {
 
-        org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, options);
-        org.opensearch.client.Response clientResp = restClient.performRequest(clientReq);
-        return getHighLevelResponse(clientResp, endpoint);
+        RestClientOptions restClientOptions = options == null ? transportOptions : RestClientOptions.of(options);
+        Deadline deadline = Deadline.of(restClientOptions);
+        if (deadline != null) {
+            // The low level client fails over to other nodes on its own, and the request is cancelled at its deadline
+            // rather than between attempts, which is only possible with asynchronous requests
+            try {
+                return performRequestAsync(request, endpoint, restClientOptions, deadline).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                } else {
+                    throw new IOException(e.getCause());
+                }
+            }
+        }
+
+        org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, restClientOptions, null);
+        try {
+            org.opensearch.client.Response clientResp = restClient.performRequest(clientReq);
+            return getHighLevelResponse(clientResp, endpoint);
+        } finally {
+            closeQuietly(clientReq.getEntity());
+        }
     }
 
     public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
@@ -153,16 +198,33 @@ public class RestClientTransport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         @Nullable TransportOptions options
     ) {
-        org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, options);
+        RestClientOptions restClientOptions = options == null ? transportOptions : RestClientOptions.of(options);
+        return performRequestAsync(request, endpoint, restClientOptions, Deadline.of(restClientOptions));
+    }
 
+    private <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+        RequestT request,
+        Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+        RestClientOptions options,
+        @Nullable Deadline deadline
+    ) {
         RequestFuture<ResponseT> future = new RequestFuture<>();
 
+        org.opensearch.client.Request clientReq;
+        try {
+            clientReq = prepareLowLevelRequest(request, endpoint, options, deadline);
+        } catch (IOException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
         // Propagate required property checks to the thread that will decode the response
         boolean disableRequiredChecks = ApiTypeHelper.requiredPropertiesCheckDisabled();
 
         future.cancellable = restClient.performRequestAsync(clientReq, new ResponseListener() {
             @Override
             public void onSuccess(Response clientResp) {
+                closeQuietly(clientReq.getEntity());
                 try (ApiTypeHelper.DisabledChecksHandle h = ApiTypeHelper.DANGEROUS_disableRequiredPropertiesCheck(disableRequiredChecks)) {
 
                     ResponseT response = getHighLevelResponse(clientResp, endpoint);
@@ -175,27 +237,41 @@ public class RestClientTransport implements OpenSearchTransport {
 
             @Override
             public void onFailure(Exception e) {
+                closeQuietly(clientReq.getEntity());
                 future.completeExceptionally(e);
             }
         });
 
+        if (deadline != null) {
+            // The request fails at its deadline, and the low level client then cancels the attempt in flight as well as
+            // the following ones
+            ScheduledFuture<?> timer = deadline.schedule(() -> {
+                if (future.completeExceptionally(deadline.exceeded(null))) {
+                    future.cancellable.cancel();
+                }
+            });
+            future.whenComplete((r, e) -> timer.cancel(false));
+        }
+
         return future;
     }
 
     private <RequestT> org.opensearch.client.Request prepareLowLevelRequest(
         RequestT request,
         Endpoint<RequestT, ?, ?> endpoint,
-        @Nullable TransportOptions options
-    ) {
+        RestClientOptions options,
+        @Nullable Deadline deadline
+    ) throws IOException {
         String method = endpoint.method(request);
         String path = endpoint.requestUrl(request);
         Map<String, String> params = endpoint.queryParameters(request);
 
         org.opensearch.client.Request clientReq = new org.opensearch.client.Request(method, path);
 
-        RequestOptions restOptions = options == null
-            ? transportOptions.restClientRequestOptions()
-            : RestClientOptions.of(options).restClientRequestOptions();
+        RequestOptions restOptions = options.restClientRequestOptions();
+        if (restOptions != null && deadline != null && restOptions.getRequestConfig() != null) {
+            restOptions = restOptions.toBuilder().setRequestConfig(attemptConfig(restOptions.getRequestConfig(), deadline)).build();
+        }
 
         if (restOptions != null) {
             clientReq.setOptions(restOptions);
@@ -204,18 +280,16 @@ public class RestClientTransport implements OpenSearchTransport {
         clientReq.addParameters(params);
 
         if (endpoint.hasRequestBody()) {
-            // Request has a body and must implement JsonpSerializable or NdJsonpSerializable
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-            if (request instanceof NdJsonpSerializable) {
-                writeNdJson((NdJsonpSerializable) request, baos);
-            } else {
-                JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
-                mapper.serialize(request, generator);
-                generator.close();
+            // Request has a body and must implement JsonpSerializable or NdJsonpSerializable. It is serialized once, and
+            // the low level client sends it as is on retries
+            PooledOutputStream out = new PooledOutputStream(bufferPool == null ? BufferPool.unpooled() : bufferPool);
+            try {
+                writeRequestBody(request, out);
+            } catch (IOException | RuntimeException e) {
+                out.release();
+                throw e;
             }
-
-            clientReq.setEntity(new ByteArrayEntity(baos.toByteArray(), JsonContentType));
+            clientReq.setEntity(new PooledHttpEntity(out, JsonContentType));
         }
         // Request parameter intercepted by LLRC
         clientReq.addParameter("ignore", "400,401,403,404,405");
@@ -226,17 +300,49 @@ public class RestClientTransport implements OpenSearchTransport {
      * Write an nd-json value by serializing each of its items on a separate line, recursing if its items themselves implement
      * {@link NdJsonpSerializable} to flattening nested structures.
      */
-    private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream baos) {
+    private void writeNdJson(NdJsonpSerializable value, OutputStream out) throws IOException {
         Iterator<?> values = value._serializables();
         while (values.hasNext()) {
             Object item = values.next();
             if (item instanceof NdJsonpSerializable && item != value) { // do not recurse on the item itself
-                writeNdJson((NdJsonpSerializable) item, baos);
+                writeNdJson((NdJsonpSerializable) item, out);
             } else {
-                JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
                 mapper.serialize(item, generator);
                 generator.close();
-                baos.write('\n');
+                out.write('\n');
+            }
+        }
+    }
+
+    private void writeRequestBody(Object request, OutputStream out) throws IOException {
+        if (request instanceof NdJsonpSerializable) {
+            writeNdJson((NdJsonpSerializable) request, out);
+        } else {
+            JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+            mapper.serialize(request, generator);
+            generator.close();
+        }
+    }
+
+    /**
+     * The request config of the attempts, whose response timeout is bounded by the time left before the deadline.
+     */
+    private static RequestConfig attemptConfig(RequestConfig config, Deadline deadline) {
+        long remainingMillis = Math.max(1, deadline.remainingMillis());
+        Timeout responseTimeout = config.getResponseTimeout();
+        if (responseTimeout != null && false == responseTimeout.isDisabled() && responseTimeout.toMilliseconds() <= remainingMillis) {
+            return config;
+        }
+        return RequestConfig.copy(config).setResponseTimeout(Timeout.ofMilliseconds(remainingMillis)).build();
+    }
+
+    private static void closeQuietly(@Nullable HttpEntity entity) {
+        if (entity != null) {
+            try {
+                entity.close();
+            } catch (IOException e) {
+                // Closing the request entity only releases its buffers
             }
         }
     }
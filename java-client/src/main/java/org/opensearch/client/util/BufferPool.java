@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A pool of byte buffers that transports use to serialize request bodies. Buffers are acquired while a request body is
+ * written, and released once the request has completed so that they can be reused by later requests.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see SizeClassedBufferPool
+ * @see PooledOutputStream
+ */
+public interface BufferPool {
+
+    /**
+     * Acquire a cleared buffer with a capacity of at least {@code minCapacity} bytes.
+     */
+    ByteBuffer acquire(int minCapacity);
+
+    /**
+     * Release a buffer previously returned by {@link #acquire(int)}. The caller must not use the buffer afterwards.
+     */
+    void release(ByteBuffer buffer);
+
+    /**
+     * Statistics of this pool.
+     */
+    Stats stats();
+
+    /**
+     * A pool that allocates a new heap buffer on each acquisition and doesn't retain released buffers.
+     */
+    static BufferPool unpooled() {
+        return UnpooledBufferPool.INSTANCE;
+    }
+
+    /**
+     * A point-in-time snapshot of the statistics of a {@link BufferPool}.
+     */
+    final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long retainedBytes;
+
+        public Stats(long hits, long misses, long retainedBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.retainedBytes = retainedBytes;
+        }
+
+        /**
+         * Number of acquisitions that were served with a pooled buffer.
+         */
+        public long hits() {
+            return hits;
+        }
+
+        /**
+         * Number of acquisitions that required allocating a new buffer.
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * Ratio of acquisitions that were served with a pooled buffer, or {@code 0} if no buffer was acquired.
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        /**
+         * Total capacity of the buffers currently retained by the pool.
+         */
+        public long retainedBytes() {
+            return retainedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "BufferPool.Stats{hits=" + hits + ", misses=" + misses + ", retainedBytes=" + retainedBytes + "}";
+        }
+    }
+}
@@ -10,11 +10,12 @@ package org.opensearch.client.util;
 
 import jakarta.json.stream.JsonGenerator;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.List;
 import java.util.zip.GZIPOutputStream;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -32,7 +33,7 @@ import org.opensearch.client.transport.OpenSearchTransport;
  */
 public class OpenSearchRequestBodyBuffer {
     private static final byte[] NO_BYTES = new byte[0];
-    private final OutputBuffer outputBuffer;
+    private final PooledOutputStream outputBuffer;
     private final CompressingOutputBuffer captureBuffer;
     private final JsonpMapper mapper;
     private final JsonGenerator jsonGenerator;
@@ -49,7 +50,20 @@ public class OpenSearchRequestBodyBuffer {
      *                               compressed.  Pass Integer.MAX_VALUE to prevent compression
      */
     public OpenSearchRequestBodyBuffer(JsonpMapper mapper, int requestCompressionSize) {
-        this.outputBuffer = new OutputBuffer();
+        this(mapper, requestCompressionSize, null);
+    }
+
+    /**
+     * Create a request body buffer that captures its data in buffers acquired from a pool. The buffers are returned to
+     * the pool by {@link #release()}.
+     *
+     * @param mapper                 mapper used to serialize the content
+     * @param requestCompressionSize When the captured data exceeds this size, it will be automatically
+     *                               compressed.  Pass Integer.MAX_VALUE to prevent compression
+     * @param bufferPool             pool providing the buffers, or null to allocate new buffers
+     */
+    public OpenSearchRequestBodyBuffer(JsonpMapper mapper, int requestCompressionSize, @CheckForNull BufferPool bufferPool) {
+        this.outputBuffer = new PooledOutputStream(bufferPool == null ? BufferPool.unpooled() : bufferPool);
         this.captureBuffer = new CompressingOutputBuffer(this.outputBuffer, requestCompressionSize);
         this.mapper = mapper;
         jsonGenerator = mapper.jsonProvider().createGenerator(this.captureBuffer);
@@ -182,6 +196,32 @@ public class OpenSearchRequestBodyBuffer {
         }
     }
 
+    /**
+     * Get the contents of this buffer as a list of read-only byte buffers, without copying them.
+     * <p>
+     * The byte buffers share the memory of this buffer, and must not be used after {@link #release()}.
+     * </P>
+     * <p>
+     * This call finalizes the buffer.  After this call, any attempt to add more content
+     * will throw an IOException.
+     * </P>
+     *
+     * @return The buffered data
+     */
+    public List<ByteBuffer> getByteBuffers() {
+        ensureClosed();
+        return outputBuffer.toByteBuffers();
+    }
+
+    /**
+     * Return the buffers holding the content to their pool. The content of this buffer, including input streams
+     * previously returned by {@link #getInputStream()}, must not be used after this call.
+     */
+    public void release() {
+        ensureClosed();
+        outputBuffer.release();
+    }
+
     /**
      * This call finalizes the buffer.  After this call, any attempt to add more content
      * will throw an IOException.
@@ -204,12 +244,6 @@ public class OpenSearchRequestBodyBuffer {
         }
     }
 
-    private static class OutputBuffer extends ByteArrayOutputStream {
-        InputStream toInputStream() {
-            return new ByteArrayInputStream(this.buf, 0, this.count);
-        }
-    }
-
     private static class ClosedOutputBuffer extends OutputStream {
         static final ClosedOutputBuffer INSTANCE = new ClosedOutputBuffer();
 
@@ -223,13 +257,13 @@ public class OpenSearchRequestBodyBuffer {
     }
 
     private static class CompressingOutputBuffer extends OutputStream {
-        private final OutputBuffer outputBuffer;
+        private final PooledOutputStream outputBuffer;
         private final int requestCompressionSize;
         private OutputStream delegate;
         private int bytesUntilCompression;
         private boolean isCompressed;
 
-        private CompressingOutputBuffer(OutputBuffer outputBuffer, int requestCompressionSize) {
+        private CompressingOutputBuffer(PooledOutputStream outputBuffer, int requestCompressionSize) {
             this.outputBuffer = outputBuffer;
             this.delegate = outputBuffer;
             this.requestCompressionSize = requestCompressionSize;
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An output stream that writes to a sequence of buffers acquired from a {@link BufferPool}. Unlike
+ * {@link java.io.ByteArrayOutputStream}, growing the stream never copies the data already written: a new buffer is
+ * acquired instead, twice as large as the previous one up to a maximum size.
+ * <p>
+ * The content can be read any number of times with {@link #toInputStream()} or {@link #writeTo(OutputStream)}, until
+ * {@link #release()} returns the buffers to the pool.
+ */
+public class PooledOutputStream extends OutputStream {
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    private final BufferPool pool;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private ByteBuffer current;
+    private long size;
+    private boolean released;
+
+    public PooledOutputStream(BufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity().put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = ensureCapacity();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            size += n;
+        }
+    }
+
+    private ByteBuffer ensureCapacity() throws IOException {
+        if (released) {
+            throw new IOException("Stream has been released");
+        }
+        if (current == null || !current.hasRemaining()) {
+            int capacity = current == null ? INITIAL_BUFFER_SIZE : Math.min(current.capacity() * 2, MAX_BUFFER_SIZE);
+            current = pool.acquire(capacity);
+            buffers.add(current);
+        }
+        return current;
+    }
+
+    /**
+     * Number of bytes written to this stream.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Copy the content of this stream to a new byte array.
+     */
+    public byte[] toByteArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Content is too large for a byte array [" + size + "]");
+        }
+        byte[] result = new byte[(int) size];
+        int pos = 0;
+        for (ByteBuffer buffer : buffers) {
+            ByteBuffer content = content(buffer);
+            int n = content.remaining();
+            content.get(result, pos, n);
+            pos += n;
+        }
+        return result;
+    }
+
+    /**
+     * Write the content of this stream to another stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] copyBuffer = null;
+        for (ByteBuffer buffer : buffers) {
+            ByteBuffer content = content(buffer);
+            if (content.hasArray()) {
+                out.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            } else {
+                if (copyBuffer == null) {
+                    copyBuffer = new byte[8 * 1024];
+                }
+                while (content.hasRemaining()) {
+                    int n = Math.min(copyBuffer.length, content.remaining());
+                    content.get(copyBuffer, 0, n);
+                    out.write(copyBuffer, 0, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get a new input stream over the content of this stream. The input stream shares the buffers of this stream, and
+     * must not be used after {@link #release()} has been called.
+     */
+    public InputStream toInputStream() {
+        List<ByteBuffer> contents = new ArrayList<>(buffers.size());
+        for (ByteBuffer buffer : buffers) {
+            contents.add(content(buffer));
+        }
+        return new BuffersInputStream(contents);
+    }
+
+    /**
+     * Get new read-only views of the buffers holding the content of this stream, in order. The views share the buffers
+     * of this stream, and must not be used after {@link #release()} has been called.
+     */
+    public List<ByteBuffer> toByteBuffers() {
+        List<ByteBuffer> contents = new ArrayList<>(buffers.size());
+        for (ByteBuffer buffer : buffers) {
+            contents.add(content(buffer).asReadOnlyBuffer());
+        }
+        return contents;
+    }
+
+    /**
+     * Discard the content of this stream, returning its buffers to the pool. The stream can be written to again.
+     */
+    public void reset() {
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        buffers.clear();
+        current = null;
+        size = 0;
+    }
+
+    /**
+     * Return the buffers of this stream to the pool. Calling this method more than once has no effect.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            reset();
+        }
+    }
+
+    private static ByteBuffer content(ByteBuffer buffer) {
+        ByteBuffer content = buffer.duplicate();
+        content.flip();
+        return content;
+    }
+
+    private static class BuffersInputStream extends InputStream {
+        private final List<ByteBuffer> buffers;
+        private int index;
+
+        BuffersInputStream(List<ByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+
+        private ByteBuffer current() {
+            while (index < buffers.size()) {
+                ByteBuffer buffer = buffers.get(index);
+                if (buffer.hasRemaining()) {
+                    return buffer;
+                }
+                index++;
+            }
+            return null;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = current();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            ByteBuffer buffer = current();
+            return buffer == null ? 0 : buffer.remaining();
+        }
+    }
+}
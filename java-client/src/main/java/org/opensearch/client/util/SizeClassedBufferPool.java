@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link BufferPool} that hands out buffers whose capacity is a power of two, between a minimum and a maximum size.
+ * Released buffers are kept in a queue per size class, up to a limit on the total number of retained bytes. Requests for
+ * buffers larger than the maximum size are served with unpooled buffers.
+ */
+public class SizeClassedBufferPool implements BufferPool {
+
+    private final boolean direct;
+    private final int minShift;
+    private final int maxBufferSize;
+    private final long maxRetainedBytes;
+    private final List<Queue<ByteBuffer>> classes;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private SizeClassedBufferPool(Builder builder) {
+        this.direct = builder.direct;
+        this.minShift = Integer.numberOfTrailingZeros(builder.minBufferSize);
+        this.maxBufferSize = builder.maxBufferSize;
+        this.maxRetainedBytes = builder.maxRetainedBytes;
+
+        int classCount = Integer.numberOfTrailingZeros(builder.maxBufferSize) - minShift + 1;
+        this.classes = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            classes.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    public static SizeClassedBufferPool of(Function<Builder, ObjectBuilder<SizeClassedBufferPool>> fn) {
+        return fn.apply(new Builder()).build();
+    }
+
+    @Override
+    public ByteBuffer acquire(int minCapacity) {
+        if (minCapacity > maxBufferSize) {
+            misses.increment();
+            return allocate(minCapacity);
+        }
+
+        int sizeClass = sizeClass(minCapacity);
+        ByteBuffer buffer = classes.get(sizeClass).poll();
+        if (buffer != null) {
+            retainedBytes.addAndGet(-buffer.capacity());
+            hits.increment();
+            buffer.clear();
+            return buffer;
+        }
+
+        misses.increment();
+        return allocate(1 << (sizeClass + minShift));
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (buffer.isDirect() != direct || buffer.isReadOnly() || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        int sizeClass = Integer.numberOfTrailingZeros(capacity) - minShift;
+        if (sizeClass < 0 || sizeClass >= classes.size()) {
+            return;
+        }
+
+        long retained;
+        do {
+            retained = retainedBytes.get();
+            if (retained + capacity > maxRetainedBytes) {
+                // Let the garbage collector reclaim it
+                return;
+            }
+        } while (!retainedBytes.compareAndSet(retained, retained + capacity));
+
+        classes.get(sizeClass).offer(buffer);
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), retainedBytes.get());
+    }
+
+    private int sizeClass(int minCapacity) {
+        if (minCapacity <= (1 << minShift)) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(minCapacity - 1) - minShift;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Builder for {@link SizeClassedBufferPool}.
+     */
+    public static class Builder extends ObjectBuilderBase implements ObjectBuilder<SizeClassedBufferPool> {
+        private boolean direct = false;
+        private int minBufferSize = 4 * 1024;
+        private int maxBufferSize = 1024 * 1024;
+        private long maxRetainedBytes = 64 * 1024 * 1024;
+
+        /**
+         * Whether the pool should allocate direct buffers rather than heap buffers. Defaults to {@code false}.
+         */
+        public final Builder direct(boolean value) {
+            this.direct = value;
+            return this;
+        }
+
+        /**
+         * Size of the smallest buffers handed out by the pool. Must be a power of two. Defaults to 4 KiB.
+         */
+        public final Builder minBufferSize(int value) {
+            if (value <= 0 || Integer.bitCount(value) != 1) {
+                throw new IllegalArgumentException("Min buffer size should be a positive power of two, got [" + value + "]");
+            }
+            this.minBufferSize = value;
+            return this;
+        }
+
+        /**
+         * Size of the largest buffers retained by the pool. Must be a power of two. Defaults to 1 MiB.
+         */
+        public final Builder maxBufferSize(int value) {
+            if (value <= 0 || Integer.bitCount(value) != 1) {
+                throw new IllegalArgumentException("Max buffer size should be a positive power of two, got [" + value + "]");
+            }
+            this.maxBufferSize = value;
+            return this;
+        }
+
+        /**
+         * Maximum total capacity of the buffers retained by the pool. Defaults to 64 MiB.
+         */
+        public final Builder maxRetainedBytes(long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Max retained bytes should be positive, got [" + value + "]");
+            }
+            this.maxRetainedBytes = value;
+            return this;
+        }
+
+        /**
+         * Builds a {@link SizeClassedBufferPool}.
+         */
+        public SizeClassedBufferPool build() {
+            _checkSingleUse();
+            if (minBufferSize > maxBufferSize) {
+                throw new IllegalArgumentException(
+                    "Min buffer size [" + minBufferSize + "] should not be greater than max buffer size [" + maxBufferSize + "]"
+                );
+            }
+            return new SizeClassedBufferPool(this);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link BufferPool} that doesn't pool buffers.
+ */
+final class UnpooledBufferPool implements BufferPool {
+    static final UnpooledBufferPool INSTANCE = new UnpooledBufferPool();
+    private static final Stats STATS = new Stats(0, 0, 0);
+
+    @Override
+    public ByteBuffer acquire(int minCapacity) {
+        return ByteBuffer.allocate(minCapacity);
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {}
+
+    @Override
+    public Stats stats() {
+        return STATS;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+
+public class BulkIngesterTest extends Assert {
+
+    @Test
+    public void testFlushOnMaxOperations() {
+        RecordingTransport transport = new RecordingTransport((req, pos) -> 200);
+        BulkIngester<Integer> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(10).maxSize(-1).globalSettings(s -> s.index("test"))
+        );
+
+        for (int i = 0; i < 25; i++) {
+            ingester.add(deleteOperation(i), i);
+        }
+        assertEquals(2, transport.requests.size());
+        assertEquals(5, ingester.pendingOperations());
+
+        ingester.close();
+        assertEquals(3, transport.requests.size());
+        assertEquals(10, transport.requests.get(0).operations().size());
+        assertEquals(5, transport.requests.get(2).operations().size());
+        assertEquals("test", transport.requests.get(0).index());
+        assertEquals(25, ingester.operationCount());
+        assertEquals(3, ingester.requestCount());
+    }
+
+    @Test
+    public void testFlushOnMaxSize() {
+        RecordingTransport transport = new RecordingTransport((req, pos) -> 200);
+        BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(-1).maxSize(100));
+
+        ingester.add(deleteOperation(0));
+        assertTrue(ingester.pendingSize() > 0);
+        assertEquals(0, transport.requests.size());
+
+        for (int i = 1; i < 10 && transport.requests.isEmpty(); i++) {
+            ingester.add(deleteOperation(i));
+        }
+        assertEquals(1, transport.requests.size());
+        assertEquals(0, ingester.pendingSize());
+        ingester.close();
+    }
+
+    @Test
+    public void testFlushInterval() throws Exception {
+        RecordingTransport transport = new RecordingTransport((req, pos) -> 200);
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(100).flushInterval(50, TimeUnit.MILLISECONDS)
+        );
+
+        ingester.add(deleteOperation(0));
+        for (int i = 0; i < 100 && transport.requests.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, transport.requests.size());
+        ingester.close();
+    }
+
+    @Test
+    public void testRejectOnBackpressure() {
+        RecordingTransport transport = new RecordingTransport((req, pos) -> 200);
+        transport.autoComplete = false;
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(2).maxConcurrentRequests(1).blockOnBackpressure(false)
+        );
+
+        ingester.add(deleteOperation(0));
+        ingester.add(deleteOperation(1)); // sent
+        ingester.add(deleteOperation(2));
+        ingester.add(deleteOperation(3)); // buffer full, no request slot available
+        assertEquals(1, ingester.inFlightRequests());
+        assertThrows(RejectedExecutionException.class, () -> ingester.add(deleteOperation(4)));
+
+        // Completing the request sends the buffered operations
+        transport.completeNext();
+        assertEquals(2, transport.requests.size());
+        transport.completeNext();
+        assertEquals(0, ingester.inFlightRequests());
+        ingester.close();
+    }
+
+    @Test
+    public void testRetryTooManyRequests() {
+        // First request rejects the second operation, the retry succeeds
+        RecordingTransport transport = new RecordingTransport((req, pos) -> req == 0 && pos == 1 ? 429 : 200);
+        List<Long> afterBulkIds = new CopyOnWriteArrayList<>();
+
+        BulkIngester<String> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(2)
+                .retryBackoff(1, 10, TimeUnit.MILLISECONDS)
+                .listener(new BulkListener<String>() {
+                    @Override
+                    public void beforeBulk(long executionId, BulkRequest request, List<String> contexts) {}
+
+                    @Override
+                    public void afterBulk(long executionId, BulkRequest request, List<String> contexts, BulkResponse response, long took) {
+                        afterBulkIds.add(executionId);
+                    }
+
+                    @Override
+                    public void afterBulk(long executionId, BulkRequest request, List<String> contexts, Throwable failure, long took) {
+                        fail("Unexpected failure");
+                    }
+                })
+        );
+
+        ingester.add(deleteOperation(0), "a");
+        ingester.add(deleteOperation(1), "b");
+        ingester.close();
+
+        assertEquals(2, transport.requests.size());
+        assertEquals(Collections.singletonList("1"), ids(transport.requests.get(1)));
+        assertEquals(1, ingester.retriedOperationCount());
+        assertEquals(3, ingester.operationCount());
+        assertEquals(2, afterBulkIds.size());
+    }
+
+    @Test
+    public void testRetryIsSentWithoutFurtherOperations() throws Exception {
+        RecordingTransport transport = new RecordingTransport((req, pos) -> req == 0 && pos == 0 ? 429 : 200);
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(2).retryBackoff(1, 10, TimeUnit.MILLISECONDS)
+        );
+
+        ingester.add(deleteOperation(0));
+        ingester.add(deleteOperation(1));
+        // No flush interval and no further operations: the retry must not wait for the buffer to fill up
+        for (int i = 0; i < 100 && transport.requests.size() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, transport.requests.size());
+        assertEquals(Collections.singletonList("0"), ids(transport.requests.get(1)));
+        assertEquals(0, ingester.pendingOperations());
+        ingester.close();
+    }
+
+    @Test
+    public void testFailingBeforeBulkReleasesRequest() {
+        RecordingTransport transport = new RecordingTransport((req, pos) -> 200);
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(1)
+                .maxConcurrentRequests(1)
+                .listener(new BulkListener<Void>() {
+                    @Override
+                    public void beforeBulk(long executionId, BulkRequest request, List<Void> contexts) {
+                        throw new IllegalStateException("listener failure");
+                    }
+
+                    @Override
+                    public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, BulkResponse response, long took) {
+                        fail("Unexpected response");
+                    }
+
+                    @Override
+                    public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, Throwable failure, long took) {
+                        failures.add(failure);
+                    }
+                })
+        );
+
+        // Would block on the request slot if the first request kept it
+        ingester.add(deleteOperation(0));
+        ingester.add(deleteOperation(1));
+        assertEquals(0, ingester.inFlightRequests());
+        assertEquals(2, failures.size());
+        assertEquals("listener failure", failures.get(0).getMessage());
+        assertEquals(0, transport.requests.size());
+        ingester.close();
+    }
+
+    @Test
+    public void testClosedIngesterRejectsOperations() {
+        BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(new OpenSearchAsyncClient(new RecordingTransport((req, pos) -> 200))));
+        ingester.close();
+        assertThrows(IllegalStateException.class, () -> ingester.add(deleteOperation(0)));
+    }
+
+    private static BulkOperation deleteOperation(int id) {
+        return BulkOperation.of(b -> b.delete(d -> d.index("test").id(String.valueOf(id))));
+    }
+
+    private static List<String> ids(BulkRequest request) {
+        List<String> result = new ArrayList<>();
+        for (BulkOperation op : request.operations()) {
+            result.add(op.delete().id());
+        }
+        return result;
+    }
+
+    /**
+     * A transport that records bulk requests and answers them with the status provided by a function of the request
+     * index and operation position.
+     */
+    private static class RecordingTransport implements OpenSearchTransport {
+        final List<BulkRequest> requests = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<BulkResponse>> inFlight = new CopyOnWriteArrayList<>();
+        final BiFunction<Integer, Integer, Integer> statusFn;
+        final JsonpMapper mapper = new JacksonJsonpMapper();
+        boolean autoComplete = true;
+
+        RecordingTransport(BiFunction<Integer, Integer, Integer> statusFn) {
+            this.statusFn = statusFn;
+        }
+
+        void completeNext() {
+            CompletableFuture<BulkResponse> future = inFlight.remove(0);
+            future.complete(responseFor(requests.get(requests.size() - inFlight.size() - 1)));
+        }
+
+        BulkResponse responseFor(BulkRequest request) {
+            List<BulkResponseItem> items = new ArrayList<>();
+            int requestIndex = requests.indexOf(request);
+            boolean errors = false;
+            for (int i = 0; i < request.operations().size(); i++) {
+                int status = statusFn.apply(requestIndex, i);
+                errors |= status >= 300;
+                String id = request.operations().get(i).delete().id();
+                items.add(BulkResponseItem.of(it -> it.operationType(OperationType.Delete).index("test").id(id).status(status)));
+            }
+            final boolean hasErrors = errors;
+            return BulkResponse.of(r -> r.errors(hasErrors).items(items).took(1));
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) {
+            BulkRequest bulk = (BulkRequest) request;
+            requests.add(bulk);
+            if (autoComplete) {
+                return (CompletableFuture<ResponseT>) CompletableFuture.completedFuture(responseFor(bulk));
+            }
+            CompletableFuture<BulkResponse> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return (CompletableFuture<ResponseT>) future;
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
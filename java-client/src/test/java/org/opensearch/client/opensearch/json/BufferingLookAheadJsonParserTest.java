@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.json;
+
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+import java.io.StringReader;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.BufferingLookAheadJsonParser;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
+import org.opensearch.client.json.LookAheadJsonParser;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch._types.Script;
+import org.opensearch.client.opensearch._types.mapping.TypeMapping;
+import org.opensearch.client.opensearch.model.ModelTestCase;
+
+public class BufferingLookAheadJsonParserTest extends Assert {
+
+    private final JsonpMapper mapper = new JsonbJsonpMapper();
+
+    @Test
+    public void testReplay() {
+        String json = "{\"a\":1.5,\"b\":[12345678901,{\"c\":null}],\"type\":\"x\",\"d\":true}";
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+        assertEquals(Event.START_OBJECT, parser.next());
+        JsonLocation location = parser.getLocation();
+
+        Map.Entry<String, JsonParser> result = new BufferingLookAheadJsonParser(parser, mapper.jsonProvider()).lookAheadFieldValue(
+            "type",
+            null
+        );
+        assertEquals("x", result.getKey());
+
+        JsonParser replay = result.getValue();
+        assertEquals(Event.START_OBJECT, replay.next());
+        assertEquals(location.getStreamOffset(), replay.getLocation().getStreamOffset());
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals("a", replay.getString());
+        assertEquals(Event.VALUE_NUMBER, replay.next());
+        assertFalse(replay.isIntegralNumber());
+        assertEquals("1.5", replay.getBigDecimal().toString());
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals(Event.START_ARRAY, replay.next());
+        assertEquals(Event.VALUE_NUMBER, replay.next());
+        assertTrue(replay.isIntegralNumber());
+        assertEquals(12345678901L, replay.getLong());
+        assertEquals(Event.START_OBJECT, replay.next());
+        replay.skipObject();
+        assertEquals(Event.END_ARRAY, replay.next());
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals("type", replay.getString());
+        assertEquals(Event.VALUE_STRING, replay.next());
+        assertEquals("x", replay.getString());
+
+        // Buffered events have been replayed, the remaining ones are read from the wrapped parser
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals("d", replay.getString());
+        assertTrue(replay.getLocation().getStreamOffset() > location.getStreamOffset());
+        assertEquals(Event.VALUE_TRUE, replay.next());
+        assertEquals(Event.END_OBJECT, replay.next());
+        assertFalse(replay.hasNext());
+    }
+
+    @Test
+    public void testReplayedValues() {
+        String json = "{\"a\":{\"b\":[1,2.5,\"c\",false]},\"type\":\"x\",\"d\":{\"e\":null}}";
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+        assertEquals(Event.START_OBJECT, parser.next());
+
+        JsonParser replay = new BufferingLookAheadJsonParser(parser, mapper.jsonProvider()).lookAheadFieldValue("type", null).getValue();
+
+        // The object starts with buffered events and ends with events of the wrapped parser
+        assertEquals(Event.START_OBJECT, replay.next());
+        JsonObject object = replay.getObject();
+        assertEquals("{\"a\":{\"b\":[1,2.5,\"c\",false]},\"type\":\"x\",\"d\":{\"e\":null}}", object.toString());
+        assertFalse(replay.hasNext());
+    }
+
+    @Test
+    public void testNoValueStreamWhileReplaying() {
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader("{\"a\":1,\"type\":\"x\"}"));
+        assertEquals(Event.START_OBJECT, parser.next());
+
+        JsonParser replay = new BufferingLookAheadJsonParser(parser, mapper.jsonProvider()).lookAheadFieldValue("type", null).getValue();
+        assertEquals(Event.START_OBJECT, replay.next());
+        assertThrows(IllegalStateException.class, replay::getValueStream);
+    }
+
+    @Test
+    public void testNestedLookAhead() {
+        String json = "{\"a\":1,\"b\":{\"c\":2,\"kind\":\"inner\"},\"kind\":\"outer\",\"d\":3}";
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+        assertEquals(Event.START_OBJECT, parser.next());
+
+        Map.Entry<String, JsonParser> outer = new BufferingLookAheadJsonParser(parser, mapper.jsonProvider()).lookAheadFieldValue(
+            "kind",
+            null
+        );
+        assertEquals("outer", outer.getKey());
+
+        JsonParser replay = outer.getValue();
+        assertEquals(Event.START_OBJECT, replay.next());
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals(Event.VALUE_NUMBER, replay.next());
+        assertEquals(1, replay.getInt());
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals(Event.START_OBJECT, replay.next());
+
+        // Look ahead in the middle of the buffered events
+        Map.Entry<String, JsonParser> inner = ((LookAheadJsonParser) replay).lookAheadFieldValue("kind", null);
+        assertEquals("inner", inner.getKey());
+
+        JsonParser innerReplay = inner.getValue();
+        assertEquals(Event.START_OBJECT, innerReplay.next());
+        assertEquals(Event.KEY_NAME, innerReplay.next());
+        assertEquals(Event.VALUE_NUMBER, innerReplay.next());
+        assertEquals(2, innerReplay.getInt());
+        assertEquals(Event.KEY_NAME, innerReplay.next());
+        assertEquals(Event.VALUE_STRING, innerReplay.next());
+        assertEquals(Event.END_OBJECT, innerReplay.next());
+
+        // The outer parser continues with its own buffered events, then with the wrapped parser
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals("kind", replay.getString());
+        assertEquals(Event.VALUE_STRING, replay.next());
+        assertEquals(Event.KEY_NAME, replay.next());
+        assertEquals("d", replay.getString());
+        assertEquals(Event.VALUE_NUMBER, replay.next());
+        assertEquals(3, replay.getInt());
+        assertEquals(Event.END_OBJECT, replay.next());
+    }
+
+    @Test
+    public void testPropertyTypeAfterOtherFields() {
+        String mapping = "{\"properties\":{\"message\":{\"fields\":{\"raw\":{\"ignore_above\":256,\"type\":\"keyword\"}},"
+            + "\"type\":\"text\"},\"host\":{\"properties\":{\"ip\":{\"type\":\"ip\"},\"name\":{\"type\":\"keyword\"}}},"
+            + "\"size\":{\"type\":\"long\"}}}";
+        checkDeserialize(mapping, TypeMapping._DESERIALIZER);
+    }
+
+    @Test
+    public void testUnionVariantAfterOtherFields() {
+        String script = "{\"params\":{\"factor\":2.5,\"tags\":[\"a\",{\"b\":1}]},\"lang\":\"painless\","
+            + "\"source\":\"doc['size'].value * params.factor\"}";
+        Script actual = checkDeserialize(script, Script._DESERIALIZER);
+
+        assertTrue(actual.isInline());
+        assertEquals("painless", actual.inline().lang());
+        assertEquals(2.5, actual.inline().params().get("factor").to(Double.class), 0.0);
+    }
+
+    @Test
+    public void testMissingProperty() {
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader("{\"fields\":{},\"index\":true}"));
+        assertEquals(Event.START_OBJECT, parser.next());
+        try {
+            JsonpUtils.lookAheadFieldValue("type", null, parser, mapper);
+            fail("Expected an exception");
+        } catch (JsonParsingException e) {
+            assertEquals("Property 'type' not found", e.getMessage());
+        }
+    }
+
+    private <T> T checkDeserialize(String json, JsonpDeserializer<T> deserializer) {
+        JacksonJsonpMapper jacksonMapper = new JacksonJsonpMapper();
+        T expected = deserializer.deserialize(jacksonMapper.jsonProvider().createParser(new StringReader(json)), jacksonMapper);
+
+        // The value is followed by another one, that must be read from the same position
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader("[" + json + ",true]"));
+        assertEquals(Event.START_ARRAY, parser.next());
+        T actual = deserializer.deserialize(parser, mapper);
+        assertEquals(Event.VALUE_TRUE, parser.next());
+        assertEquals(Event.END_ARRAY, parser.next());
+
+        assertEquals(ModelTestCase.toJson(expected, jacksonMapper), ModelTestCase.toJson(actual, jacksonMapper));
+        return actual;
+    }
+}
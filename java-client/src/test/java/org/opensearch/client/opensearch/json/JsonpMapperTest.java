@@ -40,11 +40,16 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
 import jakarta.json.Json;
 import jakarta.json.JsonValue;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -69,6 +74,30 @@ public class JsonpMapperTest extends Assert {
         testDeserialize(mapper, json);
     }
 
+    @Test
+    public void testJsonbWithoutYassonExtensions() {
+        // Hides the extensions of Yasson, as another JSON-B implementation would
+        Jsonb yasson = JsonbBuilder.create();
+        Jsonb jsonb = (Jsonb) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Jsonb.class }, (proxy, method, args) -> {
+            try {
+                return method.invoke(yasson, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+        JsonpMapper mapper = new JsonbJsonpMapper(JsonProvider.provider(), jsonb);
+        testSerialize(mapper, json);
+        testDeserialize(mapper, json);
+        // With the buffer of the previous value
+        testDeserialize(mapper, json);
+        testDeserializeValues(mapper);
+    }
+
+    @Test
+    public void testJsonbDeserializesValues() {
+        testDeserializeValues(new JsonbJsonpMapper());
+    }
+
     @Test
     public void testJackson() {
         JacksonJsonpMapper mapper = new JacksonJsonpMapper();
@@ -183,6 +212,20 @@ public class JsonpMapperTest extends Assert {
         assertEquals(expected, str);
     }
 
+    private void testDeserializeValues(JsonpMapper mapper) {
+        // Values are deserialized in the middle of a document, which the parser must be positioned after
+        String json = "[" + this.json + ",\"foo\",42,null," + this.json + "]";
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+        assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+
+        assertEquals("foo", mapper.deserialize(parser, SomeClass.class).getStringValue());
+        assertEquals("foo", mapper.deserialize(parser, String.class));
+        assertEquals(Integer.valueOf(42), mapper.deserialize(parser, Integer.class));
+        parser.next();
+        assertEquals(1, mapper.deserialize(parser, SomeClass.class).getChildren().size());
+        assertEquals(JsonParser.Event.END_ARRAY, parser.next());
+    }
+
     private void testDeserialize(JsonpMapper mapper, String json) {
 
         SomeClass parsed = ModelTestCase.fromJson(json, SomeClass.class, mapper);
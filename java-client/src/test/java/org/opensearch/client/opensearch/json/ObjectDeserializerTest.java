@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.json;
+
+import java.util.List;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.opensearch._types.aggregations.DateHistogramBucket;
+import org.opensearch.client.opensearch._types.aggregations.LongTermsAggregate;
+import org.opensearch.client.opensearch._types.aggregations.LongTermsBucket;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.model.ModelTestCase;
+
+public class ObjectDeserializerTest extends ModelTestCase {
+
+    private static final String SEARCH_RESPONSE = "{\"took\":2,\"timed_out\":false,\"_shards\":{\"failed\":0,\"successful\":1,"
+        + "\"total\":1},\"hits\":{\"total\":{\"relation\":\"eq\",\"value\":1},\"max_score\":1.5,\"hits\":[{\"_index\":\"logs\","
+        + "\"_id\":\"1\",\"_score\":1.5,\"_routing\":\"r\",\"_seq_no\":4,\"_primary_term\":1,\"_version\":2,"
+        + "\"_ignored\":[\"message.keyword\"],\"highlight\":{\"message\":[\"<em>hello</em>\"]},"
+        + "\"fields\":{\"level\":[\"info\"]},\"sort\":[\"a\",null],\"_source\":{\"message\":\"hello\"}}]},"
+        + "\"_scroll_id\":\"scroll\",\"terminated_early\":true}";
+
+    private static final String BULK_RESPONSE = "{\"took\":3,\"errors\":true,\"items\":[{\"index\":{\"_index\":\"logs\","
+        + "\"_id\":\"1\",\"_version\":1,\"result\":\"created\",\"forced_refresh\":true,\"_shards\":{\"total\":2,"
+        + "\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1,\"status\":201}},{\"create\":{\"_index\":\"logs\","
+        + "\"_id\":\"2\",\"status\":409,\"error\":{\"type\":\"version_conflict_engine_exception\","
+        + "\"reason\":\"document already exists\"}}}]}";
+
+    private static final String BUCKETS = "{\"took\":1,\"timed_out\":false,\"_shards\":{\"failed\":0,\"successful\":1,"
+        + "\"total\":1},\"hits\":{\"total\":{\"relation\":\"eq\",\"value\":0},\"hits\":[]},\"aggregations\":{\"lterms#codes\":{"
+        + "\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":1,\"buckets\":[{\"key\":200,\"key_as_string\":\"200\","
+        + "\"doc_count\":5,\"doc_count_error\":0,\"date_histogram#per_day\":{\"buckets\":[{\"key_as_string\":\"2024-01-01\","
+        + "\"key\":1704067200000,\"doc_count\":5,\"max#latency\":{\"value\":12.5,\"value_as_string\":\"12.5ms\"}}]}},"
+        + "{\"doc_count\":1,\"key\":404,\"avg#latency\":{\"value_as_string\":\"3ms\",\"value\":3}}]},"
+        + "\"sterms#levels\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,\"buckets\":[{\"key\":\"info\","
+        + "\"doc_count\":4,\"sum#bytes\":{\"value\":10},\"min#bytes\":{\"value\":1},\"value_count#requests\":{\"value\":4}}]},"
+        + "\"dterms#ratios\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,\"buckets\":[{\"key\":0.5,"
+        + "\"key_as_string\":\"0.5\",\"doc_count\":2}]}}}";
+
+    @Test
+    public void testHitFields() {
+        SearchResponse<JsonData> response = fromJson(
+            SEARCH_RESPONSE,
+            SearchResponse.createSearchResponseDeserializer(JsonData._DESERIALIZER)
+        );
+
+        assertEquals(2, response.took());
+        assertFalse(response.timedOut());
+        assertEquals(1, response.shards().successful().intValue());
+        assertEquals("scroll", response.scrollId());
+        assertTrue(response.terminatedEarly());
+
+        Hit<JsonData> hit = response.hits().hits().get(0);
+        assertEquals("logs", hit.index());
+        assertEquals("1", hit.id());
+        assertEquals(1.5, hit.score(), 0.0);
+        assertEquals("r", hit.routing());
+        assertEquals(4L, hit.seqNo().longValue());
+        assertEquals(1L, hit.primaryTerm().longValue());
+        assertEquals(2L, hit.version().longValue());
+        assertEquals(List.of("message.keyword"), hit.ignored());
+        assertEquals(List.of("<em>hello</em>"), hit.highlight().get("message"));
+        assertEquals("info", hit.fields().get("level").toJson().asJsonArray().getString(0));
+        assertEquals("a", hit.sort().get(0));
+        assertNull(hit.sort().get(1));
+        assertEquals("hello", hit.source().toJson().asJsonObject().getString("message"));
+    }
+
+    @Test
+    public void testUnknownHitFieldIsRejected() {
+        String json = "{\"_index\":\"logs\",\"_id\":\"1\",\"_unknown\":1}";
+
+        try {
+            fromJson(json, Hit.createHitDeserializer(JsonData._DESERIALIZER));
+            fail("Expected an exception");
+        } catch (Exception e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Unknown field '_unknown'"));
+        }
+    }
+
+    @Test
+    public void testBulkResponseItems() {
+        BulkResponse response = fromJson(BULK_RESPONSE, BulkResponse._DESERIALIZER);
+
+        assertTrue(response.errors());
+        BulkResponseItem created = response.items().get(0);
+        assertEquals(OperationType.Index, created.operationType());
+        assertEquals("logs", created.index());
+        assertEquals("1", created.id());
+        assertEquals(201, created.status());
+        assertEquals("created", created.result());
+        assertEquals(1L, created.version().longValue());
+        assertEquals(0L, created.seqNo().longValue());
+        assertEquals(1L, created.primaryTerm().longValue());
+        assertTrue(created.forcedRefresh());
+        assertEquals(2, created.shards().total().intValue());
+        assertNull(created.error());
+
+        BulkResponseItem conflict = response.items().get(1);
+        assertEquals(OperationType.Create, conflict.operationType());
+        assertEquals(409, conflict.status());
+        assertEquals("version_conflict_engine_exception", conflict.error().type());
+    }
+
+    @Test
+    public void testBucketFields() {
+        SearchResponse<Void> response = fromJson(
+            BUCKETS,
+            SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.voidDeserializer())
+        );
+
+        LongTermsAggregate codes = response.aggregations().get("codes").lterms();
+        assertEquals(1, codes.sumOtherDocCount());
+        LongTermsBucket code = codes.buckets().array().get(0);
+        assertEquals("200", code.key());
+        assertEquals("200", code.keyAsString());
+        assertEquals(5, code.docCount());
+        assertEquals(0L, code.docCountError().longValue());
+
+        DateHistogramBucket day = code.aggregations().get("per_day").dateHistogram().buckets().array().get(0);
+        assertEquals("2024-01-01", day.keyAsString());
+        assertEquals("1704067200000", day.key());
+        assertEquals(5, day.docCount());
+        assertEquals(12.5, day.aggregations().get("latency").max().value(), 0.0);
+        assertEquals("12.5ms", day.aggregations().get("latency").max().valueAsString());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.json;
+
+import jakarta.json.stream.JsonParser;
+import java.io.StringReader;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.RawJson;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.model.ModelTestCase;
+
+public class RawJsonTest extends Assert {
+
+    private static final String SOURCE = "{\"children\":[{\"doubleValue\":3.2,\"intValue\":2}],\"doubleValue\":2.1,\"intValue\":1,"
+        + "\"stringValue\":\"foo\"}";
+
+    @Test
+    public void testHitSource() {
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            String json = "{\"_index\":\"idx\",\"_id\":\"1\",\"_source\":" + SOURCE + ",\"sort\":[1]}";
+
+            JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+            Hit<RawJson> hit = Hit.createHitDeserializer(JsonpDeserializer.of(RawJson.class)).deserialize(parser, mapper);
+
+            assertEquals("1", hit.id());
+            assertEquals(SOURCE, hit.source().toString());
+            // Parsing continued after the source
+            assertEquals(1, hit.sort().size());
+
+            JsonpMapperTest.SomeClass to = hit.source().to(JsonpMapperTest.SomeClass.class);
+            assertEquals("foo", to.getStringValue());
+        }
+    }
+
+    @Test
+    public void testSerialize() {
+        RawJson raw = RawJson.of(SOURCE);
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            assertEquals(SOURCE, ModelTestCase.toJson(raw, mapper));
+        }
+    }
+
+    @Test
+    public void testScalarValues() {
+        JsonpMapper mapper = new JacksonJsonpMapper();
+        assertEquals("\"foo\"", ModelTestCase.fromJson("\"foo\"", RawJson.class, mapper).toString());
+        assertEquals("12.5", ModelTestCase.fromJson("12.5", RawJson.class, mapper).toString());
+        assertEquals(RawJson.of("[1,true,null]"), ModelTestCase.fromJson("[ 1, true, null ]", RawJson.class, mapper));
+    }
+
+    @Test
+    public void testConvertWithoutMapper() {
+        assertThrows(IllegalStateException.class, () -> RawJson.of(SOURCE).to(JsonpMapperTest.SomeClass.class));
+        assertEquals("foo", RawJson.of(SOURCE).to(JsonpMapperTest.SomeClass.class, new JsonbJsonpMapper()).getStringValue());
+    }
+}
@@ -36,6 +36,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +47,8 @@ import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpMapperBase;
 import org.opensearch.client.json.jackson.JacksonJsonProvider;
 import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.aggregations.Aggregation;
+import org.opensearch.client.opensearch._types.mapping.TypeMapping;
 import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.model.ModelTestCase;
 
@@ -53,6 +56,25 @@ public class JacksonJsonpParserTest extends ModelTestCase {
 
     private static final String json = "{ 'foo': 'fooValue', 'bar': { 'baz': 1}, 'quux': [true] }".replace('\'', '"');
 
+    @Test
+    public void testFieldNamesAreCanonical() {
+        JacksonJsonProvider provider = new JacksonJsonProvider();
+        JsonParser parser = provider.createParser(new StringReader("[{\"field\":1},{\"field\":2}]"));
+
+        assertEquals(Event.START_ARRAY, parser.next());
+        assertEquals(Event.START_OBJECT, parser.next());
+        assertEquals(Event.KEY_NAME, parser.next());
+        String first = parser.getString();
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals(Event.END_OBJECT, parser.next());
+        assertEquals(Event.START_OBJECT, parser.next());
+        assertEquals(Event.KEY_NAME, parser.next());
+
+        // Same instance as the interned constant used as field deserializer key
+        assertSame("field", first);
+        assertSame(first, parser.getString());
+    }
+
     @Test
     public void testEventStream() {
 
@@ -118,6 +140,35 @@ public class JacksonJsonpParserTest extends ModelTestCase {
         }
     }
 
+    @Test
+    public void testLookAheadInByteArray() {
+        // Property variants are found with lookAheadFieldValue, after other fields or with a default, at several levels
+        String mapping = "{\"properties\":{\"message\":{\"fields\":{\"raw\":{\"ignore_above\":256,\"type\":\"keyword\"}},"
+            + "\"type\":\"text\"},\"host\":{\"properties\":{\"ip\":{\"type\":\"ip\"},\"name\":{\"type\":\"keyword\"}}},"
+            + "\"size\":{\"type\":\"long\"}}}";
+        checkByteArrayParser(mapping, TypeMapping._DESERIALIZER);
+
+        // Aggregation variants are found with findVariant, after their sub-aggregations
+        String aggregation = "{\"aggregations\":{\"avg_size\":{\"avg\":{\"field\":\"size\"}},\"per_ip\":{\"aggregations\":"
+            + "{\"max_size\":{\"max\":{\"field\":\"size\"}}},\"terms\":{\"field\":\"host.ip\"}}},\"terms\":{\"field\":\"host.name\"}}";
+        checkByteArrayParser(aggregation, Aggregation._DESERIALIZER);
+    }
+
+    private static <T> void checkByteArrayParser(String json, JsonpDeserializer<T> deserializer) {
+        JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+        T expected = deserializer.deserialize(mapper.jsonProvider().createParser(new StringReader(json)), mapper);
+
+        // The value is followed by another one, at an offset in the array
+        byte[] input = ("xx[" + json + ",true]yy").getBytes(StandardCharsets.UTF_8);
+        JsonParser parser = ((JacksonJsonProvider) mapper.jsonProvider()).createParser(input, 2, input.length - 4);
+        assertEquals(Event.START_ARRAY, parser.next());
+        T actual = deserializer.deserialize(parser, mapper);
+        assertEquals(Event.VALUE_TRUE, parser.next());
+        assertEquals(Event.END_ARRAY, parser.next());
+
+        assertEquals(toJson(expected, mapper), toJson(actual, mapper));
+    }
+
     @Test
     public void testMultiSearchResponse() {
         String json = "{\n"
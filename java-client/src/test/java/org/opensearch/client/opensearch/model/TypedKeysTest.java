@@ -32,11 +32,14 @@
 
 package org.opensearch.client.opensearch.model;
 
+import jakarta.json.stream.JsonParsingException;
 import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.opensearch.client.json.JsonpDeserializer;
 import org.opensearch.client.opensearch._types.aggregations.Aggregate;
 import org.opensearch.client.opensearch._types.aggregations.AvgAggregate;
+import org.opensearch.client.opensearch._types.aggregations.DateHistogramBucket;
 import org.opensearch.client.opensearch._types.aggregations.StringTermsAggregate;
 import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
 import org.opensearch.client.opensearch.core.SearchResponse;
@@ -113,4 +116,48 @@ public class TypedKeysTest extends ModelTestCase {
         assertEquals("key_2", foo.buckets().array().get(1).key());
         assertEquals(2.0, foo.buckets().array().get(1).aggregations().get("bar").avg().value(), 0.01);
     }
+
+    @Test
+    public void testNestedTypedKeys() {
+        String json = "{\"took\":1,\"timed_out\":false,\"_shards\":{\"failed\":0,\"successful\":1,\"total\":1},"
+            + "\"hits\":{\"total\":{\"relation\":\"eq\",\"value\":0},\"hits\":[]},"
+            + "\"aggregations\":{\"date_histogram#per_day\":{\"buckets\":["
+            + "{\"key\":1704067200000,\"doc_count\":3,\"sterms#per_host\":{\"sum_other_doc_count\":0,\"buckets\":["
+            + "{\"key\":\"a\",\"doc_count\":2,\"max#latency\":{\"value\":2.0},\"avg#latency#p\":{\"value\":1.5}},"
+            + "{\"key\":\"b\",\"doc_count\":1,\"max#latency\":{\"value\":3.0},\"avg#latency#p\":{\"value\":3.0}}]}},"
+            + "{\"key\":1704153600000,\"doc_count\":1,\"sterms#per_host\":{\"sum_other_doc_count\":0,\"buckets\":["
+            + "{\"key\":\"a\",\"doc_count\":1,\"max#latency\":{\"value\":4.0},\"avg#latency#p\":{\"value\":4.0}}]}}"
+            + "]}}}";
+
+        SearchResponse<Void> resp = fromJson(json, SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.voidDeserializer()));
+
+        List<DateHistogramBucket> days = resp.aggregations().get("per_day").dateHistogram().buckets().array();
+        List<StringTermsBucket> firstDay = days.get(0).aggregations().get("per_host").sterms().buckets().array();
+        List<StringTermsBucket> secondDay = days.get(1).aggregations().get("per_host").sterms().buckets().array();
+
+        assertEquals(2.0, firstDay.get(0).aggregations().get("latency").max().value(), 0.01);
+        // The name is everything after the first '#'
+        assertEquals(1.5, firstDay.get(0).aggregations().get("latency#p").avg().value(), 0.01);
+        assertEquals(3.0, firstDay.get(1).aggregations().get("latency").max().value(), 0.01);
+        assertEquals(4.0, secondDay.get(0).aggregations().get("latency#p").avg().value(), 0.01);
+
+        // Property names are split once
+        assertSame(
+            firstDay.get(0).aggregations().keySet().stream().filter("latency"::equals).findFirst().get(),
+            secondDay.get(0).aggregations().keySet().stream().filter("latency"::equals).findFirst().get()
+        );
+    }
+
+    @Test
+    public void testKeyWithoutType() {
+        String json = "{\"took\":1,\"timed_out\":false,\"_shards\":{\"failed\":0,\"successful\":1,\"total\":1},"
+            + "\"hits\":{\"total\":{\"relation\":\"eq\",\"value\":0},\"hits\":[]},\"aggregations\":{\"foo\":{\"value\":1.0}}}";
+
+        try {
+            fromJson(json, SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.voidDeserializer()));
+            fail("Expected an exception");
+        } catch (JsonParsingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("is not in the 'type#name' format"));
+        }
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeadlineTest extends Assert {
+
+    @Test
+    public void testOptionsWithoutTimeout() {
+        assertNull(Deadline.of(null));
+        assertNull(Deadline.of(TransportOptions.builder().build()));
+    }
+
+    @Test
+    public void testRemainingTime() throws Exception {
+        Deadline deadline = Deadline.of(TransportOptions.builder().setRequestTimeout(Duration.ofMillis(100)).build());
+        assertFalse(deadline.isExpired());
+        long remaining = deadline.remainingMillis();
+        assertTrue("Remaining " + remaining, remaining > 0 && remaining <= 100);
+
+        CountDownLatch expired = new CountDownLatch(1);
+        deadline.schedule(expired::countDown);
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertTrue(deadline.isExpired());
+        assertEquals(0, deadline.remainingMillis());
+
+        TransportException e = deadline.exceeded(null);
+        assertEquals("Request did not complete within its timeout of [100ms]", e.getMessage());
+    }
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> TransportOptions.builder().setRequestTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> TransportOptions.builder().setRequestTimeout(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ofMillis(-1)));
+    }
+}
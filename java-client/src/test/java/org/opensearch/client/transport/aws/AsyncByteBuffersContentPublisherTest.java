@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.aws;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class AsyncByteBuffersContentPublisherTest extends Assert {
+
+    @Test
+    public void testBuffersAreSentOnDemand() {
+        AsyncByteBuffersContentPublisher publisher = new AsyncByteBuffersContentPublisher(
+            Arrays.asList(buffer("{\"a\":"), buffer("1"), buffer("}"))
+        );
+        assertEquals(7L, publisher.contentLength().get().longValue());
+
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.subscription.request(2);
+        assertEquals(2, subscriber.received.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        assertEquals("{\"a\":1}", subscriber.content());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testContentCanBeSentAgain() {
+        AsyncByteBuffersContentPublisher publisher = new AsyncByteBuffersContentPublisher(Arrays.asList(buffer("abc"), buffer("def")));
+        for (int i = 0; i < 2; i++) {
+            // Requesting one buffer at a time from onNext
+            RecordingSubscriber subscriber = new RecordingSubscriber(1);
+            publisher.subscribe(subscriber);
+            assertEquals("abcdef", subscriber.content());
+            assertTrue(subscriber.completed);
+        }
+    }
+
+    @Test
+    public void testEmptyAndCancelled() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        AsyncByteBuffersContentPublisher.empty().subscribe(subscriber);
+        assertEquals(0L, AsyncByteBuffersContentPublisher.empty().contentLength().get().longValue());
+        assertTrue(subscriber.completed);
+
+        subscriber = new RecordingSubscriber(0);
+        new AsyncByteBuffersContentPublisher(Arrays.asList(buffer("abc"))).subscribe(subscriber);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.received.isEmpty());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testInvalidDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        new AsyncByteBuffersContentPublisher(Arrays.asList(buffer("abc"))).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static class RecordingSubscriber implements Subscriber<ByteBuffer> {
+        private final long demand;
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        RecordingSubscriber(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            if (demand > 0) {
+                s.request(demand);
+            }
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            received.add(buffer);
+            if (demand == 1) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        String content() {
+            StringBuilder sb = new StringBuilder();
+            for (ByteBuffer buffer : received) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                sb.append(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.aws;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+public class AsyncInputStreamSubscriberTest extends Assert {
+
+    @Test
+    public void testReadsAcrossBuffers() throws IOException {
+        AsyncInputStreamSubscriber subscriber = new AsyncInputStreamSubscriber();
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(buffer("{\"a\":"));
+        subscriber.onNext(ByteBuffer.allocate(0));
+        subscriber.onNext(buffer("1}"));
+        subscriber.onComplete();
+
+        try (InputStream in = subscriber.getInputStream()) {
+            assertEquals("{\"a\":1}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void testDemandIsBoundedByWindow() throws IOException {
+        AsyncInputStreamSubscriber subscriber = new AsyncInputStreamSubscriber();
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+        assertEquals(AsyncInputStreamSubscriber.WINDOW, subscription.requested);
+
+        for (int i = 0; i < AsyncInputStreamSubscriber.WINDOW; i++) {
+            subscriber.onNext(buffer("ab"));
+        }
+        assertEquals(AsyncInputStreamSubscriber.WINDOW, subscription.requested);
+
+        InputStream in = subscriber.getInputStream();
+        assertEquals('a', in.read());
+        // The buffer being read is not released yet
+        assertEquals(AsyncInputStreamSubscriber.WINDOW, subscription.requested);
+        assertEquals('b', in.read());
+        assertEquals('a', in.read());
+        assertEquals(AsyncInputStreamSubscriber.WINDOW + 1, subscription.requested);
+    }
+
+    @Test
+    public void testReaderWaitsForContent() throws Exception {
+        AsyncInputStreamSubscriber subscriber = new AsyncInputStreamSubscriber();
+        subscriber.onSubscribe(new RecordingSubscription());
+
+        CompletableFuture<byte[]> content = CompletableFuture.supplyAsync(() -> {
+            try {
+                return subscriber.getInputStream().readAllBytes();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        subscriber.onNext(buffer("abc"));
+        assertFalse(content.isDone());
+        subscriber.onComplete();
+        assertEquals("abc", new String(content.get(10, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFailure() {
+        AsyncInputStreamSubscriber subscriber = new AsyncInputStreamSubscriber();
+        subscriber.onSubscribe(new RecordingSubscription());
+        subscriber.onNext(buffer("abc"));
+        subscriber.onError(new IOException("connection reset"));
+
+        IOException e = assertThrows(IOException.class, () -> subscriber.getInputStream().readAllBytes());
+        assertEquals("connection reset", e.getMessage());
+    }
+
+    @Test
+    public void testCloseDiscardsContent() throws IOException {
+        AsyncInputStreamSubscriber subscriber = new AsyncInputStreamSubscriber();
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(buffer("abc"));
+
+        InputStream in = subscriber.getInputStream();
+        assertEquals('a', in.read());
+        in.close();
+        assertEquals(Long.MAX_VALUE, subscription.requested);
+        assertFalse(subscription.cancelled);
+
+        subscriber.onNext(buffer("def"));
+        subscriber.onComplete();
+        assertEquals(-1, in.read());
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecordingSubscription implements Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public synchronized void request(long n) {
+            requested = n == Long.MAX_VALUE ? Long.MAX_VALUE : requested + n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.aws;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.Aws4UnsignedPayloadSigner;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+public class Aws4RequestSignerTest extends Assert {
+    private static final Instant NOW = Instant.parse("2024-03-05T17:04:09Z");
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    @Test
+    public void testGetWithoutBody() {
+        assertSameAsSdk(request(SdkHttpMethod.GET, "https://search-domain.us-west-2.es.amazonaws.com/logs/_doc/1"), CREDENTIALS, null);
+    }
+
+    @Test
+    public void testPostWithBodyAndQuery() {
+        SdkHttpFullRequest.Builder request = request(
+            SdkHttpMethod.POST,
+            "https://search-domain.us-west-2.es.amazonaws.com/logs/_search?q=title%3Aa+b*&routing=%C3%A9t%C3%A9&size=10&_source=a&_source="
+        );
+        request.putHeader("Content-Type", "application/json");
+        request.putHeader("Content-Length", "17");
+        assertSameAsSdk(request, CREDENTIALS, "{\"query\":\"test\"}");
+    }
+
+    @Test
+    public void testEncodedAndUnnormalizedPaths() {
+        for (String path : new String[] { "/my%20index/_doc/a%2Fb~c", "/a/./b/../c", "/logs/_doc/", "//logs", "", "/%E2%82%AC" }) {
+            assertSameAsSdk(request(SdkHttpMethod.PUT, "https://search-domain.us-west-2.es.amazonaws.com" + path), CREDENTIALS, null);
+        }
+    }
+
+    @Test
+    public void testHeaders() {
+        SdkHttpFullRequest.Builder request = request(SdkHttpMethod.GET, "https://localhost:9200/_cluster/health");
+        request.putHeader("X-Opaque-Id", "  my   request\tid ");
+        request.putHeader("X-Multi", Arrays.asList("b", " a "));
+        request.putHeader("User-Agent", "opensearch-java");
+        assertSameAsSdk(request, CREDENTIALS, null);
+    }
+
+    @Test
+    public void testSessionCredentials() {
+        AwsCredentials credentials = AwsSessionCredentials.create(
+            "AKIDEXAMPLE",
+            "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY",
+            "session-token"
+        );
+        assertSameAsSdk(request(SdkHttpMethod.GET, "https://search-domain.us-west-2.es.amazonaws.com/"), credentials, null);
+    }
+
+    @Test
+    public void testUnsignedPayload() {
+        SdkHttpFullRequest.Builder request = request(SdkHttpMethod.POST, "https://search-domain.us-west-2.es.amazonaws.com/_bulk");
+        byte[] body = "{\"index\":{}}\n{}\n".getBytes(StandardCharsets.UTF_8);
+        SdkHttpFullRequest expected = Aws4UnsignedPayloadSigner.create()
+            .sign(
+                request.copy()
+                    .putHeader("x-amz-content-sha256", "required")
+                    .contentStreamProvider(() -> new ByteArrayInputStream(body))
+                    .build(),
+                params(CREDENTIALS, NOW)
+            );
+        SdkHttpFullRequest actual = new Aws4RequestSigner("es", Region.US_WEST_2, Clock.fixed(NOW, ZoneOffset.UTC)).sign(
+            request.copy().putHeader("x-amz-content-sha256", Aws4RequestSigner.UNSIGNED_PAYLOAD),
+            CREDENTIALS,
+            Aws4RequestSigner.UNSIGNED_PAYLOAD
+        );
+        assertEquals(expected.headers(), actual.headers());
+    }
+
+    @Test
+    public void testSigningKeyRollsOverAtMidnightUtc() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-05T23:59:59Z"));
+        Aws4RequestSigner signer = new Aws4RequestSigner("es", Region.US_WEST_2, clock);
+        SdkHttpFullRequest.Builder request = request(SdkHttpMethod.GET, "https://search-domain.us-west-2.es.amazonaws.com/");
+
+        String before = signer.sign(request.copy(), CREDENTIALS, Aws4RequestSigner.EMPTY_PAYLOAD_SHA256)
+            .firstMatchingHeader("Authorization")
+            .get();
+        assertTrue(before, before.contains("/20240305/us-west-2/es/aws4_request"));
+
+        clock.instant = Instant.parse("2024-03-06T00:00:00Z");
+        SdkHttpFullRequest after = signer.sign(request.copy(), CREDENTIALS, Aws4RequestSigner.EMPTY_PAYLOAD_SHA256);
+        assertTrue(after.firstMatchingHeader("Authorization").get().contains("/20240306/us-west-2/es/aws4_request"));
+        SdkHttpFullRequest expected = Aws4Signer.create().sign(request.copy().build(), params(CREDENTIALS, clock.instant));
+        assertEquals(expected.headers(), after.headers());
+    }
+
+    @Test
+    public void testSigningKeyChangesWithCredentials() {
+        Aws4RequestSigner signer = new Aws4RequestSigner("es", Region.US_WEST_2, Clock.fixed(NOW, ZoneOffset.UTC));
+        SdkHttpFullRequest.Builder request = request(SdkHttpMethod.GET, "https://search-domain.us-west-2.es.amazonaws.com/");
+        signer.sign(request.copy(), CREDENTIALS, Aws4RequestSigner.EMPTY_PAYLOAD_SHA256);
+
+        // Refreshed credentials
+        AwsCredentials refreshed = AwsSessionCredentials.create("ASIAREFRESHED", "refreshed-secret", "refreshed-token");
+        SdkHttpFullRequest actual = signer.sign(request.copy(), refreshed, Aws4RequestSigner.EMPTY_PAYLOAD_SHA256);
+        SdkHttpFullRequest expected = Aws4Signer.create().sign(request.copy().build(), params(refreshed, NOW));
+        assertEquals(expected.headers(), actual.headers());
+
+        // Equal credentials, in another instance
+        actual = signer.sign(
+            request.copy(),
+            AwsBasicCredentials.create("AKIDEXAMPLE", "other-secret"),
+            Aws4RequestSigner.EMPTY_PAYLOAD_SHA256
+        );
+        expected = Aws4Signer.create().sign(request.copy().build(), params(AwsBasicCredentials.create("AKIDEXAMPLE", "other-secret"), NOW));
+        assertEquals(expected.headers(), actual.headers());
+    }
+
+    @Test
+    public void testPayloadHash() {
+        assertEquals(Aws4RequestSigner.EMPTY_PAYLOAD_SHA256, Aws4RequestSigner.sha256Hex(Collections.emptyList()));
+        ByteBuffer first = ByteBuffer.wrap("{\"a\":".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer second = ByteBuffer.wrap("1}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(
+            "015abd7f5cc57a2dd94b7590f04ad8084273905ee33ec5cebeae62276a97f862",
+            Aws4RequestSigner.sha256Hex(Arrays.asList(first, second))
+        );
+        // The buffers are left untouched
+        assertEquals(5, first.remaining());
+    }
+
+    private static void assertSameAsSdk(SdkHttpFullRequest.Builder request, AwsCredentials credentials, String body) {
+        SdkHttpFullRequest.Builder sdkRequest = request.copy();
+        SdkHttpFullRequest.Builder ownRequest = request.copy();
+        String payloadHash = Aws4RequestSigner.EMPTY_PAYLOAD_SHA256;
+        if (body != null) {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            payloadHash = Aws4RequestSigner.sha256Hex(Collections.singletonList(ByteBuffer.wrap(bytes)));
+            sdkRequest.putHeader("x-amz-content-sha256", "required").contentStreamProvider(() -> new ByteArrayInputStream(bytes));
+            ownRequest.putHeader("x-amz-content-sha256", payloadHash);
+        }
+        SdkHttpFullRequest expected = Aws4Signer.create().sign(sdkRequest.build(), params(credentials, NOW));
+        SdkHttpFullRequest actual = new Aws4RequestSigner("es", Region.US_WEST_2, Clock.fixed(NOW, ZoneOffset.UTC)).sign(
+            ownRequest,
+            credentials,
+            payloadHash
+        );
+        assertEquals(expected.headers(), actual.headers());
+    }
+
+    private static Aws4SignerParams params(AwsCredentials credentials, Instant now) {
+        return Aws4SignerParams.builder()
+            .awsCredentials(credentials)
+            .signingName("es")
+            .signingRegion(Region.US_WEST_2)
+            .signingClockOverride(Clock.fixed(now, ZoneOffset.UTC))
+            .build();
+    }
+
+    private static SdkHttpFullRequest.Builder request(SdkHttpMethod method, String uri) {
+        return SdkHttpFullRequest.builder().method(method).uri(URI.create(uri)).putHeader("Accept-Encoding", "gzip");
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
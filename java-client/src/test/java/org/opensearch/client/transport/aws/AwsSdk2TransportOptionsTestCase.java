@@ -8,8 +8,19 @@
 
 package org.opensearch.client.transport.aws;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
 
 public class AwsSdk2TransportOptionsTestCase extends Assert {
     @Test
@@ -21,4 +32,51 @@ public class AwsSdk2TransportOptionsTestCase extends Assert {
         assertEquals(10, options.requestCompressionSize().intValue());
         assertTrue(options.responseCompression());
     }
+
+    @Test
+    public void testBuilderSignPayload() throws Exception {
+        AwsSdk2TransportOptions options = AwsSdk2TransportOptions.builder().build();
+        assertNull(options.signPayload());
+
+        options = AwsSdk2TransportOptions.builder().setSignPayload(false).build();
+        assertFalse(options.signPayload());
+        assertFalse(options.toBuilder().build().signPayload());
+    }
+
+    @Test
+    public void testResponseExecutor() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        Executor executor = task -> {
+            executions.incrementAndGet();
+            new Thread(task).start();
+        };
+        AwsSdk2TransportOptions options = AwsSdk2TransportOptions.builder()
+            .setCredentials(StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+            .setResponseExecutor(executor)
+            .build();
+        assertSame(executor, options.toBuilder().build().responseExecutor());
+
+        AwsSdk2Transport transport = new AwsSdk2Transport(new RespondingAsyncHttpClient(), "localhost", Region.US_EAST_1, options);
+        try {
+            assertTrue(new OpenSearchAsyncClient(transport).ping().get().value());
+            assertEquals(1, executions.get());
+        } finally {
+            transport.close();
+        }
+    }
+
+    /**
+     * Answers all requests with an empty {@code 200} response.
+     */
+    private static class RespondingAsyncHttpClient implements SdkAsyncHttpClient {
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            request.responseHandler().onHeaders(SdkHttpResponse.builder().statusCode(200).build());
+            request.responseHandler().onStream(AsyncRequestBody.fromString(""));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {}
+    }
 }
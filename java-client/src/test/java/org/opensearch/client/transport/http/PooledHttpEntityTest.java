@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.http;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.junit.Test;
+import org.opensearch.client.transport.httpclient5.CompressionCodec;
+import org.opensearch.client.util.BufferPool;
+import org.opensearch.client.util.PooledOutputStream;
+
+public class PooledHttpEntityTest extends RandomizedTest {
+
+    @Test
+    public void testProducerReplaysContent() throws IOException {
+        byte[] body = randomBody();
+        PooledHttpEntity entity = entity(body, false);
+        AsyncEntityProducer producer = entity.createProducer();
+
+        // The producer is repeatable and sends the same content on each attempt
+        for (int attempt = 0; attempt < 3; attempt++) {
+            ThrottledChannel channel = new ThrottledChannel(randomIntBetween(1, 10_000));
+            while (!channel.ended) {
+                producer.produce(channel);
+            }
+            assertArrayEquals(body, channel.out.toByteArray());
+            producer.releaseResources();
+        }
+        assertThat(entity.getContentLength(), equalTo((long) body.length));
+    }
+
+    @Test
+    public void testConcurrentProducersShareContent() throws IOException {
+        byte[] body = randomBody();
+        PooledHttpEntity entity = entity(body, false);
+        AsyncEntityProducer first = entity.createProducer();
+        AsyncEntityProducer second = entity.createProducer();
+
+        // E.g. the same request sent to two nodes at once
+        ThrottledChannel firstChannel = new ThrottledChannel(randomIntBetween(1, 1000));
+        ThrottledChannel secondChannel = new ThrottledChannel(randomIntBetween(1, 1000));
+        while (!firstChannel.ended || !secondChannel.ended) {
+            if (!firstChannel.ended) {
+                first.produce(firstChannel);
+            }
+            if (!secondChannel.ended) {
+                second.produce(secondChannel);
+            }
+        }
+        assertArrayEquals(body, firstChannel.out.toByteArray());
+        assertArrayEquals(body, secondChannel.out.toByteArray());
+    }
+
+    @Test
+    public void testCompressKeepsChunked() throws IOException {
+        boolean chunked = randomBoolean();
+        PooledHttpEntity entity = CompressionCodec.gzip().compress(entity(randomBody(), chunked), BufferPool.unpooled());
+        assertThat(entity.isChunked(), equalTo(chunked));
+        assertThat(entity.createProducer().isChunked(), equalTo(chunked));
+        assertThat(entity.getContentEncoding(), equalTo("gzip"));
+    }
+
+    private byte[] randomBody() {
+        // Spans several buffers of the stream
+        byte[] body = new byte[randomIntBetween(0, 300_000)];
+        getRandom().nextBytes(body);
+        return body;
+    }
+
+    private static PooledHttpEntity entity(byte[] body, boolean chunked) throws IOException {
+        PooledOutputStream out = new PooledOutputStream(BufferPool.unpooled());
+        out.write(body);
+        return new PooledHttpEntity(out, ContentType.APPLICATION_JSON, chunked);
+    }
+
+    /**
+     * A channel that accepts a limited number of bytes on each call to {@link #write(ByteBuffer)}.
+     */
+    private static class ThrottledChannel implements DataStreamChannel {
+        private final int maxBytesPerWrite;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private boolean ended;
+
+        ThrottledChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public void requestOutput() {}
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = Math.min(src.remaining(), maxBytesPerWrite);
+            for (int i = 0; i < n; i++) {
+                out.write(src.get());
+            }
+            return n;
+        }
+
+        @Override
+        public void endStream() {
+            ended = true;
+        }
+
+        @Override
+        public void endStream(List<? extends Header> trailers) {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.opensearch.OpenSearchClient;
+
+public class ApacheHttpClient5TransportCompressionTest extends Assert {
+    private static final byte[] INDEX_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}").getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer httpServer;
+    private final BlockingQueue<String[]> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private ApacheHttpClient5Transport transport;
+
+    @Before
+    public void setup() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/", ex -> {
+            String encoding = ex.getRequestHeaders().getFirst("Content-Encoding");
+            InputStream body = ex.getRequestBody();
+            if ("gzip".equals(encoding)) {
+                body = new GZIPInputStream(body);
+            } else if ("deflate".equals(encoding)) {
+                body = new InflaterInputStream(body);
+            }
+            received.add(
+                new String[] {
+                    encoding,
+                    new String(body.readAllBytes(), StandardCharsets.UTF_8),
+                    ex.getRequestHeaders().getFirst("Content-Length") }
+            );
+            if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                ex.sendResponseHeaders(503, -1);
+                ex.close();
+                return;
+            }
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(201, INDEX_RESPONSE.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(INDEX_RESPONSE);
+            }
+        });
+        httpServer.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (transport != null) {
+            transport.close();
+        }
+        httpServer.stop(0);
+    }
+
+    @Test
+    public void testMinLengthPolicy() throws Exception {
+        OpenSearchClient client = client(
+            builder().setCompressionEnabled(true).setCompressionPolicy(RequestCompressionPolicy.minLength(1024))
+        );
+
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", "short")));
+        String[] small = received.poll(10, TimeUnit.SECONDS);
+        assertNull(small[0]);
+        assertEquals("{\"message\":\"short\"}", small[1]);
+
+        String message = "long ".repeat(500);
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", message)));
+        String[] large = received.poll(10, TimeUnit.SECONDS);
+        assertEquals("gzip", large[0]);
+        assertEquals("{\"message\":\"" + message + "\"}", large[1]);
+
+        CompressionStats stats = transport.compressionStats();
+        assertEquals(1, stats.compressedRequests());
+        assertEquals(1, stats.uncompressedRequests());
+        assertTrue(stats.uncompressedBytes() >= large[1].length());
+        assertTrue(stats.compressedBytes() > 0);
+        assertTrue(stats.compressionRatio() < 0.5);
+        assertTrue(stats.compressionNanos() > 0);
+    }
+
+    @Test
+    public void testCodec() throws Exception {
+        OpenSearchClient client = client(builder().setCompressionEnabled(true).setCompressionCodec(CompressionCodec.deflate(1)));
+
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", "hello")));
+        String[] request = received.poll(10, TimeUnit.SECONDS);
+        assertEquals("deflate", request[0]);
+        assertEquals("{\"message\":\"hello\"}", request[1]);
+    }
+
+    @Test
+    public void testCompressionDisabled() throws Exception {
+        OpenSearchClient client = client(builder());
+
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", "hello ".repeat(500))));
+        assertNull(received.poll(10, TimeUnit.SECONDS)[0]);
+
+        CompressionStats stats = transport.compressionStats();
+        assertEquals(0, stats.compressedRequests());
+        assertEquals(1, stats.uncompressedRequests());
+        assertEquals(1, stats.compressionRatio(), 0);
+    }
+
+    @Test
+    public void testCompressedOnceForRetries() throws Exception {
+        InetSocketAddress address = httpServer.getAddress();
+        OpenSearchClient client = client(
+            ApacheHttpClient5TransportBuilder.builder(
+                new HttpHost("http", address.getHostString(), address.getPort()),
+                new HttpHost("http", "localhost", address.getPort())
+            ).setCompressionEnabled(true)
+        );
+        failures.set(1);
+
+        String message = "retried ".repeat(500);
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", message)));
+        String[] first = received.poll(10, TimeUnit.SECONDS);
+        String[] second = received.poll(10, TimeUnit.SECONDS);
+        assertEquals("gzip", first[0]);
+        assertEquals("{\"message\":\"" + message + "\"}", first[1]);
+        assertArrayEquals(first, second);
+
+        CompressionStats stats = transport.compressionStats();
+        assertEquals(1, stats.compressedRequests());
+        assertEquals(first[1].length(), stats.uncompressedBytes());
+        // The length of the compressed body is known and sent
+        assertEquals(String.valueOf(stats.compressedBytes()), first[2]);
+    }
+
+    @Test
+    public void testBodyReplayedForRetries() throws Exception {
+        InetSocketAddress address = httpServer.getAddress();
+        OpenSearchClient client = client(
+            ApacheHttpClient5TransportBuilder.builder(
+                new HttpHost("http", address.getHostString(), address.getPort()),
+                new HttpHost("http", "localhost", address.getPort())
+            ).setChunkedEnabled(true)
+        );
+        failures.set(1);
+
+        String message = "retried ".repeat(10_000);
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", message)));
+        String[] first = received.poll(10, TimeUnit.SECONDS);
+        String[] second = received.poll(10, TimeUnit.SECONDS);
+        assertNull(first[0]);
+        assertEquals("{\"message\":\"" + message + "\"}", first[1]);
+        // Sent with chunked transfer-encoding
+        assertNull(first[2]);
+        assertArrayEquals(first, second);
+    }
+
+    private ApacheHttpClient5TransportBuilder builder() {
+        InetSocketAddress address = httpServer.getAddress();
+        return ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", address.getHostString(), address.getPort()));
+    }
+
+    private OpenSearchClient client(ApacheHttpClient5TransportBuilder builder) {
+        transport = builder.build();
+        return new OpenSearchClient(transport);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.GetResponse;
+import org.opensearch.client.opensearch.core.IndexResponse;
+
+public class ApacheHttpClient5TransportConcurrencyLimitTest extends Assert {
+    private static final byte[] GET_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"_seq_no\":0,"
+        + "\"_primary_term\":1,\"found\":true,\"_source\":{\"message\":\"hello\"}}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INDEX_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}").getBytes(StandardCharsets.UTF_8);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // Requests are answered once released
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger firstRequests = new AtomicInteger();
+    private final AtomicInteger secondRequests = new AtomicInteger();
+    private HttpServer first;
+    private HttpServer second;
+
+    @Before
+    public void setup() throws IOException {
+        first = server(firstRequests);
+        second = server(secondRequests);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        first.stop(0);
+        second.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRequestsAboveEndpointLimitFailFast() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.of(b -> b.initialLimit(2));
+        try (ApacheHttpClient5Transport transport = transport(limiter)) {
+            OpenSearchAsyncClient client = new OpenSearchAsyncClient(transport);
+            CompletableFuture<GetResponse<JsonData>> get1 = client.get(g -> g.index("logs").id("1"), JsonData.class);
+            CompletableFuture<GetResponse<JsonData>> get2 = client.get(g -> g.index("logs").id("2"), JsonData.class);
+
+            CompletableFuture<GetResponse<JsonData>> get3 = client.get(g -> g.index("logs").id("3"), JsonData.class);
+            CompletionException e = assertThrows(CompletionException.class, get3::join);
+            assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof ConcurrencyLimitExceededException);
+
+            ConcurrencyLimiter.Stats stats = limiter.endpointStats().get(GetRequest.class.getName());
+            assertEquals(2, stats.inflight());
+            assertEquals(1, stats.rejectedRequests());
+
+            release.countDown();
+            assertTrue(get1.get(10, TimeUnit.SECONDS).found());
+            assertTrue(get2.get(10, TimeUnit.SECONDS).found());
+            assertEquals(0, limiter.endpointStats().get(GetRequest.class.getName()).inflight());
+            limiter.nodeStats().values().forEach(s -> assertEquals(0, s.inflight()));
+        }
+    }
+
+    @Test
+    public void testRequestsAboveNodeLimitGoToNextNode() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.of(b -> b.initialLimit(1));
+        try (ApacheHttpClient5Transport transport = transport(limiter)) {
+            OpenSearchAsyncClient client = new OpenSearchAsyncClient(transport);
+            CompletableFuture<GetResponse<JsonData>> get = client.get(g -> g.index("logs").id("1"), JsonData.class);
+            waitForRequests(1);
+
+            // Another endpoint, sent to the other node whichever node is tried first
+            CompletableFuture<IndexResponse> index = client.index(i -> i.index("logs").id("1").document(Map.of("message", "hello")));
+            waitForRequests(2);
+            assertEquals(1, firstRequests.get());
+            assertEquals(1, secondRequests.get());
+
+            release.countDown();
+            assertTrue(get.get(10, TimeUnit.SECONDS).found());
+            assertEquals("1", index.get(10, TimeUnit.SECONDS).id());
+        }
+    }
+
+    private void waitForRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (firstRequests.get() + secondRequests.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private ApacheHttpClient5Transport transport(ConcurrencyLimiter limiter) {
+        return ApacheHttpClient5TransportBuilder.builder(host(first), host(second)).setConcurrencyLimiter(limiter).build();
+    }
+
+    private HttpServer server(AtomicInteger requests) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", ex -> {
+            requests.incrementAndGet();
+            ex.getRequestBody().readAllBytes();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            boolean get = "GET".equals(ex.getRequestMethod());
+            byte[] body = get ? GET_RESPONSE : INDEX_RESPONSE;
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(get ? 200 : 201, body.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static HttpHost host(HttpServer server) {
+        InetSocketAddress address = server.getAddress();
+        return new HttpHost("http", address.getHostString(), address.getPort());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.GetResponse;
+import org.opensearch.client.transport.TransportException;
+import org.opensearch.client.transport.TransportOptions;
+
+public class ApacheHttpClient5TransportDeadlineTest extends Assert {
+    private static final byte[] GET_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"_seq_no\":0,"
+        + "\"_primary_term\":1,\"found\":true,\"_source\":{\"message\":\"hello\"}}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INDEX_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}").getBytes(StandardCharsets.UTF_8);
+    private static final long SLOW_MILLIS = 3000;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> firstRequests = new CopyOnWriteArrayList<>();
+    private final List<String> secondRequests = new CopyOnWriteArrayList<>();
+    private HttpServer first;
+    private HttpServer second;
+    private ApacheHttpClient5Transport transport;
+
+    @After
+    public void tearDown() throws IOException {
+        transport.close();
+        first.stop(0);
+        second.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRequestFailsAtDeadline() throws Exception {
+        start(server(SLOW_MILLIS, 200, firstRequests), server(SLOW_MILLIS, 200, secondRequests));
+        OpenSearchClient client = client(ApacheHttpClient5Options.DEFAULT.toBuilder().setRequestTimeout(Duration.ofMillis(200)).build());
+
+        long start = System.nanoTime();
+        TransportException e = assertThrows(TransportException.class, () -> client.get(g -> g.index("logs").id("1"), JsonData.class));
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals("Request did not complete within its timeout of [200ms]", e.getMessage());
+        assertTrue("Took " + millis + " ms", millis >= 200 && millis < SLOW_MILLIS);
+
+        // The request wasn't sent to the other node once the deadline expired
+        Thread.sleep(200);
+        assertEquals(1, firstRequests.size());
+        assertEquals(0, secondRequests.size());
+    }
+
+    @Test
+    public void testAttemptTimesOutWithinDeadline() throws Exception {
+        start(server(SLOW_MILLIS, 200, firstRequests), server(0, 200, secondRequests));
+        // The first attempt times out with time left for the second one
+        RequestConfig config = RequestConfig.custom().setResponseTimeout(300, TimeUnit.MILLISECONDS).build();
+        OpenSearchClient client = client(
+            ApacheHttpClient5Options.DEFAULT.toBuilder().setRequestConfig(config).setRequestTimeout(Duration.ofSeconds(5)).build()
+        );
+
+        long start = System.nanoTime();
+        GetResponse<JsonData> response = client.get(g -> g.index("logs").id("1"), JsonData.class);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(response.found());
+        // Response timeouts are checked by the I/O reactor about once a second
+        assertTrue("Took " + millis + " ms", millis < SLOW_MILLIS);
+        assertEquals(1, firstRequests.size());
+        assertEquals(1, secondRequests.size());
+    }
+
+    @Test
+    public void testFailoverWithinDeadline() throws Exception {
+        start(server(0, 503, firstRequests), server(0, 200, secondRequests));
+        // Options that aren't specific to the transport carry the timeout too
+        OpenSearchClient client = client(TransportOptions.builder().setRequestTimeout(Duration.ofSeconds(10)).build());
+
+        assertTrue(client.get(g -> g.index("logs").id("1"), JsonData.class).found());
+        assertEquals(1, firstRequests.size());
+        assertEquals(1, secondRequests.size());
+    }
+
+    @Test
+    public void testNoTimeoutParameter() throws Exception {
+        // The query strings of the requests sent to either node
+        start(server(0, 200, firstRequests), server(0, 200, firstRequests));
+        OpenSearchClient client = client(ApacheHttpClient5Options.DEFAULT.toBuilder().setRequestTimeout(Duration.ofSeconds(10)).build());
+
+        // The deadline is only enforced by the client, the timeout of requests is the one they were built with
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", "hello")));
+        client.index(i -> i.index("logs").id("1").timeout(t -> t.time("1s")).document(Map.of("message", "hello")));
+
+        assertEquals(2, firstRequests.size());
+        assertNull(firstRequests.get(0));
+        assertEquals("timeout=1s", firstRequests.get(1));
+    }
+
+    private OpenSearchClient client(TransportOptions options) {
+        return new OpenSearchClient(transport, options);
+    }
+
+    private void start(HttpServer first, HttpServer second) {
+        this.first = first;
+        this.second = second;
+        // The first request is sent to the first node
+        transport = ApacheHttpClient5TransportBuilder.builder(host(first), host(second)).build();
+    }
+
+    private HttpServer server(long delayMillis, int status, List<String> requests) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", ex -> {
+            requests.add(ex.getRequestURI().getQuery());
+            ex.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            boolean get = "GET".equals(ex.getRequestMethod());
+            byte[] body = status != 200 ? new byte[0] : get ? GET_RESPONSE : INDEX_RESPONSE;
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            try {
+                ex.sendResponseHeaders(status == 200 && false == get ? 201 : status, body.length == 0 ? -1 : body.length);
+                try (OutputStream out = ex.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (IOException e) {
+                // The request was cancelled
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static HttpHost host(HttpServer server) {
+        InetSocketAddress address = server.getAddress();
+        return new HttpHost("http", address.getHostString(), address.getPort());
+    }
+}
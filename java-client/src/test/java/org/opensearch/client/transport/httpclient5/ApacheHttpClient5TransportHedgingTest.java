@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.GetResponse;
+
+public class ApacheHttpClient5TransportHedgingTest extends Assert {
+    private static final byte[] GET_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"_seq_no\":0,"
+        + "\"_primary_term\":1,\"found\":true,\"_source\":{\"message\":\"hello\"}}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INDEX_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}").getBytes(StandardCharsets.UTF_8);
+    private static final long SLOW_MILLIS = 1000;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HttpServer slowServer;
+    private HttpServer fastServer;
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final AtomicInteger fastRequests = new AtomicInteger();
+    private ApacheHttpClient5Transport transport;
+
+    @Before
+    public void setup() throws IOException {
+        slowServer = server(SLOW_MILLIS, slowRequests);
+        fastServer = server(0, fastRequests);
+        // The first request is sent to the first node
+        transport = ApacheHttpClient5TransportBuilder.builder(host(slowServer), host(fastServer)).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        transport.close();
+        slowServer.stop(0);
+        fastServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+        HedgingPolicy policy = HedgingPolicy.of(b -> b.maxDelayMillis(50).minDelayMillis(0).maxHedgeRatio(1));
+        OpenSearchClient client = client(policy);
+
+        long start = System.nanoTime();
+        GetResponse<JsonData> response = client.get(g -> g.index("logs").id("1"), JsonData.class);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(response.found());
+        assertTrue("Took " + millis + " ms", millis < SLOW_MILLIS);
+        assertEquals(1, slowRequests.get());
+        assertEquals(1, fastRequests.get());
+
+        HedgingPolicy.Stats stats = policy.stats();
+        assertEquals(1, stats.requests());
+        assertEquals(1, stats.hedgedRequests());
+        assertEquals(1, stats.hedgeWins());
+    }
+
+    @Test
+    public void testRequestsAreNotHedgedWithoutBudget() throws Exception {
+        HedgingPolicy policy = HedgingPolicy.of(b -> b.maxDelayMillis(50).minDelayMillis(0).maxHedgeRatio(0.5));
+        OpenSearchClient client = client(policy);
+
+        // Half a hedge was earned, the request must wait for the slow node
+        long start = System.nanoTime();
+        client.get(g -> g.index("logs").id("1"), JsonData.class);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= SLOW_MILLIS);
+        assertEquals(0, fastRequests.get());
+        assertEquals(0, policy.stats().hedgedRequests());
+    }
+
+    @Test
+    public void testNonIdempotentRequestsAreNotHedged() throws Exception {
+        HedgingPolicy policy = HedgingPolicy.of(b -> b.maxDelayMillis(50).minDelayMillis(0).maxHedgeRatio(1));
+        OpenSearchClient client = client(policy);
+
+        long start = System.nanoTime();
+        client.index(i -> i.index("logs").id("1").document(Map.of("message", "hello")));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= SLOW_MILLIS);
+        assertEquals(1, slowRequests.get());
+        assertEquals(0, fastRequests.get());
+        assertEquals(0, policy.stats().requests());
+    }
+
+    private OpenSearchClient client(HedgingPolicy policy) {
+        return new OpenSearchClient(transport, ApacheHttpClient5Options.DEFAULT.toBuilder().setHedgingPolicy(policy).build());
+    }
+
+    private HttpServer server(long delayMillis, AtomicInteger requests) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", ex -> {
+            requests.incrementAndGet();
+            ex.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "GET".equals(ex.getRequestMethod()) ? GET_RESPONSE : INDEX_RESPONSE;
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            try {
+                ex.sendResponseHeaders("GET".equals(ex.getRequestMethod()) ? 200 : 201, body.length);
+                try (OutputStream out = ex.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (IOException e) {
+                // The request was cancelled
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static HttpHost host(HttpServer server) {
+        InetSocketAddress address = server.getAddress();
+        return new HttpHost("http", address.getHostString(), address.getPort());
+    }
+}
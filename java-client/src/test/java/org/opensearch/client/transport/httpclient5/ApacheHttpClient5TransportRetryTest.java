@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.IndexResponse;
+
+public class ApacheHttpClient5TransportRetryTest extends Assert {
+    private static final byte[] INDEX_RESPONSE = ("{\"_index\":\"logs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REJECTED_RESPONSE = ("{\"error\":{\"type\":\"es_rejected_execution_exception\","
+        + "\"reason\":\"rejected execution\"},\"status\":429}").getBytes(StandardCharsets.UTF_8);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requests = new AtomicInteger();
+    // Number of requests that are rejected before the next one is indexed
+    private final AtomicInteger rejections = new AtomicInteger();
+    private HttpServer server;
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", ex -> {
+            requests.incrementAndGet();
+            ex.getRequestBody().readAllBytes();
+            boolean rejected = rejections.getAndUpdate(n -> Math.max(0, n - 1)) > 0;
+            byte[] body = rejected ? REJECTED_RESPONSE : INDEX_RESPONSE;
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(rejected ? 429 : 201, body.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRejectedRequestIsRetriedAfterBackoff() throws Exception {
+        BackoffRetryPolicy policy = BackoffRetryPolicy.of(b -> b.baseDelayMillis(100).maxDelayMillis(1000));
+        rejections.set(2);
+        try (ApacheHttpClient5Transport transport = transport(policy)) {
+            long start = System.nanoTime();
+            IndexResponse response = index(transport);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertEquals("created", response.result().jsonValue());
+            // Two delays of at least the base delay
+            assertTrue("Took " + millis + " ms", millis >= 200);
+        }
+        assertEquals(3, requests.get());
+
+        BackoffRetryPolicy.Stats stats = policy.endpointStats().get(IndexRequest.class.getName());
+        assertEquals(1, stats.requests());
+        assertEquals(2, stats.retries());
+    }
+
+    @Test
+    public void testRequestFailsAfterMaxRetries() throws Exception {
+        BackoffRetryPolicy policy = BackoffRetryPolicy.of(b -> b.maxRetries(2).baseDelayMillis(10));
+        rejections.set(10);
+        try (ApacheHttpClient5Transport transport = transport(policy)) {
+            ResponseException e = assertThrows(ResponseException.class, () -> index(transport));
+            assertEquals(429, e.getResponse().getStatusLine().getStatusCode());
+        }
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testRejectedRequestIsNotRetriedWithoutPolicy() throws Exception {
+        rejections.set(1);
+        try (ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host(server)).build()) {
+            ResponseException e = assertThrows(ResponseException.class, () -> index(transport));
+            assertEquals(429, e.getResponse().getStatusLine().getStatusCode());
+        }
+        assertEquals(1, requests.get());
+    }
+
+    private ApacheHttpClient5Transport transport(RetryPolicy policy) {
+        return ApacheHttpClient5TransportBuilder.builder(host(server)).setRetryPolicy(policy).build();
+    }
+
+    private static IndexResponse index(ApacheHttpClient5Transport transport) throws IOException {
+        return new OpenSearchClient(transport).index(i -> i.index("logs").id("1").document(Map.of("message", "hello")));
+    }
+
+    private static HttpHost host(HttpServer server) {
+        InetSocketAddress address = server.getAddress();
+        return new HttpHost("http", address.getHostString(), address.getPort());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+
+public class BackoffRetryPolicyTest extends Assert {
+    private static final GetRequest GET = GetRequest.of(g -> g.index("logs").id("1"));
+
+    @Test
+    public void testRetryableFailures() {
+        BackoffRetryPolicy policy = BackoffRetryPolicy.of(b -> b);
+        assertTrue(policy.isRetryable(new ConnectException()));
+        assertFalse(policy.isRetryable(new IllegalStateException()));
+
+        policy = BackoffRetryPolicy.of(b -> b.retryExceptions(IllegalStateException.class));
+        assertFalse(policy.isRetryable(new ConnectException()));
+        assertTrue(policy.isRetryable(new IllegalStateException()));
+    }
+
+    @Test
+    public void testDelaysAreJitteredAndBounded() {
+        BackoffRetryPolicy policy = BackoffRetryPolicy.of(b -> b.baseDelayMillis(10).maxDelayMillis(100));
+        long base = TimeUnit.MILLISECONDS.toNanos(10);
+        long max = TimeUnit.MILLISECONDS.toNanos(100);
+        long previous = 0;
+        boolean jittered = false;
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.delayNanos(previous);
+            assertTrue("Delay was " + delay, delay >= base && delay <= Math.min(max, Math.max(base, previous) * 3));
+            jittered |= delay != base && delay != max;
+            previous = delay;
+        }
+        assertTrue(jittered);
+    }
+
+    @Test
+    public void testMaxRetries() {
+        BackoffRetryPolicy policy = BackoffRetryPolicy.of(b -> b.maxRetries(2));
+        policy.onRequest(GET);
+        assertTrue(policy.retryDelayNanos(GET, 1, 0, new ConnectException()) >= 0);
+        assertTrue(policy.retryDelayNanos(GET, 2, 0, new ConnectException()) >= 0);
+        assertTrue(policy.retryDelayNanos(GET, 3, 0, new ConnectException()) < 0);
+        assertTrue(policy.retryDelayNanos(GET, 1, 0, new IllegalStateException()) < 0);
+
+        BackoffRetryPolicy.Stats stats = policy.endpointStats().get(GetRequest.class.getName());
+        assertEquals(1, stats.requests());
+        assertEquals(2, stats.retries());
+        assertEquals(0, stats.rejectedRetries());
+    }
+
+    @Test
+    public void testBudget() {
+        BackoffRetryPolicy policy = BackoffRetryPolicy.of(b -> b.retryBudgetRatio(0.1));
+        // The retries saved up are spent first
+        int retries = 0;
+        while (policy.retryDelayNanos(GET, 1, 0, new ConnectException()) >= 0) {
+            retries++;
+        }
+        assertEquals(10, retries);
+
+        IndexRequest<String> index = IndexRequest.of(i -> i.index("logs").document("{}"));
+        retries = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.onRequest(index);
+            if (policy.retryDelayNanos(index, 1, 0, new ConnectException()) >= 0) {
+                retries++;
+            }
+        }
+        assertEquals(10, retries);
+
+        BackoffRetryPolicy.Stats stats = policy.endpointStats().get(IndexRequest.class.getName());
+        assertEquals(100, stats.requests());
+        assertEquals(10, stats.retries());
+        assertEquals(90, stats.rejectedRetries());
+    }
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> BackoffRetryPolicy.of(b -> b.maxRetries(-1)));
+        assertThrows(IllegalArgumentException.class, () -> BackoffRetryPolicy.of(b -> b.retryBudgetRatio(0)));
+        assertThrows(IllegalArgumentException.class, () -> BackoffRetryPolicy.of(b -> b.baseDelayMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> BackoffRetryPolicy.of(b -> b.baseDelayMillis(100).maxDelayMillis(10)));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+
+public class CompressionCodecTest extends Assert {
+    private static final byte[] CONTENT = "{\"message\":\"hello\"}\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testGzip() throws IOException {
+        for (CompressionCodec codec : new CompressionCodec[] {
+            CompressionCodec.gzip(),
+            CompressionCodec.gzip(1),
+            CompressionCodec.gzip(9) }) {
+            assertEquals("gzip", codec.contentEncoding());
+            byte[] compressed = compress(codec);
+            assertTrue(compressed.length < CONTENT.length);
+            assertArrayEquals(CONTENT, new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+        }
+    }
+
+    @Test
+    public void testDeflate() throws IOException {
+        CompressionCodec codec = CompressionCodec.deflate(1);
+        assertEquals("deflate", codec.contentEncoding());
+        byte[] compressed = compress(codec);
+        assertTrue(compressed.length < CONTENT.length);
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodec.gzip(0));
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodec.deflate(10));
+    }
+
+    @Test
+    public void testPolicies() {
+        assertTrue(RequestCompressionPolicy.always().shouldCompress(IndexRequest._ENDPOINT, 0));
+
+        RequestCompressionPolicy minLength = RequestCompressionPolicy.minLength(1024);
+        assertFalse(minLength.shouldCompress(IndexRequest._ENDPOINT, 1023));
+        assertTrue(minLength.shouldCompress(IndexRequest._ENDPOINT, 1024));
+        // Streamed bodies
+        assertTrue(minLength.shouldCompress(IndexRequest._ENDPOINT, -1));
+
+        RequestCompressionPolicy bulks = minLength.and((endpoint, length) -> endpoint == BulkRequest._ENDPOINT);
+        assertTrue(bulks.shouldCompress(BulkRequest._ENDPOINT, 2048));
+        assertFalse(bulks.shouldCompress(IndexRequest._ENDPOINT, 2048));
+
+        assertThrows(IllegalArgumentException.class, () -> RequestCompressionPolicy.minLength(-1));
+    }
+
+    private static byte[] compress(CompressionCodec codec) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream compressed = codec.compress(out)) {
+            compressed.write(CONTENT);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+
+public class ConcurrencyLimiterTest extends Assert {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void testRejectsAboveLimit() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.of(b -> b.initialLimit(2));
+        ConcurrencyLimiter.Limit limit = limiter.node(new HttpHost("http", "localhost", 9200));
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        ConcurrencyLimiter.Stats stats = limiter.nodeStats().get("http://localhost:9200");
+        assertEquals(2, stats.inflight());
+        assertEquals(2, stats.limit());
+        assertEquals(1, stats.rejectedRequests());
+
+        limit.release();
+        assertTrue(limit.tryAcquire());
+        assertEquals("Too many requests in flight for node [http://localhost:9200], the limit is [2]", limit.rejected().getMessage());
+    }
+
+    @Test
+    public void testLimitAdapts() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.of(
+            b -> b.initialLimit(10).minLimit(2).maxLimit(12).backoffRatio(0.5).timeoutMillis(100)
+        );
+        ConcurrencyLimiter.Limit limit = limiter.endpoint(SearchRequest.class);
+        final long timeout = limiter.timeoutNanos(SearchRequest.class);
+
+        // The limit doesn't grow while it isn't in use
+        limit.tryAcquire();
+        limit.release(FAST, timeout, false);
+        assertEquals(10, limit.stats().limit());
+
+        // It grows by one with each success while at least half of it is in use, up to the max
+        for (int i = 0; i < 6; i++) {
+            limit.tryAcquire();
+        }
+        for (int i = 0; i < 5; i++) {
+            limit.release(FAST, timeout, false);
+            limit.tryAcquire();
+        }
+        assertEquals(12, limit.stats().limit());
+
+        // It shrinks on failures and slow requests, down to the min
+        limit.release(FAST, timeout, true);
+        assertEquals(6, limit.stats().limit());
+        limit.release(TimeUnit.MILLISECONDS.toNanos(200), timeout, false);
+        assertEquals(3, limit.stats().limit());
+        limit.release(FAST, timeout, true);
+        assertEquals(2, limit.stats().limit());
+
+        assertEquals(2, limiter.endpointStats().get(SearchRequest.class.getName()).limit());
+    }
+
+    @Test
+    public void testEndpointTimeout() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.of(
+            b -> b.initialLimit(10).backoffRatio(0.5).timeoutMillis(100).endpointTimeoutMillis(BulkRequest.class, 1000)
+        );
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.timeoutNanos(SearchRequest.class));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), limiter.timeoutNanos(BulkRequest.class));
+
+        // A bulk request slower than the default timeout but within the one of its endpoint doesn't shrink the limit
+        ConcurrencyLimiter.Limit limit = limiter.node(new HttpHost("http", "localhost", 9200));
+        limit.tryAcquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(500), limiter.timeoutNanos(BulkRequest.class), false);
+        assertEquals(10, limit.stats().limit());
+        limit.tryAcquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(500), limiter.timeoutNanos(SearchRequest.class), false);
+        assertEquals(5, limit.stats().limit());
+    }
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(b -> b.initialLimit(0)));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(b -> b.backoffRatio(1)));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(b -> b.endpointTimeoutMillis(BulkRequest.class, 0)));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(b -> b.minLimit(10).initialLimit(5)));
+        assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(b -> b.maxLimit(10).initialLimit(20)));
+    }
+}
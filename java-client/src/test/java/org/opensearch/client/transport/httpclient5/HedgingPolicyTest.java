@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+
+public class HedgingPolicyTest extends Assert {
+
+    @Test
+    public void testIdempotentRequests() {
+        HedgingPolicy policy = HedgingPolicy.of(b -> b);
+        assertTrue(policy.isHedgeable(GetRequest.of(g -> g.index("logs").id("1"))));
+        assertTrue(policy.isHedgeable(SearchRequest.of(s -> s.index("logs"))));
+        assertFalse(policy.isHedgeable(IndexRequest.of(i -> i.index("logs").document("{}"))));
+
+        policy = HedgingPolicy.of(b -> b.idempotentRequests(SearchRequest.class));
+        assertFalse(policy.isHedgeable(GetRequest.of(g -> g.index("logs").id("1"))));
+        assertTrue(policy.isHedgeable(SearchRequest.of(s -> s.index("logs"))));
+    }
+
+    @Test
+    public void testDelayFollowsQuantile() {
+        HedgingPolicy policy = HedgingPolicy.of(b -> b.quantile(0.9).minDelayMillis(1).maxDelayMillis(1000));
+        // The max delay is used until enough latencies are known
+        assertEquals(TimeUnit.SECONDS.toNanos(1), policy.delayNanos());
+
+        // 95% of the requests take 10 ms, 5% take 200 ms
+        for (int i = 0; i < 256; i++) {
+            policy.onResponse(TimeUnit.MILLISECONDS.toNanos(i % 20 == 0 ? 200 : 10), false);
+        }
+        long delay = TimeUnit.NANOSECONDS.toMillis(policy.delayNanos());
+        assertTrue("Delay was " + delay, delay >= 10 && delay <= 13);
+
+        // Older latencies weigh less and less
+        for (int i = 0; i < 256 * 4; i++) {
+            policy.onResponse(TimeUnit.MILLISECONDS.toNanos(100), false);
+        }
+        delay = TimeUnit.NANOSECONDS.toMillis(policy.delayNanos());
+        assertTrue("Delay was " + delay, delay >= 100 && delay <= 125);
+
+        // Bounded by the min and max delays
+        for (int i = 0; i < 256; i++) {
+            policy.onResponse(TimeUnit.SECONDS.toNanos(10), false);
+        }
+        assertEquals(TimeUnit.SECONDS.toNanos(1), policy.delayNanos());
+    }
+
+    @Test
+    public void testBudget() {
+        HedgingPolicy policy = HedgingPolicy.of(b -> b.maxHedgeRatio(0.1));
+        int hedges = 0;
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest();
+            if (policy.tryHedge()) {
+                hedges++;
+            }
+        }
+        assertEquals(100, hedges);
+
+        // Unused hedges are saved up to a limit
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest();
+        }
+        hedges = 0;
+        while (policy.tryHedge()) {
+            hedges++;
+        }
+        assertEquals(10, hedges);
+
+        HedgingPolicy.Stats stats = policy.stats();
+        assertEquals(2000, stats.requests());
+        assertEquals(110, stats.hedgedRequests());
+    }
+
+    @Test
+    public void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.of(b -> b.quantile(1)));
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.of(b -> b.maxHedgeRatio(0)));
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.of(b -> b.minDelayMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.of(b -> b.minDelayMillis(100).maxDelayMillis(10)));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+
+public class NodeRingTest extends Assert {
+    private static final Node A = new Node(new HttpHost("http", "a", 9200));
+    private static final Node B = new Node(new HttpHost("http", "b", 9200));
+    private static final Node C = new Node(new HttpHost("http", "c", 9200));
+    private static final ApacheHttpClient5Transport.NodeTuple<List<Node>> NODES = new ApacheHttpClient5Transport.NodeTuple<>(
+        Arrays.asList(A, B, C),
+        new BasicAuthCache()
+    );
+
+    @Test
+    public void testLivingNodes() {
+        Map<HttpHost, DeadHostState> denylist = new HashMap<>();
+        denylist.put(B.getHost(), new DeadHostState(DeadHostState.DEFAULT_TIME_SUPPLIER));
+
+        NodeRing ring = NodeRing.build(NODES, denylist, 1, NodeSelector.ANY);
+        assertTrue(ring.living);
+        assertNull(ring.rejection());
+        assertEquals(Arrays.asList(A, C), ring.nodes());
+        // Attempts wrap around the ring
+        assertEquals(C, ring.node(1, 0));
+        assertEquals(A, ring.node(1, 1));
+
+        assertTrue(ring.isCurrent(NODES, 1));
+        assertFalse(ring.isCurrent(NODES, 2));
+        assertFalse(ring.isCurrent(new ApacheHttpClient5Transport.NodeTuple<>(NODES.nodes, NODES.authCache), 1));
+    }
+
+    @Test
+    public void testDeadNodeClosestToRevival() {
+        Map<HttpHost, DeadHostState> denylist = new HashMap<>();
+        DeadHostState deadness = new DeadHostState(DeadHostState.DEFAULT_TIME_SUPPLIER);
+        denylist.put(A.getHost(), new DeadHostState(deadness));
+        denylist.put(B.getHost(), deadness);
+        denylist.put(C.getHost(), new DeadHostState(new DeadHostState(deadness)));
+
+        NodeRing ring = NodeRing.build(NODES, denylist, 1, NodeSelector.ANY);
+        assertFalse(ring.living);
+        assertEquals(Collections.singletonList(B), ring.nodes());
+    }
+
+    @Test
+    public void testRejectedNodes() {
+        NodeSelector rejectAll = nodes -> {
+            for (Iterator<Node> itr = nodes.iterator(); itr.hasNext();) {
+                itr.next();
+                itr.remove();
+            }
+        };
+        NodeRing ring = NodeRing.build(NODES, Collections.emptyMap(), 1, rejectAll);
+        assertNotNull(ring.rejection());
+        assertTrue(ring.rejection().contains("rejected all nodes"));
+    }
+
+    @Test
+    public void testExpiresWhenDeadNodeIsDueToBeRetried() throws InterruptedException {
+        // Dead for 100 more milliseconds
+        long offset = TimeUnit.MINUTES.toNanos(1) - TimeUnit.MILLISECONDS.toNanos(100);
+        Supplier<Long> timeSupplier = () -> System.nanoTime() - offset;
+        Map<HttpHost, DeadHostState> denylist = Collections.singletonMap(A.getHost(), new DeadHostState(timeSupplier));
+
+        NodeRing ring = NodeRing.build(NODES, denylist, 1, NodeSelector.ANY);
+        assertEquals(Arrays.asList(B, C), ring.nodes());
+        assertTrue(ring.isCurrent(NODES, 1));
+        Thread.sleep(150);
+        assertFalse(ring.isCurrent(NODES, 1));
+    }
+
+    @Test
+    public void testTransportReusesRing() throws IOException {
+        ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(A.getHost(), B.getHost()).build();
+        try {
+            NodeRing ring = transport.nextNodes();
+            assertSame(ring, transport.nextNodes());
+            assertNotEquals(transport.firstNodeIndex(ring), transport.firstNodeIndex(ring));
+
+            transport.setNodes(Collections.singletonList(C));
+            NodeRing updated = transport.nextNodes();
+            assertNotSame(ring, updated);
+            assertEquals(Collections.singletonList(C), updated.nodes());
+        } finally {
+            transport.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveNodeSelectorTest extends Assert {
+    private static final Node A = node("a", "data");
+    private static final Node B = node("b", "data");
+    private static final Node C = node("c", "data");
+
+    @Test
+    public void testSlowNodeIsAvoided() {
+        AdaptiveNodeSelector selector = AdaptiveNodeSelector.of(b -> b);
+        observe(selector, A, 100);
+        observe(selector, B, 1);
+        observe(selector, C, 2);
+
+        int[] firsts = new int[3];
+        List<Node> nodes = Arrays.asList(A, B, C);
+        for (int i = 0; i < 1000; i++) {
+            firsts[selector.first(nodes)]++;
+        }
+        assertEquals(0, firsts[0]);
+        assertTrue(firsts[1] > firsts[2]);
+    }
+
+    @Test
+    public void testRequestsInFlightAreAvoided() {
+        AdaptiveNodeSelector selector = AdaptiveNodeSelector.of(b -> b);
+        observe(selector, A, 10);
+        observe(selector, B, 1);
+        // B stops answering, e.g. because of a garbage collection pause
+        for (int i = 0; i < 20; i++) {
+            selector.onRequestStart(B);
+        }
+        assertEquals(20, selector.inFlight(B));
+
+        long now = System.nanoTime();
+        assertTrue(selector.cost(B, now) > selector.cost(A, now));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, selector.first(Arrays.asList(A, B)));
+        }
+    }
+
+    @Test
+    public void testCost() {
+        AdaptiveNodeSelector selector = AdaptiveNodeSelector.of(b -> b.decayTimeMillis(1000).failurePenaltyMillis(500));
+        long now = System.nanoTime();
+        assertEquals(0, selector.cost(A, now), 0);
+
+        // Never answered, with requests in flight
+        selector.onRequestStart(A);
+        assertTrue(selector.cost(A, now) > TimeUnit.HOURS.toNanos(1));
+
+        selector.onRequestEnd(A, TimeUnit.MILLISECONDS.toNanos(10), false);
+        assertEquals(0, selector.inFlight(A));
+        now = System.nanoTime();
+        double cost = selector.cost(A, now);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), cost, TimeUnit.MILLISECONDS.toNanos(1));
+
+        // Higher latencies are taken as is
+        observe(selector, A, 50);
+        now = System.nanoTime();
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), selector.cost(A, now), TimeUnit.MILLISECONDS.toNanos(1));
+
+        // And then decay
+        assertTrue(selector.cost(A, now + TimeUnit.SECONDS.toNanos(1)) < TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(selector.cost(A, now + TimeUnit.SECONDS.toNanos(30)) < 1);
+
+        // Failures count at least as the penalty
+        selector.onRequestStart(B);
+        selector.onRequestEnd(B, TimeUnit.MILLISECONDS.toNanos(1), true);
+        assertTrue(selector.cost(B, System.nanoTime()) > TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    public void testFilter() {
+        Node clusterManager = node("cm", "cluster_manager");
+        AdaptiveNodeSelector selector = AdaptiveNodeSelector.of(b -> b.filter(NodeSelector.SKIP_DEDICATED_CLUSTER_MANAGERS));
+        List<Node> nodes = new ArrayList<>(Arrays.asList(A, clusterManager));
+        selector.select(nodes);
+        assertEquals(Collections.singletonList(A), nodes);
+    }
+
+    private static void observe(AdaptiveNodeSelector selector, Node node, long millis) {
+        selector.onRequestStart(node);
+        selector.onRequestEnd(node, TimeUnit.MILLISECONDS.toNanos(millis), false);
+    }
+
+    private static Node node(String host, String role) {
+        return new Node(new HttpHost("http", host, 9200), null, host, null, new Node.Roles(Collections.singleton(role)), null);
+    }
+}
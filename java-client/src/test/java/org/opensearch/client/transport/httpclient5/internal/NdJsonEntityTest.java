@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+import jakarta.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+
+public class NdJsonEntityTest extends RandomizedTest {
+    private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+    @Test
+    public void testWriteToMatchesContent() throws IOException {
+        BulkRequest request = bulkRequest(randomIntBetween(1, 50));
+        NdJsonEntity entity = new NdJsonEntity(request, mapper, ContentType.APPLICATION_JSON, false);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        String expected = expectedBody(request);
+        assertThat(out.toString(StandardCharsets.UTF_8), equalTo(expected));
+
+        try (InputStream in = entity.getContent()) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), equalTo(expected));
+        }
+        assertThat(entity.getContentLength(), equalTo((long) expected.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    @Test
+    public void testChunkedEntityHasNoLength() {
+        NdJsonEntity entity = new NdJsonEntity(bulkRequest(3), mapper, ContentType.APPLICATION_JSON, true);
+        assertThat(entity.isChunked(), equalTo(true));
+        assertThat(entity.getContentLength(), equalTo(-1L));
+    }
+
+    @Test
+    public void testProducerWritesWhileChannelDrains() throws IOException {
+        BulkRequest request = bulkRequest(randomIntBetween(1, 200));
+        NdJsonEntity entity = new NdJsonEntity(request, mapper, ContentType.APPLICATION_JSON, false);
+        AsyncEntityProducer producer = entity.createProducer();
+        String expected = expectedBody(request);
+
+        // The producer is repeatable and can be used for several attempts
+        for (int attempt = 0; attempt < 2; attempt++) {
+            ThrottledChannel channel = new ThrottledChannel(randomIntBetween(1, 100));
+            for (int i = 0; !channel.ended; i++) {
+                assertTrue("Producer did not complete", i < 1_000_000);
+                producer.produce(channel);
+            }
+            assertThat(channel.out.toString(StandardCharsets.UTF_8), equalTo(expected));
+            producer.releaseResources();
+        }
+    }
+
+    private BulkRequest bulkRequest(int size) {
+        List<BulkOperation> operations = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String id = String.valueOf(i);
+            if (randomBoolean()) {
+                operations.add(
+                    BulkOperation.of(
+                        b -> b.index(
+                            o -> o.index("test").id(id).document(Collections.singletonMap("field", randomAsciiLettersOfLength(20)))
+                        )
+                    )
+                );
+            } else {
+                operations.add(BulkOperation.of(b -> b.delete(d -> d.index("test").id(id))));
+            }
+        }
+        return BulkRequest.of(b -> b.operations(operations));
+    }
+
+    private String expectedBody(BulkRequest request) {
+        StringBuilder sb = new StringBuilder();
+        for (BulkOperation operation : request.operations()) {
+            operation._serializables().forEachRemaining(item -> {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
+                mapper.serialize(item, generator);
+                generator.close();
+                sb.append(baos.toString(StandardCharsets.UTF_8)).append('\n');
+            });
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A channel that accepts a limited number of bytes on each call to {@link #write(ByteBuffer)}.
+     */
+    private static class ThrottledChannel implements DataStreamChannel {
+        private final int maxBytesPerWrite;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private boolean ended;
+
+        ThrottledChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public void requestOutput() {}
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = Math.min(src.remaining(), maxBytesPerWrite);
+            for (int i = 0; i < n; i++) {
+                out.write(src.get());
+            }
+            return n;
+        }
+
+        @Override
+        public void endStream() {
+            ended = true;
+        }
+
+        @Override
+        public void endStream(List<? extends Header> trailers) {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentTooLongException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.protocol.BasicHttpContext;
+import org.junit.Test;
+
+public class StreamingAsyncResponseConsumerTest extends RandomizedTest {
+
+    @Test
+    public void testSuccessfulResponseIsStreamed() throws Exception {
+        StreamingAsyncResponseConsumer consumer = new StreamingAsyncResponseConsumer(1024 * 1024, 16);
+        AtomicReference<ClassicHttpResponse> result = new AtomicReference<>();
+        consumer.consumeResponse(
+            new BasicHttpResponse(200),
+            new BasicEntityDetails(-1, ContentType.APPLICATION_JSON),
+            new BasicHttpContext(),
+            callback(result)
+        );
+
+        // The response is available before its body has been received
+        assertThat(result.get(), notNullValue());
+        consumer.updateCapacity(increment -> {});
+
+        String body = randomAsciiLettersOfLength(randomIntBetween(100, 10_000));
+        CompletableFuture<String> read = CompletableFuture.supplyAsync(() -> {
+            try (InputStream in = result.get().getEntity().getContent()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 100) {
+            consumer.consume(ByteBuffer.wrap(bytes, i, Math.min(100, bytes.length - i)));
+        }
+        consumer.streamEnd(null);
+        consumer.releaseResources();
+
+        assertThat(read.get(10, TimeUnit.SECONDS), equalTo(body));
+    }
+
+    @Test
+    public void testBufferLimitIsEnforcedIncrementally() throws Exception {
+        StreamingAsyncResponseConsumer consumer = new StreamingAsyncResponseConsumer(100, 1024);
+        AtomicReference<ClassicHttpResponse> result = new AtomicReference<>();
+        consumer.consumeResponse(
+            new BasicHttpResponse(200),
+            new BasicEntityDetails(-1, ContentType.APPLICATION_JSON),
+            new BasicHttpContext(),
+            callback(result)
+        );
+
+        consumer.consume(ByteBuffer.wrap(new byte[60]));
+        ContentTooLongException ex = assertThrows(ContentTooLongException.class, () -> consumer.consume(ByteBuffer.wrap(new byte[60])));
+        consumer.failed(ex);
+
+        // The reader gets the failure rather than a truncated body
+        InputStream in = result.get().getEntity().getContent();
+        IOException readFailure = assertThrows(IOException.class, in::read);
+        assertThat(readFailure.getCause(), equalTo(ex));
+    }
+
+    @Test
+    public void testContentLengthAboveBufferLimit() {
+        StreamingAsyncResponseConsumer consumer = new StreamingAsyncResponseConsumer(100, 1024);
+        assertThrows(
+            ContentTooLongException.class,
+            () -> consumer.consumeResponse(
+                new BasicHttpResponse(200),
+                new BasicEntityDetails(101, ContentType.APPLICATION_JSON),
+                new BasicHttpContext(),
+                callback(new AtomicReference<>())
+            )
+        );
+    }
+
+    @Test
+    public void testErrorResponseIsBuffered() throws Exception {
+        StreamingAsyncResponseConsumer consumer = new StreamingAsyncResponseConsumer(1024, 16);
+        AtomicReference<ClassicHttpResponse> result = new AtomicReference<>();
+        consumer.consumeResponse(
+            new BasicHttpResponse(404),
+            new BasicEntityDetails(-1, ContentType.APPLICATION_JSON),
+            new BasicHttpContext(),
+            callback(result)
+        );
+        consumer.updateCapacity(increment -> {});
+        consumer.consume(ByteBuffer.wrap("{\"error\":true}".getBytes(StandardCharsets.UTF_8)));
+        assertThat(result.get(), nullValue());
+
+        consumer.streamEnd(null);
+        assertThat(result.get(), notNullValue());
+        assertThat(new String(result.get().getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8), equalTo("{\"error\":true}"));
+        consumer.releaseResources();
+    }
+
+    private static FutureCallback<ClassicHttpResponse> callback(AtomicReference<ClassicHttpResponse> result) {
+        return new FutureCallback<ClassicHttpResponse>() {
+            @Override
+            public void completed(ClassicHttpResponse response) {
+                result.set(response);
+            }
+
+            @Override
+            public void failed(Exception ex) {}
+
+            @Override
+            public void cancelled() {}
+        };
+    }
+}
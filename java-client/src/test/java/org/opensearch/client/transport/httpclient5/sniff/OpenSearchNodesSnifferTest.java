@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import jakarta.json.stream.JsonParser;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+public class OpenSearchNodesSnifferTest extends Assert {
+
+    @Test
+    public void testReadNodes() {
+        String json = "{\"_nodes\":{\"total\":3,\"successful\":3,\"failed\":0},\"cluster_name\":\"test\",\"nodes\":{"
+            + node(
+                "n1",
+                "data-1",
+                "[\"data\",\"ingest\"]",
+                "\"http\":{\"bound_address\":[\"10.0.0.1:9200\",\"[::1]:9200\"],"
+                    + "\"publish_address\":\"data-1.local/10.0.0.1:9200\",\"max_content_length_in_bytes\":104857600},"
+                    + "\"attributes\":{\"zone\":\"a\"}"
+            )
+            + ","
+            + node(
+                "n2",
+                "cm-1",
+                "[\"cluster_manager\",\"ml\"]",
+                "\"http\":{\"bound_address\":[\"[::1]:9201\"],"
+                    + "\"publish_address\":\"[::1]:9201\",\"max_content_length_in_bytes\":104857600}"
+            )
+            + ","
+            + node("n3", "no-http", "[\"data\"]", "")
+            + "}}";
+
+        JsonpMapper mapper = new JacksonJsonpMapper();
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+        parser.next();
+
+        List<Node> nodes = OpenSearchNodesSniffer.readNodes(parser.getObject(), "https");
+        assertEquals(2, nodes.size());
+
+        Node data = nodes.get(0);
+        assertEquals(new HttpHost("https", "data-1.local", 9200), data.getHost());
+        assertEquals(
+            new HashSet<>(Arrays.asList(new HttpHost("https", "10.0.0.1", 9200), new HttpHost("https", "::1", 9200))),
+            data.getBoundHosts()
+        );
+        assertEquals("data-1", data.getName());
+        assertEquals("2.11.0", data.getVersion());
+        assertTrue(data.getRoles().isData());
+        assertTrue(data.getRoles().isIngest());
+        assertFalse(data.getRoles().isClusterManagerEligible());
+        assertEquals(Collections.singletonMap("zone", Collections.singletonList("a")), data.getAttributes());
+
+        Node clusterManager = nodes.get(1);
+        assertEquals(new HttpHost("https", "::1", 9201), clusterManager.getHost());
+        assertTrue(clusterManager.getRoles().isClusterManagerEligible());
+        assertFalse(clusterManager.getRoles().isData());
+        // Roles defined by plugins are kept rather than failing the sniff
+        assertEquals("cluster_manager,ml", clusterManager.getRoles().toString());
+    }
+
+    private static String node(String id, String name, String roles, String extra) {
+        return "\""
+            + id
+            + "\":{\"name\":\""
+            + name
+            + "\",\"transport_address\":\"10.0.0.1:9300\",\"host\":\"10.0.0.1\",\"ip\":\"10.0.0.1\","
+            + "\"version\":\"2.11.0\",\"build_type\":\"tar\",\"build_hash\":\"abc\",\"roles\":"
+            + roles
+            + (extra.isEmpty() ? "" : "," + extra)
+            + "}";
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.sniff;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+
+public class SnifferTest extends Assert {
+    private static final Node SEED = new Node(new HttpHost("http", "localhost", 9200));
+
+    private SniffOnFailureListener failureListener;
+    private ApacheHttpClient5Transport transport;
+
+    @Before
+    public void setUp() {
+        failureListener = new SniffOnFailureListener();
+        transport = ApacheHttpClient5TransportBuilder.builder(SEED.getHost()).setFailureListener(failureListener).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        transport.close();
+    }
+
+    @Test
+    public void testSniffsAtStartAndPeriodically() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        NodesSniffer nodesSniffer = () -> Collections.singletonList(node("node-" + runs.incrementAndGet(), "data"));
+
+        try (Sniffer sniffer = Sniffer.builder(transport).setNodesSniffer(nodesSniffer).setSniffIntervalMillis(10).build()) {
+            awaitUntil(() -> runs.get() >= 3);
+        }
+        int sniffed = runs.get();
+        assertNotEquals(SEED, transport.getNodes().get(0));
+        assertTrue(transport.getNodes().get(0).getHost().getHostName().startsWith("node-"));
+
+        // No more executions once closed
+        Thread.sleep(50);
+        assertTrue(runs.get() <= sniffed + 1);
+    }
+
+    @Test
+    public void testSniffOnFailure() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        NodesSniffer nodesSniffer = () -> {
+            runs.incrementAndGet();
+            return Collections.singletonList(node("node", "data"));
+        };
+
+        try (
+            Sniffer sniffer = Sniffer.builder(transport)
+                .setNodesSniffer(nodesSniffer)
+                .setSniffIntervalMillis(TimeUnit.HOURS.toMillis(1))
+                .setSniffAfterFailureDelayMillis(TimeUnit.HOURS.toMillis(1))
+                .build()
+        ) {
+            failureListener.setSniffer(sniffer);
+            awaitUntil(() -> runs.get() == 1);
+
+            // A failure while the first execution is still running only delays the next one, so fail until one is taken
+            awaitUntil(() -> {
+                failureListener.onFailure(transport.getNodes().get(0));
+                return runs.get() >= 2;
+            });
+
+            assertThrows(IllegalStateException.class, () -> failureListener.setSniffer(sniffer));
+        }
+    }
+
+    @Test
+    public void testSniffRequestFailureIsDelayed() throws Exception {
+        // Nothing listens on this port: the nodes info request fails through the transport, which notifies the listener
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        SniffOnFailureListener listener = new SniffOnFailureListener();
+        List<Long> runs = new CopyOnWriteArrayList<>();
+        long delayMillis = 200;
+
+        try (
+            ApacheHttpClient5Transport unreachable = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "localhost", port))
+                .setFailureListener(listener)
+                .build()
+        ) {
+            NodesSniffer nodesSniffer = new OpenSearchNodesSniffer(unreachable);
+            try (Sniffer sniffer = Sniffer.builder(unreachable).setNodesSniffer(() -> {
+                runs.add(System.nanoTime());
+                return nodesSniffer.sniff();
+            }).setSniffIntervalMillis(TimeUnit.HOURS.toMillis(1)).setSniffAfterFailureDelayMillis(delayMillis).build()) {
+                listener.setSniffer(sniffer);
+                awaitUntil(() -> runs.size() >= 3);
+            }
+        }
+
+        for (int i = 1; i < runs.size(); i++) {
+            long gapMillis = TimeUnit.NANOSECONDS.toMillis(runs.get(i) - runs.get(i - 1));
+            assertTrue("sniffs " + gapMillis + "ms apart", gapMillis >= delayMillis - 20);
+        }
+    }
+
+    @Test
+    public void testKeepsNodesWhenSniffingFails() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        NodesSniffer nodesSniffer = () -> {
+            if (runs.incrementAndGet() % 2 == 0) {
+                throw new IOException("failed");
+            }
+            return Collections.emptyList();
+        };
+
+        try (Sniffer sniffer = Sniffer.builder(transport).setNodesSniffer(nodesSniffer).setSniffIntervalMillis(10).build()) {
+            awaitUntil(() -> runs.get() >= 4);
+        }
+        assertEquals(Collections.singletonList(SEED), transport.getNodes());
+    }
+
+    @Test
+    public void testNodeSelector() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        NodesSniffer nodesSniffer = () -> {
+            runs.incrementAndGet();
+            return Arrays.asList(node("cluster-manager", "cluster_manager"), node("data", "data"));
+        };
+
+        try (
+            Sniffer sniffer = Sniffer.builder(transport)
+                .setNodesSniffer(nodesSniffer)
+                .setNodeSelector(NodeSelector.SKIP_DEDICATED_CLUSTER_MANAGERS)
+                .setSniffIntervalMillis(TimeUnit.HOURS.toMillis(1))
+                .build()
+        ) {
+            awaitUntil(() -> runs.get() == 1 && transport.getNodes().size() == 1);
+        }
+        List<Node> nodes = transport.getNodes();
+        assertEquals("data", nodes.get(0).getHost().getHostName());
+    }
+
+    @Test
+    public void testBuilderValidation() {
+        assertThrows(IllegalArgumentException.class, () -> Sniffer.builder(transport).setSniffIntervalMillis(0));
+        assertThrows(IllegalArgumentException.class, () -> Sniffer.builder(transport).setSniffAfterFailureDelayMillis(-1));
+        assertThrows(NullPointerException.class, () -> Sniffer.builder(null));
+    }
+
+    private static Node node(String host, String role) {
+        return new Node(new HttpHost("http", host, 9200), null, host, null, new Node.Roles(Collections.singleton(role)), null);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (false == condition.getAsBoolean()) {
+            assertTrue("condition not met in time", System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PooledOutputStreamTest extends Assert {
+
+    @Test
+    public void testContentSpanningBuffers() throws IOException {
+        for (boolean direct : new boolean[] { false, true }) {
+            SizeClassedBufferPool pool = SizeClassedBufferPool.of(b -> b.direct(direct));
+            byte[] data = new byte[300_000];
+            new Random(0).nextBytes(data);
+
+            PooledOutputStream out = new PooledOutputStream(pool);
+            out.write(data[0]);
+            out.write(data, 1, data.length - 1);
+            assertEquals(data.length, out.size());
+
+            assertArrayEquals(data, out.toByteArray());
+
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            out.writeTo(copy);
+            assertArrayEquals(data, copy.toByteArray());
+
+            // Readable more than once
+            for (int i = 0; i < 2; i++) {
+                try (InputStream in = out.toInputStream()) {
+                    assertArrayEquals(data, in.readAllBytes());
+                }
+            }
+
+            ByteArrayOutputStream views = new ByteArrayOutputStream();
+            for (ByteBuffer buffer : out.toByteBuffers()) {
+                assertTrue(buffer.isReadOnly());
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                views.write(chunk);
+            }
+            assertArrayEquals(data, views.toByteArray());
+
+            out.release();
+            assertTrue(pool.stats().retainedBytes() > 0);
+        }
+    }
+
+    @Test
+    public void testBuffersAreReusedAfterRelease() throws IOException {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.of(b -> b);
+
+        PooledOutputStream out = new PooledOutputStream(pool);
+        out.write(new byte[100_000]);
+        out.release();
+        long misses = pool.stats().misses();
+
+        PooledOutputStream other = new PooledOutputStream(pool);
+        other.write(new byte[100_000]);
+        assertEquals(misses, pool.stats().misses());
+        assertEquals(misses, pool.stats().hits());
+        other.release();
+    }
+
+    @Test
+    public void testWriteAfterRelease() {
+        PooledOutputStream out = new PooledOutputStream(BufferPool.unpooled());
+        out.release();
+        out.release();
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SizeClassedBufferPoolTest extends Assert {
+
+    @Test
+    public void testBuffersAreReused() {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.of(b -> b.minBufferSize(1024).maxBufferSize(8192));
+
+        ByteBuffer buffer = pool.acquire(1000);
+        assertEquals(1024, buffer.capacity());
+        assertFalse(buffer.isDirect());
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        assertEquals(1024, pool.stats().retainedBytes());
+
+        ByteBuffer reused = pool.acquire(512);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(0, pool.stats().retainedBytes());
+
+        // Another size class
+        assertEquals(4096, pool.acquire(3000).capacity());
+
+        BufferPool.Stats stats = pool.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1.0 / 3, stats.hitRate(), 0.0001);
+    }
+
+    @Test
+    public void testRetainedBytesAreBounded() {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.of(b -> b.minBufferSize(1024).maxBufferSize(4096).maxRetainedBytes(5000));
+
+        pool.release(ByteBuffer.allocate(4096));
+        assertEquals(4096, pool.stats().retainedBytes());
+
+        // Would exceed the limit
+        pool.release(ByteBuffer.allocate(1024));
+        assertEquals(4096, pool.stats().retainedBytes());
+
+        pool.acquire(4096);
+        pool.release(ByteBuffer.allocate(2048));
+        pool.release(ByteBuffer.allocate(2048));
+        assertEquals(4096, pool.stats().retainedBytes());
+    }
+
+    @Test
+    public void testForeignBuffersAreDropped() {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.of(b -> b.minBufferSize(1024).maxBufferSize(4096));
+
+        pool.release(ByteBuffer.allocate(1000));
+        pool.release(ByteBuffer.allocate(512));
+        pool.release(ByteBuffer.allocate(8192));
+        pool.release(ByteBuffer.allocateDirect(1024));
+        pool.release(ByteBuffer.allocate(1024).asReadOnlyBuffer());
+        assertEquals(0, pool.stats().retainedBytes());
+    }
+
+    @Test
+    public void testLargeBuffersAreNotPooled() {
+        SizeClassedBufferPool pool = SizeClassedBufferPool.of(b -> b.minBufferSize(1024).maxBufferSize(4096).direct(true));
+
+        ByteBuffer buffer = pool.acquire(5000);
+        assertEquals(5000, buffer.capacity());
+        assertTrue(buffer.isDirect());
+        pool.release(buffer);
+        assertEquals(0, pool.stats().retainedBytes());
+        assertEquals(1, pool.stats().misses());
+    }
+
+    @Test
+    public void testInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> SizeClassedBufferPool.of(b -> b.minBufferSize(1000)));
+        assertThrows(IllegalArgumentException.class, () -> SizeClassedBufferPool.of(b -> b.minBufferSize(8192).maxBufferSize(4096)));
+    }
+}
@@ -32,4 +32,5 @@
 
 rootProject.name = "opensearch-java"
 include("java-client")
-include("samples")
\ No newline at end of file
+include("samples")
+include("benchmarks")
\ No newline at end of file